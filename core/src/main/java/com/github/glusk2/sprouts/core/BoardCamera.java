@@ -0,0 +1,219 @@
+package com.github.glusk2.sprouts.core;
+
+import com.badlogic.gdx.Input.Buttons;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.scenes.scene2d.InputListener;
+
+/**
+ * The zoom and pan of the game board.
+ * <p>
+ * The board is drawn scaled by {@code zoom} and translated, so that a point
+ * {@code b} of the board appears at {@code b * zoom + translation} on the
+ * stage. The board never zooms out beyond its {@code bounds} and the visible
+ * part of the board always stays within them.
+ * <p>
+ * As an InputListener of the game board, a camera zooms and pans with two
+ * fingers (pinch), zooms with the mouse wheel and pans with the right mouse
+ * button. Moves are drawn with the first finger (or the left mouse button),
+ * see {@link com.github.glusk2.sprouts.core.snapshots.TouchEventSnapshooter}.
+ * <p>
+ * Objects of this class are mutable and not <em>thread-safe</em>.
+ */
+public final class BoardCamera extends InputListener {
+    /** The zoom factor of one mouse wheel step. */
+    private static final float SCROLL_ZOOM = 1.25f;
+
+    /** The bounds of the board, in stage coordinates. */
+    private final Rectangle bounds;
+    /** The maximum zoom. */
+    private final float maxZoom;
+    /** The transform from board to stage coordinates. */
+    private final Matrix4 transform = new Matrix4();
+
+    /** The current zoom. */
+    private float zoom = 1;
+    /** The current translation. */
+    private final Vector2 translation = new Vector2();
+
+    /** The last positions of the first two pointers, in stage coordinates. */
+    private final Vector2[] pointers = {new Vector2(), new Vector2()};
+    /** Whether the first two pointers are down. */
+    private final boolean[] down = {false, false};
+    /** Whether the board is being panned with the right mouse button. */
+    private boolean panning;
+
+    /**
+     * Creates a new camera of a board that is not zoomed in.
+     *
+     * @param bounds the bounds of the board, in stage coordinates
+     * @param maxZoom the maximum zoom
+     */
+    public BoardCamera(final Rectangle bounds, final float maxZoom) {
+        this.bounds = bounds;
+        this.maxZoom = maxZoom;
+    }
+
+    /**
+     * Returns the transform from board to stage coordinates.
+     *
+     * @return the current transform, to be used as a renderer transform
+     *         matrix
+     */
+    public Matrix4 transform() {
+        return
+            transform
+                .idt()
+                .translate(translation.x, translation.y, 0)
+                .scale(zoom, zoom, 1);
+    }
+
+    /**
+     * Transforms {@code stagePoint} to board coordinates.
+     *
+     * @param stagePoint a point in stage coordinates
+     * @return a new point in board coordinates
+     */
+    public Vector2 toBoard(final Vector2 stagePoint) {
+        return stagePoint.cpy().sub(translation).scl(1 / zoom);
+    }
+
+    /**
+     * Checks whether the board is being zoomed or panned with two fingers.
+     * <p>
+     * The first finger does not draw a Move while this is true.
+     *
+     * @return {@code true} if two fingers are down
+     */
+    public boolean isPinching() {
+        return down[0] && down[1];
+    }
+
+    /**
+     * Zooms by {@code factor} and moves the board point under
+     * {@code oldFocus} to {@code newFocus}.
+     *
+     * @param factor the zoom factor
+     * @param oldFocus the focus before zooming, in stage coordinates
+     * @param newFocus the focus after zooming, in stage coordinates
+     */
+    public void zoom(
+        final float factor,
+        final Vector2 oldFocus,
+        final Vector2 newFocus
+    ) {
+        Vector2 focus = toBoard(oldFocus);
+        zoom = MathUtils.clamp(zoom * factor, 1, maxZoom);
+        translation.set(newFocus).sub(focus.scl(zoom));
+        // keep the visible part of the board within the bounds
+        translation.x =
+            MathUtils.clamp(
+                translation.x,
+                (bounds.x + bounds.width) * (1 - zoom),
+                bounds.x * (1 - zoom)
+            );
+        translation.y =
+            MathUtils.clamp(
+                translation.y,
+                (bounds.y + bounds.height) * (1 - zoom),
+                bounds.y * (1 - zoom)
+            );
+    }
+
+    @Override
+    public boolean touchDown(
+        final InputEvent event,
+        final float x,
+        final float y,
+        final int pointer,
+        final int button
+    ) {
+        Vector2 position = stagePosition(event, x, y);
+        if (button == Buttons.RIGHT) {
+            panning = true;
+        }
+        if (pointer < pointers.length) {
+            pointers[pointer].set(position);
+            down[pointer] = true;
+        }
+        return true;
+    }
+
+    @Override
+    public void touchDragged(
+        final InputEvent event,
+        final float x,
+        final float y,
+        final int pointer
+    ) {
+        if (pointer >= pointers.length) {
+            return;
+        }
+        Vector2 position = stagePosition(event, x, y);
+        if (isPinching()) {
+            Vector2 other = pointers[1 - pointer];
+            float oldDistance = pointers[pointer].dst(other);
+            float newDistance = position.dst(other);
+            Vector2 oldFocus =
+                pointers[pointer].cpy().add(other).scl(1 / 2f);
+            Vector2 newFocus = position.cpy().add(other).scl(1 / 2f);
+            float factor = 1;
+            if (oldDistance > 0 && newDistance > 0) {
+                factor = newDistance / oldDistance;
+            }
+            zoom(factor, oldFocus, newFocus);
+        } else if (panning) {
+            zoom(1, pointers[pointer], position);
+        }
+        pointers[pointer].set(position);
+    }
+
+    @Override
+    public void touchUp(
+        final InputEvent event,
+        final float x,
+        final float y,
+        final int pointer,
+        final int button
+    ) {
+        if (button == Buttons.RIGHT) {
+            panning = false;
+        }
+        if (pointer < pointers.length) {
+            down[pointer] = false;
+        }
+    }
+
+    @Override
+    public boolean scrolled(
+        final InputEvent event,
+        final float x,
+        final float y,
+        final int amount
+    ) {
+        Vector2 position = stagePosition(event, x, y);
+        zoom((float) Math.pow(SCROLL_ZOOM, -amount), position, position);
+        return true;
+    }
+
+    /**
+     * Returns the event position in stage coordinates.
+     *
+     * @param event the input event
+     * @param x the x coordinate of the event, in listener actor coordinates
+     * @param y the y coordinate of the event, in listener actor coordinates
+     * @return a new point in stage coordinates
+     */
+    private static Vector2 stagePosition(
+        final InputEvent event,
+        final float x,
+        final float y
+    ) {
+        return event.getListenerActor().localToStageCoordinates(
+            new Vector2(x, y)
+        );
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.glusk2.sprouts.core;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.github.glusk2.sprouts.core.comb.CobwebTree;
+import com.github.glusk2.sprouts.core.comb.GridLayout;
+import com.github.glusk2.sprouts.core.comb.JitteredLayout;
+import com.github.glusk2.sprouts.core.comb.PoissonDiscLayout;
+import com.github.glusk2.sprouts.core.comb.SproutsGameState;
+import com.github.glusk2.sprouts.core.comb.SproutsInitialState;
+
+/**
+ * The ways to lay out the sprouts of a new game, selectable at launch.
+ * <p>
+ * The {@link #CIRCLE} layout is the classic board of a few sprouts. The
+ * other layouts are large-board modes for up to {@value #LARGE_BOARD_MAX}
+ * sprouts, connected with a minimum spanning tree cobweb (see
+ * {@link CobwebTree}).
+ */
+public enum BoardLayout {
+    /** Sprouts on a circle, connected with a cobweb path. */
+    CIRCLE,
+    /** Sprouts in the cells of a grid. */
+    GRID,
+    /** Sprouts in the cells of a grid, moved by random offsets. */
+    JITTERED,
+    /** Sprouts at random positions, evenly spaced. */
+    POISSON_DISC;
+
+    /** The maximum number of sprouts of the {@link #CIRCLE} layout. */
+    private static final int CIRCLE_MAX = 7;
+    /** The maximum number of sprouts of the large-board layouts. */
+    private static final int LARGE_BOARD_MAX = 1000;
+
+    /**
+     * Returns the maximum number of sprouts of a new game.
+     *
+     * @return the maximum number of sprouts
+     */
+    public int maxSprouts() {
+        if (this == CIRCLE) {
+            return CIRCLE_MAX;
+        }
+        return LARGE_BOARD_MAX;
+    }
+
+    /**
+     * Creates the initial state of a new game.
+     * <p>
+     * The random layouts get a new seed on every invocation.
+     *
+     * @param numOfSprouts the number of sprouts to generate
+     * @param gameBounds the game bounds rectangle
+     * @return a new initial state
+     */
+    public SproutsGameState initialState(
+        final int numOfSprouts,
+        final Rectangle gameBounds
+    ) {
+        switch (this) {
+            case GRID:
+                return
+                    new SproutsInitialState(
+                        new GridLayout(numOfSprouts, gameBounds),
+                        new CobwebTree()
+                    );
+            case JITTERED:
+                return
+                    new SproutsInitialState(
+                        new JitteredLayout(
+                            numOfSprouts,
+                            gameBounds,
+                            MathUtils.random.nextLong()
+                        ),
+                        new CobwebTree()
+                    );
+            case POISSON_DISC:
+                return
+                    new SproutsInitialState(
+                        new PoissonDiscLayout(
+                            numOfSprouts,
+                            gameBounds,
+                            MathUtils.random.nextLong()
+                        ),
+                        new CobwebTree()
+                    );
+            default:
+                return new SproutsInitialState(numOfSprouts, gameBounds);
+        }
+    }
+}
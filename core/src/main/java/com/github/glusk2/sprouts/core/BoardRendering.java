@@ -0,0 +1,38 @@
+package com.github.glusk2.sprouts.core;
+
+import com.github.glusk2.sprouts.core.comb.SproutsStateMesh;
+import com.github.glusk2.sprouts.core.comb.SproutsStateRenderer;
+import com.github.glusk2.sprouts.core.comb.SproutsStateSdf;
+import com.github.glusk2.sprouts.core.comb.SproutsStateShapes;
+
+/**
+ * The ways to render the committed game board, selectable at launch.
+ * <p>
+ * The committed board is the game state without the Move being drawn. It is
+ * cached in a frame buffer, where multisampling does not apply; only the
+ * {@link #SDF} rendering is antialiased on its own.
+ */
+public enum BoardRendering {
+    /** Immediate mode {@code ShapeRenderer} circles and lines. */
+    SHAPES,
+    /** A retained triangle mesh. */
+    MESH,
+    /** A retained mesh of quads with a signed distance field shader. */
+    SDF;
+
+    /**
+     * Creates a new renderer of the committed game board.
+     *
+     * @return a new renderer that has to be disposed of after use
+     */
+    public SproutsStateRenderer newRenderer() {
+        switch (this) {
+            case SHAPES:
+                return new SproutsStateShapes();
+            case SDF:
+                return new SproutsStateSdf();
+            default:
+                return new SproutsStateMesh();
+        }
+    }
+}
@@ -5,11 +5,29 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.utils.ScissorStack;
+import com.badlogic.gdx.utils.Disposable;
+import com.github.glusk2.sprouts.core.comb.SproutsStateRenderer;
 import com.github.glusk2.sprouts.core.snapshots.Snapshooter;
+import com.github.glusk2.sprouts.core.snapshots.Snapshot;
 
-/** The Sprouts game board. */
-public final class GameBoard extends Actor {
+/**
+ * The Sprouts game board.
+ * <p>
+ * The committed game state is rendered with a {@link SproutsStateRenderer},
+ * that is disposed of with {@link #dispose()}.
+ * <p>
+ * The board is drawn zoomed and panned by a {@link BoardCamera} and clipped
+ * to the bounds of {@code this} actor.
+ * <p>
+ * Every frame takes one Snapshot from the "camera" when {@code this} actor
+ * acts; the Snapshot updates the user interface (see
+ * {@link Snapshot#act()}) and is then drawn, so the whole frame shows the
+ * same Snapshot.
+ */
+public final class GameBoard extends Actor implements Disposable {
     /** The thickness of {@code this} game board border. */
     private static final float BORDER_THICKNESS = 5f;
 
@@ -23,9 +41,18 @@ public final class GameBoard extends Actor {
      */
     private final ShapeRenderer renderer;
 
+    /** The renderer of the committed game state. */
+    private final SproutsStateRenderer board;
+
     /** The "camera" of {@code this} GameBoard. */
     private Snapshooter camera;
 
+    /** The zoom and pan of {@code this} GameBoard. */
+    private final BoardCamera boardCamera;
+
+    /** The Snapshot of the current frame, {@code null} before the first. */
+    private Snapshot frame;
+
     /**
      * Constructs a new {@code GameBoard} by specifying the {@code renderer}
      * and the {@code camera}.
@@ -33,17 +60,34 @@ public final class GameBoard extends Actor {
      * @param renderer the {@code ShapeRenderer} object used to draw
      *                 {@code this} game board
      * @param camera the "camera" of {@code this} GameBoard
+     * @param board the renderer of the committed game state, owned by
+     *              {@code this} GameBoard
+     * @param boardCamera the zoom and pan of {@code this} GameBoard
      */
     public GameBoard(
         final Snapshooter camera,
-        final ShapeRenderer renderer
+        final ShapeRenderer renderer,
+        final SproutsStateRenderer board,
+        final BoardCamera boardCamera
     ) {
         this.camera = camera;
         this.renderer = renderer;
+        this.board = board;
+        this.boardCamera = boardCamera;
+    }
+
+    @Override
+    public void act(final float delta) {
+        super.act(delta);
+        frame = camera.snapshot();
+        frame.act();
     }
 
     @Override
     public void draw(final Batch batch, final float parentAlpha) {
+        if (frame == null) {
+            frame = camera.snapshot();
+        }
         batch.end();
 
         Gdx.gl.glLineWidth(BORDER_THICKNESS);
@@ -53,8 +97,25 @@ public final class GameBoard extends Actor {
         renderer.rect(getX(), getY(), getWidth(), getHeight());
         renderer.end();
 
-        camera.snapshot().render(renderer);
+        Rectangle scissors = new Rectangle();
+        ScissorStack.calculateScissors(
+            getStage().getCamera(),
+            batch.getTransformMatrix(),
+            new Rectangle(getX(), getY(), getWidth(), getHeight()),
+            scissors
+        );
+        if (ScissorStack.pushScissors(scissors)) {
+            renderer.setTransformMatrix(boardCamera.transform());
+            frame.render(renderer, board);
+            renderer.identity();
+            ScissorStack.popScissors();
+        }
 
         batch.begin();
     }
+
+    @Override
+    public void dispose() {
+        board.dispose();
+    }
 }
@@ -7,7 +7,6 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Event;
 import com.badlogic.gdx.scenes.scene2d.EventListener;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
@@ -20,7 +19,9 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.VerticalGroup;
 import com.badlogic.gdx.scenes.scene2d.ui.Window;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.github.glusk2.sprouts.core.comb.SproutsStateFrameBuffer;
 import com.github.glusk2.sprouts.core.snapshots.BeforeMove;
 import com.github.glusk2.sprouts.core.snapshots.TouchEventSnapshooter;
 
@@ -30,8 +31,6 @@ import com.github.glusk2.sprouts.core.snapshots.TouchEventSnapshooter;
 public final class MainScreen extends ScreenAdapter {
     /** Starting sprouts slider minimum value. */
     private static final int SLIDER_MIN = 2;
-    /** Starting sprouts slider maximum value. */
-    private static final int SLIDER_MAX = 7;
     /** Starting sprouts slider step value. */
     private static final int SLIDER_STEP = 1;
 
@@ -51,6 +50,15 @@ public final class MainScreen extends ScreenAdapter {
      * drawn on screen.
      */
     private static final int CIRCLE_SEGMENT_COUNT = 16;
+    /** The maximum zoom of the game board. */
+    private static final float MAX_ZOOM = 8;
+    /**
+     * Sprout spacing ratio.
+     * <p>
+     * The average distance between the starting sprouts is divided by this
+     * value to limit the move thickness on large boards.
+     */
+    private static final float SPROUT_SPACING_RATIO = 6;
 
 
     /** The Game instance that {@code this} Screen belongs to. */
@@ -72,6 +80,10 @@ public final class MainScreen extends ScreenAdapter {
      * {@code this.dispose()}.
      */
     private final ShapeRenderer renderer;
+    /** The way to render the committed game board. */
+    private final BoardRendering boardRendering;
+    /** The way to lay out the sprouts of a new game. */
+    private final BoardLayout boardLayout;
 
     /** The root object of Actors on {@code this} screen. */
     private Stage stage;
@@ -79,6 +91,12 @@ public final class MainScreen extends ScreenAdapter {
     /** The number of starting sprouts to generate. */
     private int numOfSprouts;
 
+    /** The game board on {@code this} screen. */
+    private GameBoard gameBoard;
+
+    /** The thread that validates the Moves drawn on the game board. */
+    private AsyncExecutor moveValidator;
+
     /**
      * A switch that tracks whether the user wants to display the cobweb.
      * Initially, the cobweb is disabled.
@@ -86,8 +104,9 @@ public final class MainScreen extends ScreenAdapter {
     private ToggleSwitch displayCobweb = new ToggleSwitch(false);
 
     /**
-     * A switch that tracks the player turn. If ON, it's "Player 1"'s turn,
-     * else it is "Player 2"'s'. The first turn belongs to "Player 1".
+     * The player turn of a new game. If ON, it's "Player 1"'s turn, else it
+     * is "Player 2"'s'. The first turn belongs to "Player 1". The Snapshots
+     * hand later turns over in new switches.
      */
     private ToggleSwitch playerTurn = new ToggleSwitch(false);
 
@@ -106,6 +125,8 @@ public final class MainScreen extends ScreenAdapter {
      *        is divided by this value to produce the move thickness.
      * @param renderer the {@code ShapeRenderer} object used to draw the game
      *                 board
+     * @param boardRendering the way to render the committed game board
+     * @param boardLayout the way to lay out the sprouts of a new game
      * @param numOfSprouts the number of starting sprouts to generate
      */
     public MainScreen(
@@ -113,12 +134,16 @@ public final class MainScreen extends ScreenAdapter {
         final Viewport viewport,
         final float minDimensionRatio,
         final ShapeRenderer renderer,
+        final BoardRendering boardRendering,
+        final BoardLayout boardLayout,
         final int numOfSprouts
     ) {
         this.game = game;
         this.viewport = viewport;
         this.minDimensionRatio = minDimensionRatio;
         this.renderer = renderer;
+        this.boardRendering = boardRendering;
+        this.boardLayout = boardLayout;
         this.numOfSprouts = numOfSprouts;
     }
 
@@ -134,6 +159,7 @@ public final class MainScreen extends ScreenAdapter {
     )
     public void show() {
         stage = new Stage(viewport);
+        moveValidator = new AsyncExecutor(1, "move-validator");
 
         Skin skin =
             new Skin(
@@ -146,7 +172,7 @@ public final class MainScreen extends ScreenAdapter {
         final Slider slider =
             new Slider(
                 SLIDER_MIN,
-                SLIDER_MAX,
+                boardLayout.maxSprouts(),
                 SLIDER_STEP,
                 false,
                 skin
@@ -166,7 +192,15 @@ public final class MainScreen extends ScreenAdapter {
                 skin
             );
         resetButton.addListener(
-            new ResetDialog(game, renderer, minDimensionRatio, stage, slider)
+            new ResetDialog(
+                game,
+                renderer,
+                boardRendering,
+                boardLayout,
+                minDimensionRatio,
+                stage,
+                slider
+            )
         );
 
         TextButton helpButton =
@@ -196,7 +230,9 @@ public final class MainScreen extends ScreenAdapter {
                       + "If your move is invalid, it turns gray; a move can\r\n"
                       + "intersect red lines.\r\n"
                       + "Once a move is complete, add a new sprout anywhere\r\n"
-                      + "along the curve.",
+                      + "along the curve.\r\n"
+                      + "Zoom with two fingers or the mouse wheel and pan\r\n"
+                      + "with two fingers or the right mouse button.",
                         skin
                     );
                     instructions.setWrap(false);
@@ -283,22 +319,41 @@ public final class MainScreen extends ScreenAdapter {
                 - toolbar.getHeight()
                 - ROOT_ROW_SPACING
             );
+        int sprouts = (int) slider.getValue();
+        float moveThickness =
+            Math.min(
+                Math.min(
+                    gameBounds.getWidth(),
+                    gameBounds.getHeight()
+                ) / minDimensionRatio,
+                (float) Math.sqrt(gameBounds.area() / sprouts)
+                    / SPROUT_SPACING_RATIO
+            );
+        BoardCamera boardCamera = new BoardCamera(gameBounds, MAX_ZOOM);
         TouchEventSnapshooter gameBoardListener =
             new TouchEventSnapshooter(
                 new BeforeMove(
-                    Math.min(
-                        gameBounds.getWidth(),
-                        gameBounds.getHeight()
-                    ) / minDimensionRatio,
+                    boardLayout.initialState(sprouts, gameBounds),
+                    moveThickness,
                     CIRCLE_SEGMENT_COUNT,
-                    (int) slider.getValue(),
                     gameBounds,
                     displayCobweb,
                     playerTurn,
                     playerTurnLabel
-                )
+                ),
+                boardCamera,
+                moveValidator
+            );
+        gameBoard =
+            new GameBoard(
+                gameBoardListener,
+                renderer,
+                new SproutsStateFrameBuffer(
+                    boardRendering.newRenderer(),
+                    stage.getViewport()
+                ),
+                boardCamera
             );
-        Actor gameBoard = new GameBoard(gameBoardListener, renderer);
         gameBoard.setBounds(
             gameBounds.getX(),
             gameBounds.getY(),
@@ -307,6 +362,7 @@ public final class MainScreen extends ScreenAdapter {
         );
 
         gameBoard.addListener(gameBoardListener);
+        gameBoard.addListener(boardCamera);
 
         VerticalGroup rootLayout =
             new VerticalGroup()
@@ -318,6 +374,7 @@ public final class MainScreen extends ScreenAdapter {
         rootLayout.addActor(gameBoard);
 
         stage.addActor(rootLayout);
+        stage.setScrollFocus(gameBoard);
 
         Gdx.input.setInputProcessor(stage);
     }
@@ -344,6 +401,8 @@ public final class MainScreen extends ScreenAdapter {
 
     @Override
     public void dispose() {
+        moveValidator.dispose();
         stage.dispose();
+        gameBoard.dispose();
     }
 }
@@ -20,6 +20,10 @@ public final class ResetDialog extends InputListener {
     private final Game game;
     /** The ShapeRenderer to use in the new Screen after the reset. */
     private final ShapeRenderer renderer;
+    /** The way to render the committed game board in the new Screen. */
+    private final BoardRendering boardRendering;
+    /** The way to lay out the sprouts of the new game. */
+    private final BoardLayout boardLayout;
     /**
      * Minimum dimension ratio.
      * <p>
@@ -39,6 +43,9 @@ public final class ResetDialog extends InputListener {
      *             confirmed
      * @param renderer the ShapeRenderer to use in the new Screen after the
      *                 reset
+     * @param boardRendering the way to render the committed game board in
+     *                       the new Screen
+     * @param boardLayout the way to lay out the sprouts of the new game
      * @param minDimensionRatio Minimum dimension ratio. This is used to
      *        compute the move thickness. The minimum game board dimension
      *        is divided by this value to produce the move thickness.
@@ -49,12 +56,16 @@ public final class ResetDialog extends InputListener {
     public ResetDialog(
         final Game game,
         final ShapeRenderer renderer,
+        final BoardRendering boardRendering,
+        final BoardLayout boardLayout,
         final float minDimensionRatio,
         final Stage stage,
         final Slider slider
     ) {
         this.game = game;
         this.renderer = renderer;
+        this.boardRendering = boardRendering;
+        this.boardLayout = boardLayout;
         this.minDimensionRatio = minDimensionRatio;
         this.stage = stage;
         this.slider = slider;
@@ -87,6 +98,8 @@ public final class ResetDialog extends InputListener {
                                 stage.getViewport(),
                                 minDimensionRatio,
                                 renderer,
+                                boardRendering,
+                                boardLayout,
                                 (int) slider.getValue()
                             )
                         );
@@ -52,6 +52,10 @@ public final class Sprouts extends Game {
     private final int screenWidth;
     /** Application screen height in pixels. */
     private final int screenHeight;
+    /** The way to render the committed game board. */
+    private final BoardRendering boardRendering;
+    /** The way to lay out the sprouts of a new game. */
+    private final BoardLayout boardLayout;
     /**
      * A single {@code ShapeRenderer} that is used by all {@code Game} screens.
      * <p>
@@ -62,13 +66,60 @@ public final class Sprouts extends Game {
 
     /**
      * Creates a new Game by specifying the screen dimensions.
+     * <p>
+     * Equivalent to:
+     * <pre>
+     * new Sprouts(worldWidth, worldHeight, BoardRendering.SHAPES)
+     * </pre>
      *
      * @param worldWidth  Application screen width in pixels
      * @param worldHeight Application screen height in pixels
      */
     public Sprouts(final int worldWidth, final int worldHeight) {
+        this(worldWidth, worldHeight, BoardRendering.SHAPES);
+    }
+
+    /**
+     * Creates a new Game by specifying the screen dimensions and the way to
+     * render the committed game board.
+     * <p>
+     * Equivalent to:
+     * <pre>
+     * new Sprouts(worldWidth, worldHeight, boardRendering, BoardLayout.CIRCLE)
+     * </pre>
+     *
+     * @param worldWidth  Application screen width in pixels
+     * @param worldHeight Application screen height in pixels
+     * @param boardRendering the way to render the committed game board
+     */
+    public Sprouts(
+        final int worldWidth,
+        final int worldHeight,
+        final BoardRendering boardRendering
+    ) {
+        this(worldWidth, worldHeight, boardRendering, BoardLayout.CIRCLE);
+    }
+
+    /**
+     * Creates a new Game by specifying the screen dimensions, the way to
+     * render the committed game board and the way to lay out the sprouts of
+     * a new game.
+     *
+     * @param worldWidth  Application screen width in pixels
+     * @param worldHeight Application screen height in pixels
+     * @param boardRendering the way to render the committed game board
+     * @param boardLayout the way to lay out the sprouts of a new game
+     */
+    public Sprouts(
+        final int worldWidth,
+        final int worldHeight,
+        final BoardRendering boardRendering,
+        final BoardLayout boardLayout
+    ) {
         this.screenWidth = worldWidth;
         this.screenHeight = worldHeight;
+        this.boardRendering = boardRendering;
+        this.boardLayout = boardLayout;
     }
 
     @Override
@@ -86,6 +137,8 @@ public final class Sprouts extends Game {
                 new FitViewport(GAME_WIDTH, GAME_HEIGHT),
                 minDimensionRatio,
                 renderer,
+                boardRendering,
+                boardLayout,
                 NUM_OF_PRESET_SPROUTS
             )
         );
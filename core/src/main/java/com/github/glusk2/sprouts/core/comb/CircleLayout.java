@@ -0,0 +1,65 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Sprouts equally spread apart on the edge of a circle that is in the center
+ * of the {@code gameBounds} rectangle.
+ * <p>
+ * The sprouts are listed in the counter-clockwise order, so that a
+ * {@link CobwebPath} through them does not cross itself.
+ */
+public final class CircleLayout implements SproutLayout {
+    /**
+     * Scales the minimal {@code gameBound} dimension to pad the virtual
+     * circle on which the sprouts are pinned.
+     */
+    private static final float DIMENSION_SCALE = .6f;
+    /** Full circle, in degrees. */
+    private static final int FULL_CIRCLE = 360;
+
+    /** The number of sprouts to generate. */
+    private final int numOfSprouts;
+    /** The game bounds rectangle. */
+    private final Rectangle gameBounds;
+
+    /**
+     * Creates a new circle layout of {@code numOfSprouts} sprouts within
+     * {@code gameBounds}.
+     *
+     * @param numOfSprouts the number of sprouts to generate
+     * @param gameBounds the game bounds rectangle
+     */
+    public CircleLayout(final int numOfSprouts, final Rectangle gameBounds) {
+        this.numOfSprouts = numOfSprouts;
+        this.gameBounds = gameBounds;
+    }
+
+    @Override
+    public List<Vector2> positions() {
+        Vector2 center = gameBounds.getCenter(new Vector2());
+        float minDimension =
+            Math.min(
+                gameBounds.getWidth(),
+                gameBounds.getHeight()
+            );
+        float radius = (DIMENSION_SCALE * minDimension) / 2;
+        Vector2 clockPointer = new Vector2(radius, 0);
+
+        List<Vector2> result = new ArrayList<Vector2>();
+        for (int i = 0; i < numOfSprouts; i++) {
+            result.add(
+                center.cpy().add(
+                    clockPointer.cpy().rotate(
+                        1f * i / numOfSprouts * FULL_CIRCLE
+                    )
+                )
+            );
+        }
+        return result;
+    }
+}
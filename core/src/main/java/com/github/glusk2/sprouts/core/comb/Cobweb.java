@@ -0,0 +1,24 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A way to connect the sprouts of an initial Sprouts game state with
+ * straight cobweb edges.
+ * <p>
+ * The cobweb edges have to connect all the sprouts without crossing, so that
+ * the initial state has a single face.
+ */
+@FunctionalInterface
+public interface Cobweb {
+    /**
+     * Returns the pairs of sprouts to connect with cobweb edges.
+     *
+     * @param sprouts the positions of the sprouts
+     * @return the pairs of indices into {@code sprouts}, one array of 2
+     *         indices per cobweb edge
+     */
+    List<int[]> links(List<Vector2> sprouts);
+}
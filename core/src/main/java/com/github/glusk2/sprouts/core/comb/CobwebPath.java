@@ -0,0 +1,24 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A cobweb that connects the sprouts into a single path, in the order that
+ * they are listed in.
+ * <p>
+ * The path does not cross itself if the sprouts are listed in the order of
+ * a convex polygon, like the ones of a {@link CircleLayout} are.
+ */
+public final class CobwebPath implements Cobweb {
+    @Override
+    public List<int[]> links(final List<Vector2> sprouts) {
+        List<int[]> result = new ArrayList<int[]>();
+        for (int i = 0; i < sprouts.size() - 1; i++) {
+            result.add(new int[] {i, i + 1});
+        }
+        return result;
+    }
+}
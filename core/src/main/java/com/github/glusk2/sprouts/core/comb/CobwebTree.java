@@ -0,0 +1,58 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A cobweb that connects the sprouts with a Euclidean minimum spanning tree.
+ * <p>
+ * Of all the ways to connect the sprouts, the tree has the shortest total
+ * length, so Moves cross fewer cobweb edges than they would cross a path.
+ * The edges of a Euclidean minimum spanning tree never cross, for any
+ * layout of the sprouts.
+ * <p>
+ * The tree is built with Prim's algorithm on the complete graph, in
+ * {@code O(n^2)} time and {@code O(n)} space.
+ */
+public final class CobwebTree implements Cobweb {
+    @Override
+    public List<int[]> links(final List<Vector2> sprouts) {
+        int n = sprouts.size();
+        List<int[]> result = new ArrayList<int[]>();
+        if (n < 2) {
+            return result;
+        }
+        boolean[] inTree = new boolean[n];
+        // the squared distance to the tree and the nearest tree sprout
+        float[] distance = new float[n];
+        int[] nearest = new int[n];
+        Arrays.fill(distance, Float.POSITIVE_INFINITY);
+        int next = 0;
+        for (int added = 0; added < n; added++) {
+            inTree[next] = true;
+            if (added > 0) {
+                result.add(new int[] {nearest[next], next});
+            }
+            Vector2 p = sprouts.get(next);
+            int closest = -1;
+            for (int i = 0; i < n; i++) {
+                if (inTree[i]) {
+                    continue;
+                }
+                float d = p.dst2(sprouts.get(i));
+                if (d < distance[i]) {
+                    distance[i] = d;
+                    nearest[i] = next;
+                }
+                if (closest == -1 || distance[i] < distance[closest]) {
+                    closest = i;
+                }
+            }
+            next = closest;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,388 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.util.LayeredMap;
+
+/**
+ * A uniform grid of edge segments.
+ * <p>
+ * The plane is divided into square cells of size {@code cellSize}. Every line
+ * segment of every edge polyline is stored in each cell that its bounding box
+ * overlaps. A query for a short line segment then only inspects the segments
+ * of a few nearby cells, instead of walking every polyline in a game state.
+ * <p>
+ * An edge and its reverse share the same polyline, so only one of them is
+ * stored.
+ * <p>
+ * Objects of this class are immutable. {@link #with(SproutsEdge...)} and
+ * {@link #without(SproutsEdge...)} return updated grids that only store the
+ * touched cells and share all the others with {@code this} grid (see
+ * {@link LayeredMap}). This makes it possible to update the grid
+ * incrementally from one game state to the next, in time proportional to the
+ * length of the changed edges.
+ */
+public final class EdgeGrid {
+    /** The default size of a grid cell. */
+    private static final float DEFAULT_CELL_SIZE = 32f;
+    /** The number of bits to shift the cell column index by in a cell key. */
+    private static final int KEY_SHIFT = 32;
+    /** The mask of the cell row index in a cell key. */
+    private static final long KEY_MASK = 0xffffffffL;
+
+    /** The size of a grid cell. */
+    private final float cellSize;
+    /**
+     * Non-empty grid cells by cell key. Cell lists are never modified once
+     * they are shared.
+     */
+    private final LayeredMap<Long, List<Segment>> cells;
+    /** The stored edges, mapped to the instances that the cells refer to. */
+    private final LayeredMap<SproutsEdge, SproutsEdge> edges;
+
+    /**
+     * Creates a new grid from a set of edges, using the default cell size.
+     *
+     * @param edges the edges to store in the grid
+     */
+    public EdgeGrid(final Set<SproutsEdge> edges) {
+        this(DEFAULT_CELL_SIZE, edges);
+    }
+
+    /**
+     * Creates a new grid from a set of edges.
+     *
+     * @param cellSize the size of a grid cell
+     * @param edges the edges to store in the grid
+     */
+    public EdgeGrid(final float cellSize, final Set<SproutsEdge> edges) {
+        this(
+            cellSize,
+            new LayeredMap<Long, List<Segment>>(),
+            new LayeredMap<SproutsEdge, SproutsEdge>(),
+            edges,
+            Collections.<SproutsEdge>emptyList()
+        );
+    }
+
+    /**
+     * Creates a new grid by updating the cells and edges of another one.
+     *
+     * @param cellSize the size of a grid cell
+     * @param cells non-empty grid cells by cell key, before the update
+     * @param edges the stored edges, mapped to the instances that the cells
+     *              refer to, before the update
+     * @param added the edges to add
+     * @param removed the edges to remove
+     */
+    private EdgeGrid(
+        final float cellSize,
+        final LayeredMap<Long, List<Segment>> cells,
+        final LayeredMap<SproutsEdge, SproutsEdge> edges,
+        final Iterable<SproutsEdge> added,
+        final Iterable<SproutsEdge> removed
+    ) {
+        this.cellSize = cellSize;
+        Map<Long, List<Segment>> cellChanges =
+            new HashMap<Long, List<Segment>>();
+        Map<SproutsEdge, SproutsEdge> edgeChanges =
+            new HashMap<SproutsEdge, SproutsEdge>();
+        for (SproutsEdge edge : removed) {
+            SproutsEdge stored =
+                storedEdge(edges, edgeChanges, canonical(edge));
+            if (stored == null) {
+                continue;
+            }
+            edgeChanges.put(stored, null);
+            List<Vector2> points = stored.polyline().points();
+            for (int i = 1; i < points.size(); i++) {
+                Vector2 a = points.get(i - 1);
+                Vector2 b = points.get(i);
+                int maxX = cell(Math.max(a.x, b.x));
+                int maxY = cell(Math.max(a.y, b.y));
+                for (int x = cell(Math.min(a.x, b.x)); x <= maxX; x++) {
+                    for (int y = cell(Math.min(a.y, b.y)); y <= maxY; y++) {
+                        List<Segment> cell =
+                            changedCell(cells, cellChanges, key(x, y));
+                        for (int j = cell.size() - 1; j >= 0; j--) {
+                            if (cell.get(j).edge == stored) {
+                                cell.remove(j);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        for (SproutsEdge edge : added) {
+            SproutsEdge stored = canonical(edge);
+            if (storedEdge(edges, edgeChanges, stored) != null) {
+                continue;
+            }
+            edgeChanges.put(stored, stored);
+            List<Vector2> points = stored.polyline().points();
+            for (int i = 1; i < points.size(); i++) {
+                Vector2 a = points.get(i - 1);
+                Vector2 b = points.get(i);
+                Segment segment = new Segment(stored, i, a, b);
+                int maxX = cell(Math.max(a.x, b.x));
+                int maxY = cell(Math.max(a.y, b.y));
+                for (int x = cell(Math.min(a.x, b.x)); x <= maxX; x++) {
+                    for (int y = cell(Math.min(a.y, b.y)); y <= maxY; y++) {
+                        changedCell(cells, cellChanges, key(x, y))
+                            .add(segment);
+                    }
+                }
+            }
+        }
+        for (Map.Entry<Long, List<Segment>> entry : cellChanges.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                entry.setValue(null);
+            }
+        }
+        this.cells = cells.with(cellChanges);
+        this.edges = edges.with(edgeChanges);
+    }
+
+    /**
+     * Returns a new grid with {@code added} edges stored in addition to the
+     * edges of {@code this} grid.
+     * <p>
+     * Edges that are already stored (or whose reverse is already stored) are
+     * ignored.
+     *
+     * @param added the edges to add
+     * @return a new grid with {@code added} edges
+     */
+    public EdgeGrid with(final SproutsEdge... added) {
+        return
+            new EdgeGrid(
+                cellSize,
+                cells,
+                edges,
+                Arrays.asList(added),
+                Collections.<SproutsEdge>emptyList()
+            );
+    }
+
+    /**
+     * Returns a new grid without the {@code removed} edges.
+     * <p>
+     * Removing an edge also removes its reverse. Edges that are not stored
+     * are ignored.
+     *
+     * @param removed the edges to remove
+     * @return a new grid without the {@code removed} edges
+     */
+    public EdgeGrid without(final SproutsEdge... removed) {
+        return
+            new EdgeGrid(
+                cellSize,
+                cells,
+                edges,
+                Collections.<SproutsEdge>emptyList(),
+                Arrays.asList(removed)
+            );
+    }
+
+    /**
+     * Returns all stored segments that are in the cells overlapped by the
+     * bounding box of line segment {@code p0-p1}.
+     * <p>
+     * A segment that spans more than one such cell may be returned more than
+     * once.
+     *
+     * @param p0 the first line segment boundary
+     * @param p1 the second line segment boundary
+     * @return the stored segments near line segment {@code p0-p1}
+     */
+    List<Segment> segmentsNear(final Vector2 p0, final Vector2 p1) {
+        int minX = cell(Math.min(p0.x, p1.x));
+        int maxX = cell(Math.max(p0.x, p1.x));
+        int minY = cell(Math.min(p0.y, p1.y));
+        int maxY = cell(Math.max(p0.y, p1.y));
+        if (minX == maxX && minY == maxY) {
+            List<Segment> cell = cells.get(key(minX, minY));
+            if (cell == null) {
+                return Collections.emptyList();
+            }
+            return Collections.unmodifiableList(cell);
+        }
+        List<Segment> result = new ArrayList<Segment>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                List<Segment> cell = cells.get(key(x, y));
+                if (cell != null) {
+                    result.addAll(cell);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the stored instance of {@code edge} in a grid that is being
+     * updated.
+     *
+     * @param edges the stored edges before the update
+     * @param edgeChanges the changes of {@code edges} so far
+     * @param edge a canonical edge
+     * @return the stored instance of {@code edge}, {@code null} if it is not
+     *         stored
+     */
+    private static SproutsEdge storedEdge(
+        final LayeredMap<SproutsEdge, SproutsEdge> edges,
+        final Map<SproutsEdge, SproutsEdge> edgeChanges,
+        final SproutsEdge edge
+    ) {
+        if (edgeChanges.containsKey(edge)) {
+            return edgeChanges.get(edge);
+        }
+        return edges.get(edge);
+    }
+
+    /**
+     * Returns the cell with {@code key} of a grid that is being updated, as
+     * a list that may be modified.
+     * <p>
+     * The first time a cell is changed, it is copied into
+     * {@code cellChanges}; the shared cell is never modified.
+     *
+     * @param cells the cells before the update
+     * @param cellChanges the changed cells so far
+     * @param key the cell key
+     * @return the changed cell with {@code key}
+     */
+    private static List<Segment> changedCell(
+        final LayeredMap<Long, List<Segment>> cells,
+        final Map<Long, List<Segment>> cellChanges,
+        final Long key
+    ) {
+        List<Segment> cell = cellChanges.get(key);
+        if (cell == null) {
+            List<Segment> shared = cells.get(key);
+            if (shared == null) {
+                cell = new ArrayList<Segment>();
+            } else {
+                cell = new ArrayList<Segment>(shared);
+            }
+            cellChanges.put(key, cell);
+        }
+        return cell;
+    }
+
+    /**
+     * Returns the key of the cell in column {@code x} and row {@code y}.
+     *
+     * @param x the cell column index
+     * @param y the cell row index
+     * @return the cell key
+     */
+    private static Long key(final int x, final int y) {
+        return ((long) x << KEY_SHIFT) | (y & KEY_MASK);
+    }
+
+    /**
+     * Returns the index of the cell row or column that contains
+     * {@code coordinate}.
+     *
+     * @param coordinate an x or y coordinate
+     * @return the cell index
+     */
+    private int cell(final float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    /**
+     * Returns the edge that represents both {@code edge} and its reverse in
+     * the grid.
+     *
+     * @param edge an edge or its reverse
+     * @return the positive one of {@code edge} and {@code edge.reversed()}
+     */
+    private static SproutsEdge canonical(final SproutsEdge edge) {
+        if (edge.isPositive()) {
+            return edge;
+        }
+        return edge.reversed();
+    }
+
+    /** A single line segment of a stored edge polyline. */
+    static final class Segment {
+        /** The stored edge that this segment belongs to. */
+        private final SproutsEdge edge;
+        /**
+         * The index of the second segment boundary in the edge polyline
+         * points.
+         */
+        private final int index;
+        /** The first segment boundary. */
+        private final Vector2 a;
+        /** The second segment boundary. */
+        private final Vector2 b;
+
+        /**
+         * Creates a new segment.
+         *
+         * @param edge the stored edge that this segment belongs to
+         * @param index the index of the second segment boundary in the edge
+         *              polyline points
+         * @param a the first segment boundary
+         * @param b the second segment boundary
+         */
+        Segment(
+            final SproutsEdge edge,
+            final int index,
+            final Vector2 a,
+            final Vector2 b
+        ) {
+            this.edge = edge;
+            this.index = index;
+            this.a = a;
+            this.b = b;
+        }
+
+        /**
+         * Returns the stored edge that this segment belongs to.
+         *
+         * @return the stored edge that this segment belongs to
+         */
+        SproutsEdge edge() {
+            return edge;
+        }
+
+        /**
+         * Returns the index of the second segment boundary in the edge
+         * polyline points.
+         *
+         * @return the index of the second segment boundary
+         */
+        int index() {
+            return index;
+        }
+
+        /**
+         * Returns the first segment boundary.
+         *
+         * @return the first segment boundary
+         */
+        Vector2 a() {
+            return a;
+        }
+
+        /**
+         * Returns the second segment boundary.
+         *
+         * @return the second segment boundary
+         */
+        Vector2 b() {
+            return b;
+        }
+    }
+}
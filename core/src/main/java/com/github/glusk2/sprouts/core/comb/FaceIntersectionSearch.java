@@ -1,16 +1,30 @@
 package com.github.glusk2.sprouts.core.comb;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Set;
 
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.geom.GeometryKernel;
 
 /**
  * Objects of this class can find the intersection between a line segment and
  * a graph face.
+ * <p>
+ * Only the segments of the face edges that lie in the grid cells near the line
+ * segment are checked, so the cost of a search does not grow with the total
+ * number of polyline points in the face. Without a grid, every face edge is
+ * searched through its own bounding volume hierarchy (see
+ * {@link SproutsEdge#tree()}), which rejects edges that are far from the line
+ * segment with a single test.
  */
 public final class FaceIntersectionSearch implements VertexSearch {
 
+    /**
+     * A uniform grid of edge segments that contains the {@code face}, or
+     * {@code null} to search the edge trees instead.
+     */
+    private final EdgeGrid grid;
     /** A set of directed edges that represent a graph face. */
     private final Set<SproutsEdge> face;
     /** The first line segment boundary. */
@@ -21,6 +35,9 @@ public final class FaceIntersectionSearch implements VertexSearch {
     /**
      * Constructs a new VertexSearch object that can find the intersection
      * between the line segment {@code p0-p1} and {@code face}.
+     * <p>
+     * The face edges are searched through their bounding volume
+     * hierarchies, which are built once per edge and shared by all searches.
      *
      * @param face a set of directed edges that represent a graph face
      * @param p0 the first line segment boundary
@@ -31,6 +48,31 @@ public final class FaceIntersectionSearch implements VertexSearch {
         final Vector2 p0,
         final Vector2 p1
     ) {
+        this(null, face, p0, p1);
+    }
+
+    /**
+     * Constructs a new VertexSearch object that can find the intersection
+     * between the line segment {@code p0-p1} and {@code face}, by querying
+     * the segments stored in {@code grid}.
+     * <p>
+     * The {@code grid} has to contain every edge of the {@code face}, but it
+     * may contain other edges as well (typically, {@code grid} holds all edges
+     * of a game state). Those are skipped.
+     *
+     * @param grid a uniform grid of edge segments that contains the
+     *             {@code face}
+     * @param face a set of directed edges that represent a graph face
+     * @param p0 the first line segment boundary
+     * @param p1 the second line segment boundary
+     */
+    public FaceIntersectionSearch(
+        final EdgeGrid grid,
+        final Set<SproutsEdge> face,
+        final Vector2 p0,
+        final Vector2 p1
+    ) {
+        this.grid = grid;
         this.face = face;
         this.p0 = p0;
         this.p1 = p1;
@@ -46,7 +88,9 @@ public final class FaceIntersectionSearch implements VertexSearch {
      * graph {@code face} edge that the line segment {@code p0-p1} crosses.
      * <p>
      * It is not enough for the segment to touch the face - it has to cross it
-     * or no intersection will be detected.
+     * or no intersection will be detected. If the line segment crosses the
+     * face more than once, the intersection closest to {@code p0} is
+     * returned.
      *
      * @return the intersection Vertex between line segment {@code p0-p1} and
      *         {@code face}; if the intersection is not found, and new instance
@@ -54,19 +98,76 @@ public final class FaceIntersectionSearch implements VertexSearch {
      */
     @Override
     public Vertex result() {
-        for (SproutsEdge edge : face) {
-            Color color = edge.color();
-            Vertex result =
-                new PolylineIntersectionSearch(
+        if (grid == null) {
+            return treeResult();
+        }
+        Map<SproutsEdge, Boolean> inFace =
+            new IdentityHashMap<SproutsEdge, Boolean>();
+        Vector2 intersection = new Vector2();
+        Vector2 closest = null;
+        SproutsEdge closestEdge = null;
+        for (EdgeGrid.Segment segment : grid.segmentsNear(p0, p1)) {
+            SproutsEdge edge = segment.edge();
+            Boolean isFaceEdge = inFace.get(edge);
+            if (isFaceEdge == null) {
+                isFaceEdge =
+                    face.contains(edge) || face.contains(edge.reversed());
+                inFace.put(edge, isFaceEdge);
+            }
+            if (!isFaceEdge) {
+                continue;
+            }
+            boolean crosses =
+                GeometryKernel.crossesSegment(
                     p0,
                     p1,
-                    edge.polyline(),
-                    color
-                ).result();
-            if (result.color().equals(color)) {
-                return result;
+                    segment.a(),
+                    segment.b(),
+                    intersection
+                );
+            if (
+                crosses
+             && (
+                    closest == null
+                 || p0.dst2(intersection) < p0.dst2(closest)
+                )
+            ) {
+                closest = intersection.cpy();
+                closestEdge = edge;
+            }
+        }
+        if (closest == null) {
+            return new VoidVertex();
+        }
+        return new PresetVertex(closestEdge.color(), closest);
+    }
+
+    /**
+     * Computes the {@link #result()} by searching the bounding volume
+     * hierarchy of each face edge.
+     *
+     * @return the intersection Vertex between line segment {@code p0-p1} and
+     *         {@code face}, or a new instance of {@link VoidVertex}
+     */
+    private Vertex treeResult() {
+        Vector2 intersection = new Vector2();
+        Vector2 closest = null;
+        SproutsEdge closestEdge = null;
+        for (SproutsEdge edge : face) {
+            if (
+                edge.tree().closestCrossing(p0, p1, intersection) != -1
+             && (
+                    closest == null
+                 || p0.dst2(intersection) < p0.dst2(closest)
+                )
+            ) {
+                closest = intersection.cpy();
+                closestEdge = edge;
             }
         }
-        return new VoidVertex();
+        if (closest == null) {
+            return new VoidVertex();
+        }
+        return new PresetVertex(closestEdge.color(), closest);
     }
 }
@@ -0,0 +1,95 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Sprouts in the centers of the cells of a grid that covers the
+ * {@code gameBounds} rectangle.
+ * <p>
+ * The grid has as many rows and columns as needed to fit
+ * {@code numOfSprouts} sprouts into nearly square cells. The cells are
+ * filled row by row; the cells of the last row may stay empty.
+ */
+public final class GridLayout implements SproutLayout {
+    /** The position of a sprout in its cell, as a fraction of the cell. */
+    private static final float CELL_CENTER = .5f;
+
+    /** The number of sprouts to generate. */
+    private final int numOfSprouts;
+    /** The game bounds rectangle. */
+    private final Rectangle gameBounds;
+
+    /**
+     * Creates a new grid layout of {@code numOfSprouts} sprouts within
+     * {@code gameBounds}.
+     *
+     * @param numOfSprouts the number of sprouts to generate
+     * @param gameBounds the game bounds rectangle
+     */
+    public GridLayout(final int numOfSprouts, final Rectangle gameBounds) {
+        this.numOfSprouts = numOfSprouts;
+        this.gameBounds = gameBounds;
+    }
+
+    @Override
+    public List<Vector2> positions() {
+        List<Vector2> result = new ArrayList<Vector2>();
+        int columns = columns();
+        float cellWidth = gameBounds.getWidth() / columns;
+        float cellHeight = gameBounds.getHeight() / rows();
+        for (int i = 0; i < numOfSprouts; i++) {
+            result.add(
+                new Vector2(
+                    gameBounds.getX() + (i % columns + CELL_CENTER) * cellWidth,
+                    gameBounds.getY() + (i / columns + CELL_CENTER) * cellHeight
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Returns the smaller of the two dimensions of a grid cell.
+     *
+     * @return the size of a grid cell
+     */
+    public float cellSize() {
+        return
+            Math.min(
+                gameBounds.getWidth() / columns(),
+                gameBounds.getHeight() / rows()
+            );
+    }
+
+    /**
+     * Returns the number of grid columns.
+     *
+     * @return the number of grid columns, at least 1
+     */
+    private int columns() {
+        return
+            Math.max(
+                1,
+                Math.round(
+                    (float) Math.sqrt(
+                        numOfSprouts
+                      * gameBounds.getWidth() / gameBounds.getHeight()
+                    )
+                )
+            );
+    }
+
+    /**
+     * Returns the number of grid rows.
+     *
+     * @return the number of grid rows, at least 1
+     */
+    private int rows() {
+        int columns = columns();
+        return Math.max(1, (numOfSprouts + columns - 1) / columns);
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.util.List;
+import java.util.Random;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A {@link GridLayout} with every sprout moved by a random offset within its
+ * grid cell.
+ * <p>
+ * The offset is at most {@code 0.3} cell sizes along each axis, so the
+ * sprouts of neighbouring cells are always at least {@code 0.4} cell sizes
+ * apart. The same {@code seed} always produces the same layout.
+ */
+public final class JitteredLayout implements SproutLayout {
+    /** The maximum offset along an axis, as a fraction of the cell size. */
+    private static final float JITTER = .3f;
+
+    /** The layout to jitter. */
+    private final GridLayout grid;
+    /** The seed of the random offsets. */
+    private final long seed;
+
+    /**
+     * Creates a new jittered grid layout of {@code numOfSprouts} sprouts
+     * within {@code gameBounds}.
+     * <p>
+     * Equivalent to:
+     * <pre>
+     * new JitteredLayout(new GridLayout(numOfSprouts, gameBounds), seed);
+     * </pre>
+     *
+     * @param numOfSprouts the number of sprouts to generate
+     * @param gameBounds the game bounds rectangle
+     * @param seed the seed of the random offsets
+     */
+    public JitteredLayout(
+        final int numOfSprouts,
+        final Rectangle gameBounds,
+        final long seed
+    ) {
+        this(new GridLayout(numOfSprouts, gameBounds), seed);
+    }
+
+    /**
+     * Creates a new jittered layout of a {@code grid}.
+     *
+     * @param grid the layout to jitter
+     * @param seed the seed of the random offsets
+     */
+    public JitteredLayout(final GridLayout grid, final long seed) {
+        this.grid = grid;
+        this.seed = seed;
+    }
+
+    @Override
+    public List<Vector2> positions() {
+        Random random = new RandomXS128(seed);
+        float maxOffset = JITTER * grid.cellSize();
+        List<Vector2> result = grid.positions();
+        for (Vector2 p : result) {
+            p.add(
+                (2 * random.nextFloat() - 1) * maxOffset,
+                (2 * random.nextFloat() - 1) * maxOffset
+            );
+        }
+        return result;
+    }
+}
@@ -72,22 +72,13 @@ public final class NearestSproutSearch implements VertexSearch {
      * If the result is more than one sprout (more than one sprout is at the
      * same, minimal distance to {@code position}), the first encountered is
      * returned.
+     * <p>
+     * The search is answered by {@link SproutsGameState#vertexTree()}.
      *
      * @return the sprout closest to {@code position} in {@code graph}
      */
     @Override
     public Vertex result() {
-        float minDistance = this.maxRadius;
-        Vertex minVertex = new VoidVertex();
-        for (Vertex v : graph.vertices()) {
-            if (v.color().equals(sproutColor)) {
-                float nextDistance = v.position().dst(position);
-                if (nextDistance < minDistance) {
-                    minDistance = nextDistance;
-                    minVertex = v;
-                }
-            }
-        }
-        return minVertex;
+        return graph.vertexTree().nearest(position, maxRadius, sproutColor);
     }
 }
@@ -0,0 +1,177 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Sprouts at random positions within the {@code gameBounds} rectangle, with
+ * no two sprouts closer than a minimum distance (a Poisson-disc sample).
+ * <p>
+ * Random positions are tried one by one and kept if they are far enough
+ * from the sprouts that are already placed. The minimum distance starts at
+ * a size that a random packing of {@code numOfSprouts} discs can still
+ * reach and shrinks whenever too many positions in a row are rejected, so
+ * the layout always has {@code numOfSprouts} sprouts. The sprouts keep half
+ * of the minimum distance from the bounds.
+ * <p>
+ * The same {@code seed} always produces the same layout.
+ */
+public final class PoissonDiscLayout implements SproutLayout {
+    /**
+     * Scales the spacing of a square grid of {@code numOfSprouts} sprouts
+     * to get the initial minimum distance.
+     */
+    private static final float SPACING_SCALE = .75f;
+    /** The factor to shrink the minimum distance by when stuck. */
+    private static final float SHRINK = .9f;
+    /**
+     * The number of rejected positions in a row after which the minimum
+     * distance shrinks.
+     */
+    private static final int MAX_REJECTED = 64;
+    /** The number of bits to shift the cell column index by in a cell key. */
+    private static final int KEY_SHIFT = 32;
+    /** The mask of the cell row index in a cell key. */
+    private static final long KEY_MASK = 0xffffffffL;
+
+    /** The number of sprouts to generate. */
+    private final int numOfSprouts;
+    /** The game bounds rectangle. */
+    private final Rectangle gameBounds;
+    /** The seed of the random positions. */
+    private final long seed;
+
+    /**
+     * Creates a new Poisson-disc layout of {@code numOfSprouts} sprouts
+     * within {@code gameBounds}.
+     *
+     * @param numOfSprouts the number of sprouts to generate
+     * @param gameBounds the game bounds rectangle
+     * @param seed the seed of the random positions
+     */
+    public PoissonDiscLayout(
+        final int numOfSprouts,
+        final Rectangle gameBounds,
+        final long seed
+    ) {
+        this.numOfSprouts = numOfSprouts;
+        this.gameBounds = gameBounds;
+        this.seed = seed;
+    }
+
+    @Override
+    public List<Vector2> positions() {
+        Random random = new RandomXS128(seed);
+        List<Vector2> result = new ArrayList<Vector2>();
+        float distance =
+            SPACING_SCALE
+          * (float) Math.sqrt(
+                gameBounds.getWidth() * gameBounds.getHeight()
+              / Math.max(1, numOfSprouts)
+            );
+        Map<Long, Vector2> cells = new HashMap<Long, Vector2>();
+        int rejected = 0;
+        while (result.size() < numOfSprouts) {
+            if (rejected == MAX_REJECTED) {
+                distance *= SHRINK;
+                // the placed sprouts are even further apart than required
+                cells = new HashMap<Long, Vector2>();
+                for (Vector2 p : result) {
+                    cells.put(cellKey(p, distance), p);
+                }
+                rejected = 0;
+            }
+            float margin = Math.min(
+                distance / 2,
+                Math.min(gameBounds.getWidth(), gameBounds.getHeight()) / 2
+            );
+            Vector2 candidate =
+                new Vector2(
+                    gameBounds.getX() + margin
+                  + random.nextFloat() * (gameBounds.getWidth() - 2 * margin),
+                    gameBounds.getY() + margin
+                  + random.nextFloat() * (gameBounds.getHeight() - 2 * margin)
+                );
+            if (isFarEnough(candidate, cells, distance)) {
+                cells.put(cellKey(candidate, distance), candidate);
+                result.add(candidate);
+                rejected = 0;
+            } else {
+                rejected++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether {@code candidate} is at least {@code distance} away
+     * from all the placed sprouts.
+     * <p>
+     * The cells are {@code distance / sqrt(2)} wide, so every cell holds at
+     * most one sprout and only the cells within two columns and rows of the
+     * candidate have to be checked.
+     *
+     * @param candidate the position to check
+     * @param cells the placed sprouts, by cell key
+     * @param distance the minimum distance between two sprouts
+     * @return {@code true} if {@code candidate} can be placed
+     */
+    private static boolean isFarEnough(
+        final Vector2 candidate,
+        final Map<Long, Vector2> cells,
+        final float distance
+    ) {
+        int column = cell(candidate.x, distance);
+        int row = cell(candidate.y, distance);
+        for (int x = column - 2; x <= column + 2; x++) {
+            for (int y = row - 2; y <= row + 2; y++) {
+                Vector2 p = cells.get(key(x, y));
+                if (p != null && p.dst2(candidate) < distance * distance) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the key of the cell that contains {@code p}.
+     *
+     * @param p a point
+     * @param distance the minimum distance between two sprouts
+     * @return the cell key
+     */
+    private static Long cellKey(final Vector2 p, final float distance) {
+        return key(cell(p.x, distance), cell(p.y, distance));
+    }
+
+    /**
+     * Returns the key of the cell in column {@code x} and row {@code y}.
+     *
+     * @param x the cell column index
+     * @param y the cell row index
+     * @return the cell key
+     */
+    private static Long key(final int x, final int y) {
+        return ((long) x << KEY_SHIFT) | (y & KEY_MASK);
+    }
+
+    /**
+     * Returns the index of the cell row or column that contains
+     * {@code coordinate}.
+     *
+     * @param coordinate an x or y coordinate
+     * @param distance the minimum distance between two sprouts
+     * @return the cell index
+     */
+    private static int cell(final float coordinate, final float distance) {
+        return (int) Math.floor(coordinate / (distance / (float) Math.sqrt(2)));
+    }
+}
@@ -1,11 +1,9 @@
 package com.github.glusk2.sprouts.core.comb;
 
-import java.util.List;
-
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Vector2;
 import com.github.glusk2.sprouts.core.geom.Polyline;
+import com.github.glusk2.sprouts.core.geom.PolylineTree;
 
 /**
  * Objects of this class can find the intersection between a line segment and
@@ -13,6 +11,10 @@ import com.github.glusk2.sprouts.core.geom.Polyline;
  * <p>
  * The {@code result()} is returned as a Vertex with the provided
  * {@code intersectionColor}.
+ * <p>
+ * The line segments of the Polyline are searched through a
+ * {@link PolylineTree}, so segments far from the line segment are never
+ * checked.
  */
 public final class PolylineIntersectionSearch implements VertexSearch {
     /** The first line segment boundary. */
@@ -20,10 +22,10 @@ public final class PolylineIntersectionSearch implements VertexSearch {
     /** The second line segment boundary. */
     private final Vector2 p1;
     /**
-     * The Polyline to check for the intersection with the {@code p0-p1} line
-     * segment.
+     * The bounding volume hierarchy over the Polyline to check for the
+     * intersection with the {@code p0-p1} line segment.
      */
-    private final Polyline polyline;
+    private final PolylineTree tree;
     /**
      * The Color of the Vertex returned by {@code result()}, if there is an
      * intersection.
@@ -46,10 +48,34 @@ public final class PolylineIntersectionSearch implements VertexSearch {
         final Vector2 p1,
         final Polyline polyline,
         final Color intersectionColor
+    ) {
+        this(p0, p1, new PolylineTree(polyline), intersectionColor);
+    }
+
+    /**
+     * Creates a new PolylineIntersectionSearch object, by providing the line
+     * segment, the bounding volume hierarchy over the Polyline and
+     * {@code intersectionColor}.
+     * <p>
+     * Use this constructor with {@link SproutsEdge#tree()} to reuse the
+     * hierarchy of a stored edge across searches.
+     *
+     * @param p0 the first line segment boundary
+     * @param p1 the second line segment boundary
+     * @param tree the bounding volume hierarchy over the Polyline to check
+     *             for the intersection with the {@code p0-p1} line segment
+     * @param intersectionColor the Color of the Vertex returned by
+     *                          {@code result()}, if there is an intersection
+     */
+    public PolylineIntersectionSearch(
+        final Vector2 p0,
+        final Vector2 p1,
+        final PolylineTree tree,
+        final Color intersectionColor
     ) {
         this.p0 = p0;
         this.p1 = p1;
-        this.polyline = polyline;
+        this.tree = tree;
         this.intersectionColor = intersectionColor;
     }
 
@@ -71,28 +97,13 @@ public final class PolylineIntersectionSearch implements VertexSearch {
      */
     @Override
     public Vertex result() {
-        List<Vector2> points = polyline.points();
         Vector2 intersection = new Vector2();
-        for (int i = 1; i < points.size(); i++) {
-            boolean intersects =
-                Intersector.intersectSegments(
-                    p0,
-                    p1,
-                    points.get(i - 1),
-                    points.get(i),
+        if (tree.firstCrossing(p0, p1, intersection) != -1) {
+            return
+                new PresetVertex(
+                    intersectionColor,
                     intersection
                 );
-            if (
-                intersects
-             && !p0.epsilonEquals(intersection)
-             && !p1.epsilonEquals(intersection)
-            ) {
-                return
-                    new PresetVertex(
-                        intersectionColor,
-                        intersection
-                    );
-            }
         }
         return new VoidVertex();
     }
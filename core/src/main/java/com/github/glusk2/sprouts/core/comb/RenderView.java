@@ -0,0 +1,133 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * The part of the board that a renderer projects onto the screen.
+ * <p>
+ * The view is defined by the combined projection and transform matrix of a
+ * renderer and the size of the back buffer. The viewport is assumed to scale
+ * both axes equally and to fill the back buffer in at least one of them
+ * (like a fit, extend or screen viewport does).
+ */
+public final class RenderView {
+    /**
+     * The maximum distance (in pixels) between a circle and the polygon that
+     * it is drawn with.
+     */
+    private static final float CIRCLE_TOLERANCE = .25f;
+    /** The minimum number of segments of a circle. */
+    private static final int MIN_CIRCLE_SEGMENTS = 6;
+    /** The maximum number of segments of a circle. */
+    private static final int MAX_CIRCLE_SEGMENTS = 128;
+
+    /** The combined projection and transform matrix. */
+    private final Matrix4 projModelView;
+    /** The width of the back buffer, in pixels. */
+    private final int backBufferWidth;
+    /** The height of the back buffer, in pixels. */
+    private final int backBufferHeight;
+
+    /**
+     * Creates a new view of the {@code renderer} on the current back buffer.
+     * <p>
+     * Equivalent to:
+     * <pre>
+     * new RenderView(
+     *     new Matrix4(renderer.getProjectionMatrix())
+     *         .mul(renderer.getTransformMatrix()),
+     *     Gdx.graphics.getBackBufferWidth(),
+     *     Gdx.graphics.getBackBufferHeight()
+     * );
+     * </pre>
+     *
+     * @param renderer the renderer that the view belongs to
+     */
+    public RenderView(final ShapeRenderer renderer) {
+        this(
+            new Matrix4(renderer.getProjectionMatrix())
+                .mul(renderer.getTransformMatrix()),
+            Gdx.graphics.getBackBufferWidth(),
+            Gdx.graphics.getBackBufferHeight()
+        );
+    }
+
+    /**
+     * Creates a new view.
+     *
+     * @param projModelView the combined projection and transform matrix
+     * @param backBufferWidth the width of the back buffer, in pixels
+     * @param backBufferHeight the height of the back buffer, in pixels
+     */
+    public RenderView(
+        final Matrix4 projModelView,
+        final int backBufferWidth,
+        final int backBufferHeight
+    ) {
+        this.projModelView = projModelView;
+        this.backBufferWidth = backBufferWidth;
+        this.backBufferHeight = backBufferHeight;
+    }
+
+    /**
+     * Returns the size of a screen pixel in board units.
+     * <p>
+     * The estimate from the axis that the viewport does not fill can only be
+     * too small, so the larger of the two estimates is exact.
+     *
+     * @return the size of a pixel in board units
+     */
+    public float pixelSize() {
+        return
+            Math.max(
+                2 / Math.abs(projModelView.val[Matrix4.M00] * backBufferWidth),
+                2 / Math.abs(projModelView.val[Matrix4.M11] * backBufferHeight)
+            );
+    }
+
+    /**
+     * Returns the part of the board that is projected into the viewport.
+     *
+     * @return the visible area, in board units
+     */
+    public Rectangle visibleArea() {
+        Matrix4 inverse = new Matrix4(projModelView).inv();
+        Vector3 min = new Vector3(-1, -1, 0).prj(inverse);
+        Vector3 max = new Vector3(1, 1, 0).prj(inverse);
+        return
+            new Rectangle(
+                Math.min(min.x, max.x),
+                Math.min(min.y, max.y),
+                Math.abs(max.x - min.x),
+                Math.abs(max.y - min.y)
+            );
+    }
+
+    /**
+     * Returns the number of segments to draw a circle with, so that it looks
+     * round on the screen.
+     * <p>
+     * The segment count follows the size of the circle on the screen: the
+     * polygon deviates from the circle by at most a quarter of a pixel.
+     *
+     * @param radius the radius of the circle, in board units
+     * @return the number of segments to draw the circle with
+     */
+    public int circleSegmentCount(final float radius) {
+        float pixelRadius = radius / pixelSize();
+        if (!(pixelRadius > CIRCLE_TOLERANCE)) {
+            return MIN_CIRCLE_SEGMENTS;
+        }
+        double segments =
+            Math.ceil(Math.PI / Math.acos(1 - CIRCLE_TOLERANCE / pixelRadius));
+        return
+            (int) Math.max(
+                MIN_CIRCLE_SEGMENTS,
+                Math.min(MAX_CIRCLE_SEGMENTS, segments)
+            );
+    }
+}
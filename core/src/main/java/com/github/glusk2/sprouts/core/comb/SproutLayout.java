@@ -0,0 +1,19 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+/** The positions of the sprouts of an initial Sprouts game state. */
+@FunctionalInterface
+public interface SproutLayout {
+    /**
+     * Returns the positions of the sprouts.
+     * <p>
+     * Every invocation returns the same positions. No two positions are
+     * equal.
+     *
+     * @return the positions of the sprouts
+     */
+    List<Vector2> positions();
+}
@@ -4,7 +4,9 @@ import java.util.List;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.geom.GeometryKernel;
 import com.github.glusk2.sprouts.core.geom.Polyline;
+import com.github.glusk2.sprouts.core.geom.PolylineTree;
 
 /**
  * A directed edge from vertex {@code from()} to {@code to()}.
@@ -30,6 +32,11 @@ public final class SproutsEdge implements Comparable<SproutsEdge> {
     private final Color toColor;
     /** The color of this edge. */
     private final Color edgeColor;
+    /**
+     * The bounding volume hierarchy over {@code polyline}, shared with the
+     * reverse of this edge.
+     */
+    private final PolylineTree tree;
 
     /**
      * Creates a red edge has a positive direction.
@@ -86,6 +93,36 @@ public final class SproutsEdge implements Comparable<SproutsEdge> {
         final Color fromColor,
         final Color toColor,
         final Color edgeColor
+    ) {
+        this(
+            direction,
+            polyline,
+            fromColor,
+            toColor,
+            edgeColor,
+            new PolylineTree(polyline)
+        );
+    }
+
+    /**
+     * Creates a new edge from a full list of attributes and the bounding
+     * volume hierarchy over its {@code polyline}.
+     *
+     * @param direction the direction of this edge ({@code true} - positive,
+     *                  {@code false} - negative)
+     * @param polyline the polyline that represents this edge
+     * @param fromColor the color of the origin vertex ({@code this.from()})
+     * @param toColor the color of the destination vertex ({@code this.to()})
+     * @param edgeColor the color of this edge
+     * @param tree the bounding volume hierarchy over {@code polyline}
+     */
+    private SproutsEdge(
+        final boolean direction,
+        final Polyline polyline,
+        final Color fromColor,
+        final Color toColor,
+        final Color edgeColor,
+        final PolylineTree tree
     ) {
         if (polyline.points().size() < 2) {
             throw new IllegalArgumentException(
@@ -97,6 +134,7 @@ public final class SproutsEdge implements Comparable<SproutsEdge> {
         this.fromColor = fromColor;
         this.toColor = toColor;
         this.edgeColor = edgeColor;
+        this.tree = tree;
     }
 
     /**
@@ -144,6 +182,19 @@ public final class SproutsEdge implements Comparable<SproutsEdge> {
         return this.polyline;
     }
 
+    /**
+     * Returns the bounding volume hierarchy over the line segments of the
+     * polyline that represents this edge.
+     * <p>
+     * The tree is built on the first query and shared with the reverse of
+     * this edge.
+     *
+     * @return the bounding volume hierarchy over {@code polyline()}
+     */
+    public PolylineTree tree() {
+        return tree;
+    }
+
     /**
      * Reverses this edge and returns the result as a new edge.
      *
@@ -156,7 +207,8 @@ public final class SproutsEdge implements Comparable<SproutsEdge> {
                 polyline,
                 toColor,
                 fromColor,
-                edgeColor
+                edgeColor,
+                tree
             );
     }
 
@@ -213,10 +265,8 @@ public final class SproutsEdge implements Comparable<SproutsEdge> {
         Vector2 aT = that.secondPointInPositiveDirection();
 
         if (vT.equals(v)) {
-            Vector2 p1 = a.cpy().sub(v);
-            Vector2 p2 = aT.cpy().sub(v);
-            int result = (int) Math.signum(p1.crs(p2));
-            if (result == 0 && p1.hasOppositeDirection(p2)) {
+            int result = GeometryKernel.orientationSign(v, a, aT);
+            if (result == 0 && GeometryKernel.areOpposite(v, a, aT)) {
                 return 1;
             }
             return result;
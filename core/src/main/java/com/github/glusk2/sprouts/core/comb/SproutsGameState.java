@@ -3,10 +3,8 @@ package com.github.glusk2.sprouts.core.comb;
 import java.util.HashSet;
 import java.util.Set;
 
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
-import com.github.glusk2.sprouts.core.geom.PolylineBatch;
+import com.github.glusk2.sprouts.core.geom.ShapeBuffer;
 
 /** The graph representation of a sprouts game position. */
 @FunctionalInterface
@@ -33,11 +31,50 @@ public interface SproutsGameState {
         return vertices;
     }
 
+    /**
+     * Returns the edge segments of {@code this} game state in a uniform grid.
+     * <p>
+     * The default implementation builds a new grid from {@link #edges()} on
+     * every invocation. Game state transitions should cache the grid and
+     * update it incrementally from the grid of the previous state.
+     *
+     * @return the edge segments of {@code this} game state in a uniform grid
+     */
+    default EdgeGrid edgeGrid() {
+        return new EdgeGrid(edges());
+    }
+
+    /**
+     * Returns the vertices of {@code this} game state in a 2-d tree.
+     * <p>
+     * The default implementation builds a new tree from {@link #vertices()}
+     * on every invocation. Game states that are queried repeatedly should
+     * cache the tree.
+     *
+     * @return the vertices of {@code this} game state in a 2-d tree
+     */
+    default VertexTree vertexTree() {
+        return new VertexTree(vertices());
+    }
+
+    /**
+     * Returns the render model of {@code this} game state.
+     * <p>
+     * The default implementation derives a new model on every invocation.
+     * Game states that are rendered repeatedly should cache the model.
+     *
+     * @return the render model of {@code this} game state
+     */
+    default SproutsRenderModel renderModel() {
+        return new SproutsRenderModel(this);
+    }
+
     /**
      * Renders {@code this} game state.
      * <p>
      * Edges are rendered as polyline points (circles) with straight line
-     * segments connecting them.
+     * segments connecting them. The layers are painted in the order of the
+     * {@link #renderModel()}.
      *
      * @param renderer the renderer to render with
      * @param thickness the thickness of edges and the radius of vertices
@@ -50,50 +87,31 @@ public interface SproutsGameState {
         int circleSegmentCount,
         boolean displayCobweb
     ) {
-        Set<SproutsEdge> drawnEdges = new HashSet<>();
-        renderer.begin(ShapeType.Filled);
-        for (SproutsEdge edge : edges()) {
-            if (!displayCobweb && edge.color().equals(Color.RED)) {
-                continue;
-            }
-            if (!drawnEdges.contains(edge)) {
-                new PolylineBatch(
-                    edge.polyline(),
-                    edge.color(),
-                    thickness,
-                    circleSegmentCount,
-                    true
-                ).render(renderer);
-                drawnEdges.add(edge);
-                drawnEdges.add(edge.reversed());
-            }
-        }
-        for (Vertex v : vertices()) {
-            if (!displayCobweb && v.color().equals(Color.RED)) {
-                continue;
-            }
-            renderer.setColor(v.color());
-            renderer.circle(
-                v.position().x,
-                v.position().y,
-                thickness,
-                circleSegmentCount
-            );
-
-            if (new IsAliveSprout(this).test(v)) {
-                renderer.setColor(Color.WHITE);
-            } else {
-                renderer.setColor(Color.GRAY);
-            }
-
-            renderer.circle(
-                v.position().x,
-                v.position().y,
-                thickness / 2,
-                circleSegmentCount
-            );
+        renderModel().render(
+            renderer,
+            thickness,
+            circleSegmentCount,
+            displayCobweb
+        );
+    }
 
-        }
-        renderer.end();
+    /**
+     * Adds the shapes of {@code this} game state to {@code buffer}.
+     * <p>
+     * The picture is the same as the one of
+     * {@link #render(ShapeRenderer, float, int, boolean)}: edges are added
+     * first and vertices over them, a disc in the color of the vertex with a
+     * smaller white (alive) or gray (dead) disc on top.
+     *
+     * @param buffer the buffer to add the shapes to
+     * @param thickness the thickness of edges and the radius of vertices
+     * @param displayCobweb if {@code true}, add cobweb vertices and edges
+     */
+    default void tessellate(
+        ShapeBuffer buffer,
+        float thickness,
+        boolean displayCobweb
+    ) {
+        renderModel().tessellate(buffer, thickness, displayCobweb);
     }
 }
@@ -1,6 +1,8 @@
 package com.github.glusk2.sprouts.core.comb;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import com.badlogic.gdx.graphics.Color;
@@ -11,33 +13,47 @@ import com.github.glusk2.sprouts.core.geom.Polyline;
 /**
  * Sprouts Initial Game State.
  * <p>
- * An initial state contains {@code sproutsCount} sprouts equally spread
- * apart on the edge of a circle that is in the center of the
- * {@code gameBounds} rectangle.
+ * An initial state contains the sprouts of a {@link SproutLayout}, connected
+ * with the straight edges of a {@link Cobweb}.
  * <p>
  * The graph is connected; all edges are cobweb edges; the graph has a single
  * face.
  * <p>
- * There are at most two vertices with {@code deg(v) = 1}. The remaining
- * vertices are vertices with {@code deg(v) = 2}.
+ * The edges are built once, on the first invocation of {@link #edges()}.
+ * Objects of this class are not <em>thread-safe</em>.
  */
 public final class SproutsInitialState implements SproutsGameState {
-    /**
-     * Scales the minimal {@code gameBound} dimension to pad the virtual
-     * circle on which the sprouts are pinned.
-     */
-    private static final float DIMENSION_SCALE = .6f;
-    /** Full circle, in degrees. */
-    private static final int FULL_CIRCLE = 360;
+    /** The positions of the sprouts. */
+    private final SproutLayout layout;
+    /** The way to connect the sprouts with cobweb edges. */
+    private final Cobweb cobweb;
 
-    /** The number of sprouts to generate. */
-    private final int numOfSprouts;
-    /** The game bounds rectangle. */
-    private final Rectangle gameBounds;
+    /** A cached value of {@link #edges()}. */
+    private Set<SproutsEdge> edgeCache;
+    /** A cached value of {@link #edgeGrid()}. */
+    private EdgeGrid gridCache;
+    /** A cached value of {@link #vertexTree()}. */
+    private VertexTree treeCache;
+    /** A cached value of {@link #renderModel()}. */
+    private SproutsRenderModel modelCache;
 
     /**
      * Create a new Sprouts Initial Game State from the specified
      * {@code numOfSprouts} that's within {@code gameBounds}.
+     * <p>
+     * The sprouts are equally spread apart on the edge of a circle that is
+     * in the center of the {@code gameBounds} rectangle, connected with a
+     * single cobweb path. There are at most two vertices with
+     * {@code deg(v) = 1}. The remaining vertices are vertices with
+     * {@code deg(v) = 2}.
+     * <p>
+     * Equivalent to:
+     * <pre>
+     * new SproutsInitialState(
+     *     new CircleLayout(numOfSprouts, gameBounds),
+     *     new CobwebPath()
+     * );
+     * </pre>
      *
      * @param numOfSprouts the number of sprouts to generate
      * @param gameBounds the game bounds rectangle
@@ -46,43 +62,68 @@ public final class SproutsInitialState implements SproutsGameState {
         final int numOfSprouts,
         final Rectangle gameBounds
     ) {
-        this.numOfSprouts = numOfSprouts;
-        this.gameBounds = gameBounds;
+        this(new CircleLayout(numOfSprouts, gameBounds), new CobwebPath());
+    }
+
+    /**
+     * Create a new Sprouts Initial Game State from the specified
+     * {@code layout} and {@code cobweb}.
+     *
+     * @param layout the positions of the sprouts
+     * @param cobweb the way to connect the sprouts with cobweb edges
+     */
+    public SproutsInitialState(
+        final SproutLayout layout,
+        final Cobweb cobweb
+    ) {
+        this.layout = layout;
+        this.cobweb = cobweb;
     }
 
     @Override
     public Set<SproutsEdge> edges() {
-        Vector2 center = gameBounds.getCenter(new Vector2());
-        float minDimension =
-            Math.min(
-                gameBounds.getWidth(),
-                gameBounds.getHeight()
-            );
-        float radius = (DIMENSION_SCALE * minDimension) / 2;
-        Vector2 v0 = center.cpy().add(radius, 0);
-        Vector2 clockPointer = v0.cpy().sub(center);
-
-        Set<SproutsEdge> result = new HashSet<>();
-
-        Vector2[] vertices = new Vector2[numOfSprouts];
-        for (int i = 0; i < numOfSprouts; i++) {
-            vertices[i] =
-                center.cpy().add(
-                    clockPointer.cpy().rotate(
-                        1f * i / numOfSprouts * FULL_CIRCLE
-                    )
-                );
+        if (edgeCache != null) {
+            return edgeCache;
         }
-
-        for (int i = 0; i < numOfSprouts - 1; i++) {
+        List<Vector2> sprouts = layout.positions();
+        Set<SproutsEdge> result = new HashSet<>();
+        for (int[] link : cobweb.links(sprouts)) {
             SproutsEdge nextEdge =
                 new SproutsEdge(
-                    new Polyline.WrappedList(vertices[i], vertices[i + 1]),
+                    new Polyline.WrappedList(
+                        sprouts.get(link[0]),
+                        sprouts.get(link[1])
+                    ),
                     Color.BLACK, Color.BLACK
             );
             result.add(nextEdge);
             result.add(nextEdge.reversed());
         }
-        return result;
+        edgeCache = Collections.unmodifiableSet(result);
+        return edgeCache;
+    }
+
+    @Override
+    public EdgeGrid edgeGrid() {
+        if (gridCache == null) {
+            gridCache = new EdgeGrid(edges());
+        }
+        return gridCache;
+    }
+
+    @Override
+    public VertexTree vertexTree() {
+        if (treeCache == null) {
+            treeCache = new VertexTree(vertices());
+        }
+        return treeCache;
+    }
+
+    @Override
+    public SproutsRenderModel renderModel() {
+        if (modelCache == null) {
+            modelCache = new SproutsRenderModel(this);
+        }
+        return modelCache;
     }
 }
@@ -0,0 +1,364 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.geom.BoundsGrid;
+import com.github.glusk2.sprouts.core.geom.PolylineBatch;
+import com.github.glusk2.sprouts.core.geom.ShapeBuffer;
+
+/**
+ * An immutable render model of a Sprouts game state.
+ * <p>
+ * The model is derived once from the {@code gameState} and splits it into
+ * the layers that renderers paint, in order:
+ * <ol>
+ *   <li>cobweb edges,</li>
+ *   <li>move edges,</li>
+ *   <li>cobweb vertices (with a dead core),</li>
+ *   <li>dead vertices (with a gray core) and</li>
+ *   <li>alive sprouts (with a white core).</li>
+ * </ol>
+ * Every edge is listed once, in one of its two directions. The liveness of
+ * all the vertices is computed in a single pass over the edges.
+ * <p>
+ * A model can be culled to the visible part of the board with
+ * {@link #visibleIn(Rectangle)}. The spatial index of the edge bounding
+ * boxes that culling uses is built lazily, on the first invocation, so
+ * objects of this class are not <em>thread-safe</em>.
+ */
+public final class SproutsRenderModel {
+    /** The color of cobweb vertices and edges. */
+    private static final Color COBWEB_COLOR = Color.RED;
+    /** The color of sprouts and move edges. */
+    private static final Color SPROUT_COLOR = Color.BLACK;
+    /** The number of move edges that a dead sprout is connected to. */
+    private static final int DEAD_SPROUT_DEGREE = 3;
+    /** The size of a cell of the edge bounding box index. */
+    private static final float INDEX_CELL_SIZE = 64f;
+
+    /** The cobweb edges followed by the move edges. */
+    private final List<SproutsEdge> allEdges;
+    /** The number of cobweb edges at the beginning of {@code allEdges}. */
+    private final int cobwebEdgeCount;
+    /** The cobweb vertices followed by the dead vertices. */
+    private final List<Vertex> allDeadVertices;
+    /**
+     * The number of cobweb vertices at the beginning of
+     * {@code allDeadVertices}.
+     */
+    private final int cobwebVertexCount;
+    /** The alive sprouts. */
+    private final List<Vertex> aliveSprouts;
+
+    /** The bounding boxes of {@code allEdges}, in a grid. */
+    private BoundsGrid edgeIndex;
+
+    /**
+     * Derives a new render model from {@code gameState}.
+     *
+     * @param gameState the state to derive the model from
+     */
+    public SproutsRenderModel(final SproutsGameState gameState) {
+        List<SproutsEdge> cobweb = new ArrayList<SproutsEdge>();
+        List<SproutsEdge> moves = new ArrayList<SproutsEdge>();
+        Set<SproutsEdge> listed = new HashSet<SproutsEdge>();
+        Map<Vertex, Integer> degrees = new HashMap<Vertex, Integer>();
+        for (SproutsEdge edge : gameState.edges()) {
+            if (edge.color().equals(SPROUT_COLOR)) {
+                Integer degree = degrees.get(edge.from());
+                if (degree == null) {
+                    degree = 0;
+                }
+                degrees.put(edge.from(), degree + 1);
+            }
+            if (listed.add(edge)) {
+                listed.add(edge.reversed());
+                if (edge.color().equals(COBWEB_COLOR)) {
+                    cobweb.add(edge);
+                } else {
+                    moves.add(edge);
+                }
+            }
+        }
+        List<Vertex> cobwebPoints = new ArrayList<Vertex>();
+        List<Vertex> dead = new ArrayList<Vertex>();
+        List<Vertex> alive = new ArrayList<Vertex>();
+        for (Vertex v : gameState.vertices()) {
+            Integer degree = degrees.get(v);
+            if (v.color().equals(COBWEB_COLOR)) {
+                cobwebPoints.add(v);
+            } else if (
+                v.color().equals(SPROUT_COLOR)
+             && (degree == null || degree < DEAD_SPROUT_DEGREE)
+            ) {
+                alive.add(v);
+            } else {
+                dead.add(v);
+            }
+        }
+        this.cobwebEdgeCount = cobweb.size();
+        this.cobwebVertexCount = cobwebPoints.size();
+        cobweb.addAll(moves);
+        cobwebPoints.addAll(dead);
+        this.allEdges = Collections.unmodifiableList(cobweb);
+        this.allDeadVertices = Collections.unmodifiableList(cobwebPoints);
+        this.aliveSprouts = Collections.unmodifiableList(alive);
+    }
+
+    /**
+     * Creates a new render model from its layers.
+     *
+     * @param allEdges the cobweb edges followed by the move edges
+     * @param cobwebEdgeCount the number of cobweb edges at the beginning of
+     *                        {@code allEdges}
+     * @param allDeadVertices the cobweb vertices followed by the dead
+     *                        vertices
+     * @param cobwebVertexCount the number of cobweb vertices at the
+     *                          beginning of {@code allDeadVertices}
+     * @param aliveSprouts the alive sprouts
+     */
+    private SproutsRenderModel(
+        final List<SproutsEdge> allEdges,
+        final int cobwebEdgeCount,
+        final List<Vertex> allDeadVertices,
+        final int cobwebVertexCount,
+        final List<Vertex> aliveSprouts
+    ) {
+        this.allEdges = Collections.unmodifiableList(allEdges);
+        this.cobwebEdgeCount = cobwebEdgeCount;
+        this.allDeadVertices = Collections.unmodifiableList(allDeadVertices);
+        this.cobwebVertexCount = cobwebVertexCount;
+        this.aliveSprouts = Collections.unmodifiableList(aliveSprouts);
+    }
+
+    /**
+     * Returns the edges to paint, one per twin pair.
+     *
+     * @param displayCobweb if {@code true}, the cobweb edges are included
+     *                      (before the others)
+     * @return the edges to paint
+     */
+    public List<SproutsEdge> edges(final boolean displayCobweb) {
+        if (displayCobweb) {
+            return allEdges;
+        }
+        return allEdges.subList(cobwebEdgeCount, allEdges.size());
+    }
+
+    /**
+     * Returns the vertices to paint with a gray (dead) core: the vertices
+     * that are not alive sprouts.
+     *
+     * @param displayCobweb if {@code true}, the cobweb vertices are included
+     *                      (before the others)
+     * @return the dead vertices to paint
+     */
+    public List<Vertex> deadVertices(final boolean displayCobweb) {
+        if (displayCobweb) {
+            return allDeadVertices;
+        }
+        return
+            allDeadVertices.subList(cobwebVertexCount, allDeadVertices.size());
+    }
+
+    /**
+     * Returns the sprouts that are connected to less than 3 move edges, to
+     * paint with a white (alive) core.
+     *
+     * @return the alive sprouts
+     */
+    public List<Vertex> aliveSprouts() {
+        return aliveSprouts;
+    }
+
+    /**
+     * Returns the part of {@code this} model that is visible in
+     * {@code area}.
+     * <p>
+     * The edges whose polyline bounding box overlaps {@code area} are looked
+     * up in a spatial index; the vertices are kept if they lie in
+     * {@code area}. The painting order of the layers is kept. Shapes are
+     * drawn with a thickness, so {@code area} should be grown by it.
+     *
+     * @param area the visible area
+     * @return a new render model with the shapes in {@code area}
+     */
+    public SproutsRenderModel visibleIn(final Rectangle area) {
+        if (edgeIndex == null) {
+            List<Rectangle> bounds = new ArrayList<Rectangle>();
+            for (SproutsEdge edge : allEdges) {
+                bounds.add(boundingBox(edge.polyline().points()));
+            }
+            edgeIndex = new BoundsGrid(bounds, INDEX_CELL_SIZE);
+        }
+        List<SproutsEdge> edges = new ArrayList<SproutsEdge>();
+        int cobwebEdges = 0;
+        for (int i : edgeIndex.overlapping(area)) {
+            edges.add(allEdges.get(i));
+            if (i < cobwebEdgeCount) {
+                cobwebEdges++;
+            }
+        }
+        List<Vertex> dead = new ArrayList<Vertex>();
+        int cobwebVertices = 0;
+        for (int i = 0; i < allDeadVertices.size(); i++) {
+            Vertex v = allDeadVertices.get(i);
+            if (area.contains(v.position())) {
+                dead.add(v);
+                if (i < cobwebVertexCount) {
+                    cobwebVertices++;
+                }
+            }
+        }
+        List<Vertex> alive = new ArrayList<Vertex>();
+        for (Vertex v : aliveSprouts) {
+            if (area.contains(v.position())) {
+                alive.add(v);
+            }
+        }
+        return
+            new SproutsRenderModel(
+                edges,
+                cobwebEdges,
+                dead,
+                cobwebVertices,
+                alive
+            );
+    }
+
+    /**
+     * Renders {@code this} model.
+     * <p>
+     * Edges are rendered as polyline points (circles) with straight line
+     * segments connecting them. Vertices are rendered as a disc in the color
+     * of the vertex with a smaller white (alive) or gray (dead) disc on top.
+     *
+     * @param renderer the renderer to render with
+     * @param thickness the thickness of edges and the radius of vertices
+     * @param circleSegmentCount the number of segments for the circles drawn
+     * @param displayCobweb if {@code true}, display cobweb vertices and edges
+     */
+    public void render(
+        final ShapeRenderer renderer,
+        final float thickness,
+        final int circleSegmentCount,
+        final boolean displayCobweb
+    ) {
+        renderer.begin(ShapeType.Filled);
+        for (SproutsEdge edge : edges(displayCobweb)) {
+            new PolylineBatch(
+                edge.polyline(),
+                edge.color(),
+                thickness,
+                circleSegmentCount,
+                true
+            ).render(renderer);
+        }
+        for (Vertex v : deadVertices(displayCobweb)) {
+            renderVertex(
+                renderer, v, Color.GRAY, thickness, circleSegmentCount
+            );
+        }
+        for (Vertex v : aliveSprouts) {
+            renderVertex(
+                renderer, v, Color.WHITE, thickness, circleSegmentCount
+            );
+        }
+        renderer.end();
+    }
+
+    /**
+     * Adds the shapes of {@code this} model to {@code buffer}.
+     * <p>
+     * The picture is the same as the one of
+     * {@link #render(ShapeRenderer, float, int, boolean)}.
+     *
+     * @param buffer the buffer to add the shapes to
+     * @param thickness the thickness of edges and the radius of vertices
+     * @param displayCobweb if {@code true}, add cobweb vertices and edges
+     */
+    public void tessellate(
+        final ShapeBuffer buffer,
+        final float thickness,
+        final boolean displayCobweb
+    ) {
+        for (SproutsEdge edge : edges(displayCobweb)) {
+            buffer.addPolyline(
+                edge.polyline().points(),
+                thickness,
+                edge.color()
+            );
+        }
+        for (Vertex v : deadVertices(displayCobweb)) {
+            buffer.addDisc(v.position(), thickness, v.color());
+            buffer.addDisc(v.position(), thickness / 2, Color.GRAY);
+        }
+        for (Vertex v : aliveSprouts) {
+            buffer.addDisc(v.position(), thickness, v.color());
+            buffer.addDisc(v.position(), thickness / 2, Color.WHITE);
+        }
+    }
+
+    /**
+     * Renders a vertex as a disc in the color of the vertex with a smaller
+     * disc in the {@code core} color on top.
+     *
+     * @param renderer the renderer to render with
+     * @param v the vertex to render
+     * @param core the color of the smaller disc
+     * @param radius the radius of the vertex
+     * @param circleSegmentCount the number of segments for the circles drawn
+     */
+    private static void renderVertex(
+        final ShapeRenderer renderer,
+        final Vertex v,
+        final Color core,
+        final float radius,
+        final int circleSegmentCount
+    ) {
+        renderer.setColor(v.color());
+        renderer.circle(
+            v.position().x,
+            v.position().y,
+            radius,
+            circleSegmentCount
+        );
+        renderer.setColor(core);
+        renderer.circle(
+            v.position().x,
+            v.position().y,
+            radius / 2,
+            circleSegmentCount
+        );
+    }
+
+    /**
+     * Returns the bounding box of {@code points}.
+     *
+     * @param points a list of points
+     * @return the bounding box of {@code points}, an empty rectangle in the
+     *         origin if there are none
+     */
+    private static Rectangle boundingBox(final List<Vector2> points) {
+        if (points.isEmpty()) {
+            return new Rectangle();
+        }
+        Vector2 first = points.get(0);
+        Rectangle box = new Rectangle(first.x, first.y, 0, 0);
+        for (Vector2 p : points) {
+            box.merge(p);
+        }
+        return box;
+    }
+}
@@ -25,6 +25,13 @@ public final class SproutsStateAfterMiddleSprout implements SproutsGameState {
     /** The middle sprout to add into {@code stateAfterMove}.*/
     private final MiddleSprout middleSprout;
 
+    /** A cached value of {@link #edges()}. */
+    private Set<SproutsEdge> edgeCache;
+    /** A cached value of {@link #edgeGrid()}. */
+    private EdgeGrid gridCache;
+    /** The two halves of the split edge, or {@code null} if not split. */
+    private SproutsEdge[] splitHalves;
+
     /**
      * Creates a new SproutsStateAfterMiddleSprout.
      *
@@ -44,6 +51,9 @@ public final class SproutsStateAfterMiddleSprout implements SproutsGameState {
 
     @Override
     public Set<SproutsEdge> edges() {
+        if (edgeCache != null) {
+            return edgeCache;
+        }
         SproutsEdge edgeToSplit = middleSprout.submove();
         int splitIndex = middleSprout.submovePolylineIndex();
 
@@ -78,9 +88,28 @@ public final class SproutsStateAfterMiddleSprout implements SproutsGameState {
             edges.add(s1.reversed());
             edges.add(s2.reversed());
 
-            return Collections.unmodifiableSet(edges);
+            splitHalves = new SproutsEdge[] {s1, s2};
+            edgeCache = Collections.unmodifiableSet(edges);
+        } else {
+            edgeCache = Collections.unmodifiableSet(previousState.edges());
+        }
+        return edgeCache;
+    }
+
+    @Override
+    public EdgeGrid edgeGrid() {
+        if (gridCache != null) {
+            return gridCache;
+        }
+        edges();
+        if (splitHalves != null) {
+            gridCache =
+                stateAfterMove.edgeGrid()
+                    .without(middleSprout.submove())
+                    .with(splitHalves);
         } else {
-            return Collections.unmodifiableSet(previousState.edges());
+            gridCache = previousState.edgeGrid();
         }
+        return gridCache;
     }
 }
@@ -1,36 +1,57 @@
 package com.github.glusk2.sprouts.core.comb;
 
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.Set;
 
 import com.github.glusk2.sprouts.core.moves.MiddleSprout;
 import com.github.glusk2.sprouts.core.moves.Move;
-import com.github.glusk2.sprouts.core.moves.Submove;
 
 /**
  * Sprouts state after a Move.
  * <p>
  * Once a move is completed, it has to be added to the game state along with
- * the middle sprout.
+ * the middle sprout. The state after the Submoves of the move does not
+ * depend on the middle sprout and can be passed in precomputed, see
+ * {@link SproutsStateAfterSubmoves}.
  * <p>
  * Afterwards, one has to check whether there
  * are any red (cobweb) points with no red (cobweb) edges. If so,
  * remove them.
+ * <p>
+ * Finally, the polylines of the new edges are compacted, see
+ * {@link SproutsStateWithCompactEdges}.
  */
 public final class SproutsStateAfterMove implements SproutsGameState {
     /** The state before {@code this} one. */
     private final SproutsGameState previousState;
-    /** The move to draw in {@code previousState}. */
-    private final Move move;
+    /** The state after the Submoves of the move, before the split. */
+    private final SproutsGameState stateAfterSubmoves;
     /** The middle sprout to place on the {@code move}. */
     private final MiddleSprout middleSprout;
+    /**
+     * Point-to-segment distance tolerance of the edge compaction; if
+     * {@code 0}, the edges are not compacted.
+     */
+    private final float compactionTolerance;
 
     /** A cached value of {@link #edges()}. */
     private Set<SproutsEdge> cachedEdges = null;
+    /** The final, simplified state that {@link #edges()} is taken from. */
+    private SproutsGameState simplifiedState;
+    /** A cached value of {@link #edgeGrid()}. */
+    private EdgeGrid cachedGrid;
+    /** A cached value of {@link #vertexTree()}. */
+    private VertexTree treeCache;
+    /** A cached value of {@link #renderModel()}. */
+    private SproutsRenderModel modelCache;
 
     /**
-     * Creates a new Sprouts state after a Move.
+     * Creates a new Sprouts state after a Move, without edge compaction.
+     * <p>
+     * Equivalent to:
+     * <pre>
+     * new SproutsStateAfterMove(previousState, move, middleSprout, 0)
+     * </pre>
      *
      * @param previousState the state before {@code this} one
      * @param move the move to draw in {@code previousState}
@@ -40,10 +61,69 @@ public final class SproutsStateAfterMove implements SproutsGameState {
         final SproutsGameState previousState,
         final Move move,
         final MiddleSprout middleSprout
+    ) {
+        this(previousState, move, middleSprout, 0);
+    }
+
+    /**
+     * Creates a new Sprouts state after a Move.
+     * <p>
+     * Equivalent to:
+     * <pre>
+     * new SproutsStateAfterMove(
+     *     previousState,
+     *     new SproutsStateAfterSubmoves(previousState, move),
+     *     middleSprout,
+     *     compactionTolerance
+     * )
+     * </pre>
+     *
+     * @param previousState the state before {@code this} one
+     * @param move the move to draw in {@code previousState}
+     * @param middleSprout the middle sprout to place on the {@code move}
+     * @param compactionTolerance point-to-segment distance tolerance of the
+     *                            edge compaction; if {@code 0}, the edges are
+     *                            not compacted
+     */
+    public SproutsStateAfterMove(
+        final SproutsGameState previousState,
+        final Move move,
+        final MiddleSprout middleSprout,
+        final float compactionTolerance
+    ) {
+        this(
+            previousState,
+            new SproutsStateAfterSubmoves(previousState, move),
+            middleSprout,
+            compactionTolerance
+        );
+    }
+
+    /**
+     * Creates a new Sprouts state after a Move from the (possibly already
+     * computed) {@code stateAfterSubmoves}.
+     * <p>
+     * Only the middle sprout split, the cobweb simplification and the edge
+     * compaction are left to compute.
+     *
+     * @param previousState the state before {@code this} one
+     * @param stateAfterSubmoves the state after the Submoves of the move,
+     *                           before the middle sprout is placed
+     * @param middleSprout the middle sprout to place on the move
+     * @param compactionTolerance point-to-segment distance tolerance of the
+     *                            edge compaction; if {@code 0}, the edges are
+     *                            not compacted
+     */
+    public SproutsStateAfterMove(
+        final SproutsGameState previousState,
+        final SproutsGameState stateAfterSubmoves,
+        final MiddleSprout middleSprout,
+        final float compactionTolerance
     ) {
         this.previousState = previousState;
-        this.move = move;
+        this.stateAfterSubmoves = stateAfterSubmoves;
         this.middleSprout = middleSprout;
+        this.compactionTolerance = compactionTolerance;
     }
 
     @Override
@@ -52,17 +132,7 @@ public final class SproutsStateAfterMove implements SproutsGameState {
             return cachedEdges;
         }
 
-        // 1. Iterate submoves to get the state after all submoves
-        SproutsGameState stateAfterSubmoves = previousState;
-        Iterator<Submove> it = move.iterator();
-        while (it.hasNext()) {
-            Submove submove = it.next();
-            stateAfterSubmoves =
-                new SproutsStateAfterSubmove(stateAfterSubmoves, submove);
-            it = submove;
-        }
-
-        // 2. split the edge
+        // 1. split the edge (of the state after all submoves)
         SproutsGameState stateAfterMiddleSprout =
             new SproutsStateAfterMiddleSprout(
                 previousState,
@@ -70,11 +140,48 @@ public final class SproutsStateAfterMove implements SproutsGameState {
                 middleSprout
             );
 
-        // 3. Remove red points
+        // 2. Remove red points
         SproutsGameState simplified =
             new SproutsStateWithoutCobwebVertices(stateAfterMiddleSprout);
 
+        // 3. Compact the new edges
+        if (compactionTolerance > 0) {
+            simplified =
+                new SproutsStateWithCompactEdges(
+                    previousState,
+                    simplified,
+                    compactionTolerance
+                );
+        }
+
+        simplifiedState = simplified;
         cachedEdges = Collections.unmodifiableSet(simplified.edges());
         return cachedEdges;
     }
+
+    @Override
+    public EdgeGrid edgeGrid() {
+        if (cachedGrid != null) {
+            return cachedGrid;
+        }
+        edges();
+        cachedGrid = simplifiedState.edgeGrid();
+        return cachedGrid;
+    }
+
+    @Override
+    public VertexTree vertexTree() {
+        if (treeCache == null) {
+            treeCache = new VertexTree(vertices());
+        }
+        return treeCache;
+    }
+
+    @Override
+    public SproutsRenderModel renderModel() {
+        if (modelCache == null) {
+            modelCache = new SproutsRenderModel(this);
+        }
+        return modelCache;
+    }
 }
@@ -1,11 +1,14 @@
 package com.github.glusk2.sprouts.core.comb;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import com.badlogic.gdx.graphics.Color;
-import com.github.glusk2.sprouts.core.geom.IsPointOnLineSegment;
+import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.geom.GeometryKernel;
 import com.github.glusk2.sprouts.core.geom.Polyline;
 import com.github.glusk2.sprouts.core.moves.Submove;
 
@@ -19,12 +22,6 @@ import com.github.glusk2.sprouts.core.moves.Submove;
  * remove it.
  */
 public final class SproutsStateAfterSubmove implements SproutsGameState {
-    /**
-     * Maximum error margin for detection of intersection between a line
-     * segment and a point.
-     */
-    private static final float LINE_INTERSECT_ERROR = .5f;
-
     /** The state before {@code this} one. */
     private final SproutsGameState previousState;
     /** The submove to draw in {@code previousState}. */
@@ -32,6 +29,16 @@ public final class SproutsStateAfterSubmove implements SproutsGameState {
 
     /** A cached value of {@link #edges()}. */
     private Set<SproutsEdge> edgeCache;
+    /** A cached value of {@link #edgeGrid()}. */
+    private EdgeGrid gridCache;
+    /** A cached value of {@link #vertexTree()}. */
+    private VertexTree treeCache;
+    /** A cached value of {@link #renderModel()}. */
+    private SproutsRenderModel modelCache;
+    /** Edges of {@code previousState} that are not in {@code this} state. */
+    private List<SproutsEdge> removedEdges;
+    /** Edges of {@code this} state that are not in {@code previousState}. */
+    private List<SproutsEdge> addedEdges;
 
     /**
      * Creates a new Sprouts state after a Submove.
@@ -55,6 +62,8 @@ public final class SproutsStateAfterSubmove implements SproutsGameState {
         SproutsEdge submoveEdge = submove.asEdge();
         Set<SproutsEdge> updatedEdgeSet =
             new HashSet<SproutsEdge>(previousState.edges());
+        List<SproutsEdge> removed = new ArrayList<SproutsEdge>();
+        List<SproutsEdge> added = new ArrayList<SproutsEdge>();
 
         Vertex tip = submoveEdge.to();
         if (tip.color().equals(Color.RED)) {
@@ -62,48 +71,41 @@ public final class SproutsStateAfterSubmove implements SproutsGameState {
                 new SproutsFaces(
                     previousState.edges()
                 ).drawnIn(submoveEdge);
-            for (SproutsEdge edge : submoveFace) {
-                if (edge.color().equals(Color.RED)) {
-                    if (
-                        new IsPointOnLineSegment(
+            SproutsEdge edge = crossedCobwebEdge(submoveFace, tip);
+            if (edge != null) {
+                SproutsEdge firstHalf =
+                    new SproutsEdge(
+                        new Polyline.WrappedList(
                             edge.from().position(),
-                            edge.to().position(),
+                            tip.position()
+                        ),
+                        edge.from().color(),
+                        tip.color()
+                    );
+                SproutsEdge secondHalf =
+                    new SproutsEdge(
+                        new Polyline.WrappedList(
                             tip.position(),
-                            LINE_INTERSECT_ERROR
-                        ).check()
-                    ) {
-                        SproutsEdge firstHalf =
-                            new SproutsEdge(
-                                new Polyline.WrappedList(
-                                    edge.from().position(),
-                                    tip.position()
-                                ),
-                                edge.from().color(),
-                                tip.color()
-                            );
-                        SproutsEdge secondHalf =
-                            new SproutsEdge(
-                                new Polyline.WrappedList(
-                                    tip.position(),
-                                    edge.to().position()
-                                ),
-                                tip.color(),
-                                edge.to().color()
-                            );
-                        updatedEdgeSet.remove(edge);
-                        updatedEdgeSet.remove(edge.reversed());
-                        updatedEdgeSet.add(firstHalf);
-                        updatedEdgeSet.add(firstHalf.reversed());
-                        updatedEdgeSet.add(secondHalf);
-                        updatedEdgeSet.add(secondHalf.reversed());
-                        break;
-                    }
-                }
+                            edge.to().position()
+                        ),
+                        tip.color(),
+                        edge.to().color()
+                    );
+                updatedEdgeSet.remove(edge);
+                updatedEdgeSet.remove(edge.reversed());
+                updatedEdgeSet.add(firstHalf);
+                updatedEdgeSet.add(firstHalf.reversed());
+                updatedEdgeSet.add(secondHalf);
+                updatedEdgeSet.add(secondHalf.reversed());
+                removed.add(edge);
+                added.add(firstHalf);
+                added.add(secondHalf);
             }
         }
 
         updatedEdgeSet.add(submoveEdge);
         updatedEdgeSet.add(submoveEdge.reversed());
+        added.add(submoveEdge);
 
         SproutsEdge redEdgeInTwoFaces =
             new SproutsFaces(
@@ -112,8 +114,88 @@ public final class SproutsStateAfterSubmove implements SproutsGameState {
         if (redEdgeInTwoFaces != null) {
             updatedEdgeSet.remove(redEdgeInTwoFaces);
             updatedEdgeSet.remove(redEdgeInTwoFaces.reversed());
+            if (
+                !added.remove(redEdgeInTwoFaces)
+             && !added.remove(redEdgeInTwoFaces.reversed())
+            ) {
+                removed.add(redEdgeInTwoFaces);
+            }
         }
+        removedEdges = removed;
+        addedEdges = added;
         edgeCache = Collections.unmodifiableSet(updatedEdgeSet);
         return edgeCache;
     }
+
+    /**
+     * Finds the cobweb edge of {@code face} that the submove ending in
+     * {@code tip} crossed.
+     * <p>
+     * The crossing point is rounded, so it does not lie exactly on the
+     * crossed edge. Of all the cobweb edges that {@code tip} projects into
+     * (strictly between their bounds), the nearest one is returned.
+     *
+     * @param face the face that the submove is drawn in
+     * @param tip the red tip of the submove
+     * @return the crossed cobweb edge or {@code null} if there is none
+     */
+    private static SproutsEdge crossedCobwebEdge(
+        final Set<SproutsEdge> face,
+        final Vertex tip
+    ) {
+        SproutsEdge nearest = null;
+        float minDistance2 = Float.POSITIVE_INFINITY;
+        for (SproutsEdge edge : face) {
+            if (!edge.color().equals(Color.RED)) {
+                continue;
+            }
+            Vector2 a = edge.from().position();
+            Vector2 b = edge.to().position();
+            Vector2 p = tip.position();
+            if (!GeometryKernel.projectsInside(a, b, p)) {
+                continue;
+            }
+            float distance2 = GeometryKernel.segmentDistance2(a, b, p);
+            if (distance2 < minDistance2) {
+                minDistance2 = distance2;
+                nearest = edge;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The grid is derived from the grid of the previous state by removing
+     * the edges that {@code this} submove replaced and adding the new ones.
+     */
+    @Override
+    public EdgeGrid edgeGrid() {
+        if (gridCache != null) {
+            return gridCache;
+        }
+        edges();
+        gridCache =
+            previousState.edgeGrid()
+                .without(removedEdges.toArray(new SproutsEdge[0]))
+                .with(addedEdges.toArray(new SproutsEdge[0]));
+        return gridCache;
+    }
+
+    @Override
+    public VertexTree vertexTree() {
+        if (treeCache == null) {
+            treeCache = new VertexTree(vertices());
+        }
+        return treeCache;
+    }
+
+    @Override
+    public SproutsRenderModel renderModel() {
+        if (modelCache == null) {
+            modelCache = new SproutsRenderModel(this);
+        }
+        return modelCache;
+    }
 }
@@ -0,0 +1,84 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.util.Iterator;
+import java.util.Set;
+
+import com.github.glusk2.sprouts.core.moves.Move;
+import com.github.glusk2.sprouts.core.moves.Submove;
+
+/**
+ * Sprouts state after all the Submoves of a Move, before the middle sprout
+ * is placed on it.
+ * <p>
+ * The state does not depend on where the middle sprout goes, so it can be
+ * computed as soon as the Move is completed, see
+ * {@link SproutsStateAfterMove}.
+ * <p>
+ * The chain of states after each Submove is built once, on the first
+ * invocation of any method, so objects of this class are not
+ * <em>thread-safe</em>. The Submoves provide the states (see
+ * {@link Submove#stateAfter(SproutsGameState)}), so the states that were
+ * already built to validate the {@code move} are reused.
+ */
+public final class SproutsStateAfterSubmoves implements SproutsGameState {
+    /** The state before the {@code move}. */
+    private final SproutsGameState previousState;
+    /** The move to draw in {@code previousState}. */
+    private final Move move;
+
+    /** The state after the last Submove of the {@code move}. */
+    private SproutsGameState lastState;
+
+    /**
+     * Creates a new Sprouts state after all the Submoves of {@code move}.
+     *
+     * @param previousState the state before the {@code move}
+     * @param move the move to draw in {@code previousState}
+     */
+    public SproutsStateAfterSubmoves(
+        final SproutsGameState previousState,
+        final Move move
+    ) {
+        this.previousState = previousState;
+        this.move = move;
+    }
+
+    @Override
+    public Set<SproutsEdge> edges() {
+        return lastState().edges();
+    }
+
+    @Override
+    public EdgeGrid edgeGrid() {
+        return lastState().edgeGrid();
+    }
+
+    @Override
+    public VertexTree vertexTree() {
+        return lastState().vertexTree();
+    }
+
+    @Override
+    public SproutsRenderModel renderModel() {
+        return lastState().renderModel();
+    }
+
+    /**
+     * Returns the state after the last Submove of the {@code move}.
+     *
+     * @return the cached state after the last Submove
+     */
+    private SproutsGameState lastState() {
+        if (lastState == null) {
+            SproutsGameState state = previousState;
+            Iterator<Submove> it = move.iterator();
+            while (it.hasNext()) {
+                Submove submove = it.next();
+                state = submove.stateAfter(state);
+                it = submove;
+            }
+            lastState = state;
+        }
+        return lastState;
+    }
+}
@@ -0,0 +1,300 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.LifecycleListener;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * A Sprouts game state renderer that caches the picture of another renderer
+ * in a frame buffer.
+ * <p>
+ * The {@code delegate} renders the committed state into an offscreen frame
+ * buffer with a transparent background. The picture is rendered in board
+ * space: it covers the part of the board that the projection maps onto the
+ * {@code viewport}, without the transform of the renderer. Every frame then
+ * only blends the frame buffer texture over the screen, with the transform
+ * of the renderer (the zoom and pan of the board), so the cost of a frame no
+ * longer depends on the size of the board.
+ * <p>
+ * The picture is rendered at the smallest power of two resolution scale
+ * (relative to the {@code viewport}) that is not smaller than the zoom of
+ * the transform, so that a zoomed in board stays sharp. Panning never
+ * renders the picture again and zooming only when the scale changes. Beyond
+ * the maximum scale, the {@code delegate} renders the (culled) board
+ * directly. The picture is also rendered again when the state, the render
+ * parameters, the projection or the viewport change, or when the
+ * application resumes (the content of a frame buffer does not survive a
+ * context loss).
+ * <p>
+ * The board is blended over whatever has been drawn before it, exactly like
+ * the {@code delegate} would draw it. The {@code delegate} has to leave the
+ * colors in the frame buffer premultiplied by alpha (opaque shapes always
+ * are). Multisampling does not apply to the cached picture. The transform
+ * of the renderer has to scale both axes equally, without a rotation (like
+ * a {@link com.github.glusk2.sprouts.core.BoardCamera} does).
+ * <p>
+ * Objects of this class are not <em>thread-safe</em>.
+ */
+public final class SproutsStateFrameBuffer
+    implements SproutsStateRenderer, LifecycleListener {
+    /**
+     * The maximum resolution scale of the picture; a picture at scale
+     * {@code s} holds {@code s * s} times the pixels of the viewport.
+     */
+    private static final int MAX_RESOLUTION_SCALE = 2;
+
+    /** The renderer to cache the picture of. */
+    private final SproutsStateRenderer delegate;
+    /** The viewport that the board is rendered in. */
+    private final Viewport viewport;
+    /** The projection that the frame buffer was rendered with. */
+    private final Matrix4 projection = new Matrix4();
+    /** The transform of the renderer, while the frame buffer renders. */
+    private final Matrix4 transform = new Matrix4();
+    /** The projection of a tile of the frame buffer. */
+    private final Matrix4 tileProjection = new Matrix4();
+    /** The part of the board that the frame buffer covers. */
+    private Rectangle area;
+    /** The maximum texture size, in pixels, {@code 0} if not known yet. */
+    private int maxTextureSize;
+
+    /** The cached picture of the {@code state}. */
+    private FrameBuffer frameBuffer;
+    /** The batch that draws the frame buffer texture to the screen. */
+    private SpriteBatch blitBatch;
+    /** {@code true} if the frame buffer has to be rendered again. */
+    private boolean invalid = true;
+
+    /** The state in the {@code frameBuffer}, {@code null} if none. */
+    private SproutsGameState state;
+    /** The edge thickness the {@code frameBuffer} was rendered with. */
+    private float thickness;
+    /** The circle segment count the {@code frameBuffer} was rendered with. */
+    private int circleSegmentCount;
+    /** Whether the {@code frameBuffer} contains cobweb. */
+    private boolean displayCobweb;
+
+    /**
+     * Creates a new frame buffer cache of the {@code delegate} picture.
+     *
+     * @param delegate the renderer to cache the picture of, owned by
+     *                 {@code this} renderer
+     * @param viewport the viewport that the board is rendered in
+     */
+    public SproutsStateFrameBuffer(
+        final SproutsStateRenderer delegate,
+        final Viewport viewport
+    ) {
+        this.delegate = delegate;
+        this.viewport = viewport;
+    }
+
+    @Override
+    public void render(
+        final ShapeRenderer renderer,
+        final SproutsGameState gameState,
+        final float edgeThickness,
+        final int segmentCount,
+        final boolean cobweb
+    ) {
+        int x = HdpiUtils.toBackBufferX(viewport.getScreenX());
+        int y = HdpiUtils.toBackBufferY(viewport.getScreenY());
+        int width = HdpiUtils.toBackBufferX(viewport.getScreenWidth());
+        int height = HdpiUtils.toBackBufferY(viewport.getScreenHeight());
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        int scale =
+            resolutionScale(
+                renderer.getTransformMatrix().getScaleX(),
+                width,
+                height
+            );
+        if (scale == 0) {
+            delegate.render(
+                renderer, gameState, edgeThickness, segmentCount, cobweb
+            );
+            return;
+        }
+        if (
+            frameBuffer == null
+         || frameBuffer.getWidth() != scale * width
+         || frameBuffer.getHeight() != scale * height
+        ) {
+            createFrameBuffer(scale * width, scale * height);
+        }
+        if (
+            invalid
+         || gameState != state
+         || edgeThickness != thickness
+         || segmentCount != circleSegmentCount
+         || cobweb != displayCobweb
+         || !Arrays.equals(
+                projection.val, renderer.getProjectionMatrix().val
+            )
+        ) {
+            projection.set(renderer.getProjectionMatrix());
+            transform.set(renderer.getTransformMatrix());
+            // a scissor rectangle is in screen coordinates and would clip
+            // the picture in the frame buffer; the blit below is clipped
+            boolean scissor = Gdx.gl.glIsEnabled(GL20.GL_SCISSOR_TEST);
+            Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
+            frameBuffer.begin();
+            Gdx.gl.glClearColor(0, 0, 0, 0);
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+            renderer.identity();
+            // the picture is rendered in viewport sized tiles, so that the
+            // delegate measures pixels (and culls) like on the screen
+            for (int i = 0; i < scale; i++) {
+                for (int j = 0; j < scale; j++) {
+                    Gdx.gl.glViewport(i * width, j * height, width, height);
+                    renderer.setProjectionMatrix(
+                        tileProjection
+                            .setToScaling(scale, scale, 1)
+                            .translate(
+                                (float) (scale - 1 - 2 * i) / scale,
+                                (float) (scale - 1 - 2 * j) / scale,
+                                0
+                            )
+                            .mul(projection)
+                    );
+                    delegate.render(
+                        renderer,
+                        gameState,
+                        edgeThickness,
+                        segmentCount,
+                        cobweb
+                    );
+                }
+            }
+            frameBuffer.end(x, y, width, height);
+            renderer.setProjectionMatrix(projection);
+            renderer.setTransformMatrix(transform);
+            if (scissor) {
+                Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+            }
+            invalid = false;
+            state = gameState;
+            thickness = edgeThickness;
+            circleSegmentCount = segmentCount;
+            displayCobweb = cobweb;
+            area = new RenderView(projection, width, height).visibleArea();
+        }
+        blitBatch.setProjectionMatrix(renderer.getProjectionMatrix());
+        blitBatch.setTransformMatrix(renderer.getTransformMatrix());
+        blitBatch.begin();
+        blitBatch.draw(
+            frameBuffer.getColorBufferTexture(),
+            area.x,
+            area.y,
+            area.width,
+            area.height,
+            0,
+            0,
+            1,
+            1
+        );
+        blitBatch.end();
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+        invalid = true;
+    }
+
+    @Override
+    public void dispose() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+        }
+        if (blitBatch != null) {
+            blitBatch.dispose();
+            blitBatch = null;
+            Gdx.app.removeLifecycleListener(this);
+        }
+        delegate.dispose();
+        state = null;
+    }
+
+    /**
+     * Replaces the frame buffer with a new one of the specified size.
+     * <p>
+     * On the first invocation, the batch that draws the frame buffer is
+     * created as well and {@code this} renderer starts listening to the
+     * application lifecycle.
+     *
+     * @param width the width of the new frame buffer, in pixels
+     * @param height the height of the new frame buffer, in pixels
+     */
+    private void createFrameBuffer(final int width, final int height) {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+        }
+        frameBuffer = new FrameBuffer(Format.RGBA8888, width, height, false);
+        Texture texture = frameBuffer.getColorBufferTexture();
+        texture.setFilter(TextureFilter.Linear, TextureFilter.Linear);
+        invalid = true;
+        if (blitBatch == null) {
+            blitBatch = new SpriteBatch(1);
+            blitBatch.setBlendFunction(
+                GL20.GL_ONE,
+                GL20.GL_ONE_MINUS_SRC_ALPHA
+            );
+            Gdx.app.addLifecycleListener(this);
+        }
+    }
+
+    /**
+     * Returns the resolution scale to render the picture at.
+     *
+     * @param zoom the zoom of the transform of the renderer
+     * @param width the width of the viewport, in pixels
+     * @param height the height of the viewport, in pixels
+     * @return the smallest power of two that is not smaller than
+     *         {@code zoom}, or {@code 0} if the picture at that scale would
+     *         exceed the maximum scale or the maximum texture size
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    private int resolutionScale(
+        final float zoom,
+        final int width,
+        final int height
+    ) {
+        if (maxTextureSize == 0) {
+            // glGetIntegerv requires a buffer of at least 16 integers
+            IntBuffer size = BufferUtils.newIntBuffer(16);
+            Gdx.gl.glGetIntegerv(GL20.GL_MAX_TEXTURE_SIZE, size);
+            maxTextureSize = size.get(0);
+        }
+        int scale = 1;
+        while (scale < zoom) {
+            scale *= 2;
+        }
+        if (
+            scale > MAX_RESOLUTION_SCALE
+         || scale * Math.max(width, height) > maxTextureSize
+        ) {
+            return 0;
+        }
+        return scale;
+    }
+}
@@ -0,0 +1,159 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ImmediateModeRenderer20;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.FloatArray;
+import com.github.glusk2.sprouts.core.geom.PolylineTriangles;
+
+/**
+ * A retained mesh of a Sprouts game state.
+ * <p>
+ * The game state is tessellated into triangles once and uploaded into a
+ * static vertex buffer. As long as the same state is rendered with the same
+ * parameters, every frame only issues a single draw call; the state is
+ * tessellated again only when it changes.
+ * <p>
+ * The picture is the same as the one of
+ * {@link SproutsGameState#render(ShapeRenderer, float, int, boolean)}, with
+ * round joins between the line segments of the edges.
+ * <p>
+ * The mesh and the shader are created lazily, on the first render, and have
+ * to be disposed of with {@link #dispose()}. Objects of this class are not
+ * <em>thread-safe</em>.
+ */
+public final class SproutsStateMesh implements SproutsStateRenderer {
+    /** The name of the combined projection and transform matrix uniform. */
+    private static final String PROJ_MODEL_VIEW = "u_projModelView";
+
+    /** The combined projection and transform matrix of the renderer. */
+    private final Matrix4 projModelView = new Matrix4();
+
+    /** The shader that renders the mesh. */
+    private ShaderProgram shader;
+    /** The vertex buffer with the triangles of the {@code state}. */
+    private Mesh mesh;
+    /** The number of vertices in the {@code mesh}. */
+    private int vertexCount;
+
+    /** The state in the {@code mesh}, {@code null} if none. */
+    private SproutsGameState state;
+    /** The edge thickness the {@code mesh} was tessellated with. */
+    private float thickness;
+    /** The circle segment count the {@code mesh} was tessellated with. */
+    private int circleSegmentCount;
+    /** Whether the {@code mesh} contains cobweb vertices and edges. */
+    private boolean displayCobweb;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The {@code segmentCount} has no effect: circles are tessellated with
+     * as many segments as their size on the screen requires (see
+     * {@link RenderView#circleSegmentCount(float)}). If the segment count or
+     * any of the other arguments differ from the previous call, the mesh is
+     * rebuilt first.
+     */
+    @Override
+    public void render(
+        final ShapeRenderer renderer,
+        final SproutsGameState gameState,
+        final float edgeThickness,
+        final int segmentCount,
+        final boolean cobweb
+    ) {
+        projModelView
+            .set(renderer.getProjectionMatrix())
+            .mul(renderer.getTransformMatrix());
+        int viewSegmentCount =
+            new RenderView(
+                projModelView,
+                Gdx.graphics.getBackBufferWidth(),
+                Gdx.graphics.getBackBufferHeight()
+            ).circleSegmentCount(edgeThickness);
+        if (
+            mesh == null
+         || gameState != state
+         || edgeThickness != thickness
+         || viewSegmentCount != circleSegmentCount
+         || cobweb != displayCobweb
+        ) {
+            rebuild(gameState, edgeThickness, viewSegmentCount, cobweb);
+        }
+        if (vertexCount == 0) {
+            return;
+        }
+        shader.begin();
+        shader.setUniformMatrix(PROJ_MODEL_VIEW, projModelView);
+        mesh.render(shader, GL20.GL_TRIANGLES, 0, vertexCount);
+        shader.end();
+    }
+
+    @Override
+    public void dispose() {
+        if (mesh != null) {
+            mesh.dispose();
+            mesh = null;
+        }
+        if (shader != null) {
+            shader.dispose();
+            shader = null;
+        }
+        state = null;
+    }
+
+    /**
+     * Tessellates {@code gameState} and uploads the triangles into the
+     * {@code mesh}.
+     * <p>
+     * The vertex buffer is only reallocated if it is too small.
+     *
+     * @param gameState the state to render
+     * @param edgeThickness the thickness of edges and the radius of vertices
+     * @param segmentCount the number of segments for the circles drawn
+     * @param cobweb if {@code true}, display cobweb vertices and edges
+     */
+    private void rebuild(
+        final SproutsGameState gameState,
+        final float edgeThickness,
+        final int segmentCount,
+        final boolean cobweb
+    ) {
+        PolylineTriangles triangles = new PolylineTriangles(segmentCount);
+        gameState.tessellate(triangles, edgeThickness, cobweb);
+        vertexCount = triangles.vertexCount();
+        if (shader == null) {
+            shader =
+                ImmediateModeRenderer20.createDefaultShader(false, true, 0);
+        }
+        if (mesh == null || mesh.getMaxVertices() < vertexCount) {
+            if (mesh != null) {
+                mesh.dispose();
+            }
+            mesh =
+                new Mesh(
+                    true,
+                    Math.max(1, vertexCount),
+                    0,
+                    new VertexAttribute(
+                        Usage.Position,
+                        2,
+                        ShaderProgram.POSITION_ATTRIBUTE
+                    ),
+                    VertexAttribute.ColorPacked()
+                );
+        }
+        FloatArray vertices = triangles.vertices();
+        mesh.setVertices(vertices.items, 0, vertices.size);
+        state = gameState;
+        thickness = edgeThickness;
+        circleSegmentCount = segmentCount;
+        displayCobweb = cobweb;
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Renders committed Sprouts game states.
+ * <p>
+ * Implementations may keep GPU resources for the last rendered state; these
+ * are released with {@link #dispose()}.
+ */
+public interface SproutsStateRenderer extends Disposable {
+    /**
+     * Renders {@code gameState} with the projection and transform matrix of
+     * {@code renderer}.
+     *
+     * @param renderer the renderer whose matrices to render with; it must
+     *                 not be drawing
+     * @param gameState the state to render
+     * @param edgeThickness the thickness of edges and the radius of vertices
+     * @param segmentCount the number of segments for the circles drawn
+     * @param cobweb if {@code true}, display cobweb vertices and edges
+     */
+    void render(
+        ShapeRenderer renderer,
+        SproutsGameState gameState,
+        float edgeThickness,
+        int segmentCount,
+        boolean cobweb
+    );
+}
@@ -0,0 +1,249 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.github.glusk2.sprouts.core.geom.CapsuleQuads;
+
+/**
+ * A retained signed distance field mesh of a Sprouts game state.
+ * <p>
+ * Every line segment of an edge is drawn as a capsule and every vertex as a
+ * disc, each with a single quad (see {@link CapsuleQuads}). The fragment
+ * shader computes the distance to the capsule and blends a one pixel wide
+ * antialiased border, so the shapes stay round at any scale and the
+ * triangle count does not depend on a circle segment count.
+ * <p>
+ * The layers (edges, vertex discs and their cores) are stored back to back
+ * in a static vertex buffer and drawn with a single draw call; the order of
+ * the quads keeps the painter's order of the layers. The state is tessellated
+ * again only when it changes.
+ * <p>
+ * The mesh and the shader are created lazily, on the first render, and have
+ * to be disposed of with {@link #dispose()}. Objects of this class are not
+ * <em>thread-safe</em>.
+ */
+public final class SproutsStateSdf implements SproutsStateRenderer {
+    /**
+     * Scales the edge thickness to get the space between a capsule and its
+     * quad, where the antialiased border is drawn.
+     */
+    private static final float MARGIN_MODIFIER = .25f;
+    /** The name of the combined projection and transform matrix uniform. */
+    private static final String PROJ_MODEL_VIEW = "u_projModelView";
+    /** The name of the pixel size uniform. */
+    private static final String PIXEL_SIZE = "u_pixelSize";
+    /** The name of the capsule segment attribute. */
+    private static final String SEGMENT_ATTRIBUTE = "a_segment";
+    /** The name of the capsule radius attribute. */
+    private static final String RADIUS_ATTRIBUTE = "a_radius";
+    /** The number of components of the capsule segment attribute. */
+    private static final int SEGMENT_COMPONENTS = 4;
+    /**
+     * The GLSL factor that restores the full range of the packed vertex
+     * color alpha.
+     * <p>
+     * {@link com.badlogic.gdx.graphics.Color#toFloatBits()} clears the
+     * lowest bit of the alpha byte, so that a packed color is never a NaN.
+     * An opaque color thus reaches the shader with alpha {@code 254 / 255}.
+     * The default {@code SpriteBatch} shader of libGDX scales it back the
+     * same way.
+     */
+    private static final String PACKED_ALPHA_SCALE = "(255.0 / 254.0)";
+
+    /** The vertex shader source. */
+    private static final String VERTEX_SHADER =
+        "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+      + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+      + "attribute vec4 " + SEGMENT_ATTRIBUTE + ";\n"
+      + "attribute float " + RADIUS_ATTRIBUTE + ";\n"
+      + "uniform mat4 " + PROJ_MODEL_VIEW + ";\n"
+      + "varying vec4 v_color;\n"
+      + "varying vec2 v_local;\n"
+      + "varying vec2 v_axis;\n"
+      + "varying float v_radius;\n"
+      + "void main() {\n"
+      + "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+      + "    v_color.a = v_color.a * " + PACKED_ALPHA_SCALE + ";\n"
+      // relative coordinates keep the fragment precision requirements low
+      + "    v_local = " + ShaderProgram.POSITION_ATTRIBUTE + ".xy - "
+      +          SEGMENT_ATTRIBUTE + ".xy;\n"
+      + "    v_axis = " + SEGMENT_ATTRIBUTE + ".zw - "
+      +          SEGMENT_ATTRIBUTE + ".xy;\n"
+      + "    v_radius = " + RADIUS_ATTRIBUTE + ";\n"
+      + "    gl_Position = " + PROJ_MODEL_VIEW + " * "
+      +          ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+      + "}\n";
+
+    /** The fragment shader source. */
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n"
+      + "#ifdef GL_FRAGMENT_PRECISION_HIGH\n"
+      + "precision highp float;\n"
+      + "#else\n"
+      + "precision mediump float;\n"
+      + "#endif\n"
+      + "#endif\n"
+      + "uniform float " + PIXEL_SIZE + ";\n"
+      + "varying vec4 v_color;\n"
+      + "varying vec2 v_local;\n"
+      + "varying vec2 v_axis;\n"
+      + "varying float v_radius;\n"
+      + "void main() {\n"
+      + "    float h = clamp(\n"
+      + "        dot(v_local, v_axis) / max(dot(v_axis, v_axis), 1e-6),\n"
+      + "        0.0,\n"
+      + "        1.0\n"
+      + "    );\n"
+      + "    float d = length(v_local - v_axis * h) - v_radius;\n"
+      + "    float coverage = clamp(0.5 - d / " + PIXEL_SIZE + ", 0.0, 1.0);\n"
+      + "    gl_FragColor = vec4(v_color.rgb, v_color.a * coverage);\n"
+      + "}\n";
+
+    /** The combined projection and transform matrix of the renderer. */
+    private final Matrix4 projModelView = new Matrix4();
+
+    /** The shader that renders the mesh. */
+    private ShaderProgram shader;
+    /** The vertex buffer with the quads of the {@code state}. */
+    private Mesh mesh;
+    /** The number of vertices in the {@code mesh}. */
+    private int vertexCount;
+
+    /** The state in the {@code mesh}, {@code null} if none. */
+    private SproutsGameState state;
+    /** The edge thickness the {@code mesh} was tessellated with. */
+    private float thickness;
+    /** Whether the {@code mesh} contains cobweb vertices and edges. */
+    private boolean displayCobweb;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The {@code segmentCount} has no effect: circles are exact. If any of
+     * the other arguments differ from the previous call, the mesh is rebuilt
+     * first.
+     */
+    @Override
+    public void render(
+        final ShapeRenderer renderer,
+        final SproutsGameState gameState,
+        final float edgeThickness,
+        final int segmentCount,
+        final boolean cobweb
+    ) {
+        if (
+            mesh == null
+         || gameState != state
+         || edgeThickness != thickness
+         || cobweb != displayCobweb
+        ) {
+            rebuild(gameState, edgeThickness, cobweb);
+        }
+        if (vertexCount == 0) {
+            return;
+        }
+        projModelView
+            .set(renderer.getProjectionMatrix())
+            .mul(renderer.getTransformMatrix());
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        // alpha is accumulated separately, so that the picture can be cached
+        // in a transparent frame buffer, see SproutsStateFrameBuffer
+        Gdx.gl.glBlendFuncSeparate(
+            GL20.GL_SRC_ALPHA,
+            GL20.GL_ONE_MINUS_SRC_ALPHA,
+            GL20.GL_ONE,
+            GL20.GL_ONE_MINUS_SRC_ALPHA
+        );
+        shader.begin();
+        shader.setUniformMatrix(PROJ_MODEL_VIEW, projModelView);
+        shader.setUniformf(
+            PIXEL_SIZE,
+            new RenderView(
+                projModelView,
+                Gdx.graphics.getBackBufferWidth(),
+                Gdx.graphics.getBackBufferHeight()
+            ).pixelSize()
+        );
+        mesh.render(shader, GL20.GL_TRIANGLES, 0, vertexCount);
+        shader.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    @Override
+    public void dispose() {
+        if (mesh != null) {
+            mesh.dispose();
+            mesh = null;
+        }
+        if (shader != null) {
+            shader.dispose();
+            shader = null;
+        }
+        state = null;
+    }
+
+    /**
+     * Tessellates {@code gameState} and uploads the quads into the
+     * {@code mesh}.
+     * <p>
+     * The vertex buffer is only reallocated if it is too small.
+     *
+     * @param gameState the state to render
+     * @param edgeThickness the thickness of edges and the radius of vertices
+     * @param cobweb if {@code true}, display cobweb vertices and edges
+     */
+    private void rebuild(
+        final SproutsGameState gameState,
+        final float edgeThickness,
+        final boolean cobweb
+    ) {
+        CapsuleQuads quads =
+            new CapsuleQuads(MARGIN_MODIFIER * edgeThickness);
+        gameState.tessellate(quads, edgeThickness, cobweb);
+        vertexCount = quads.vertexCount();
+        if (shader == null) {
+            shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+            if (!shader.isCompiled()) {
+                throw new GdxRuntimeException(
+                    "Error compiling shader: " + shader.getLog()
+                );
+            }
+        }
+        if (mesh == null || mesh.getMaxVertices() < vertexCount) {
+            if (mesh != null) {
+                mesh.dispose();
+            }
+            mesh =
+                new Mesh(
+                    true,
+                    Math.max(1, vertexCount),
+                    0,
+                    new VertexAttribute(
+                        Usage.Position,
+                        2,
+                        ShaderProgram.POSITION_ATTRIBUTE
+                    ),
+                    VertexAttribute.ColorPacked(),
+                    new VertexAttribute(
+                        Usage.Generic,
+                        SEGMENT_COMPONENTS,
+                        SEGMENT_ATTRIBUTE
+                    ),
+                    new VertexAttribute(Usage.Generic, 1, RADIUS_ATTRIBUTE)
+                );
+        }
+        FloatArray vertices = quads.vertices();
+        mesh.setVertices(vertices.items, 0, vertices.size);
+        state = gameState;
+        thickness = edgeThickness;
+        displayCobweb = cobweb;
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Renders committed Sprouts game states in immediate mode, with
+ * {@link SproutsRenderModel#render(ShapeRenderer, float, int, boolean)}.
+ * <p>
+ * Every frame tessellates the state again on the CPU. This is the reference
+ * renderer that the retained renderers are compared with.
+ * <p>
+ * Only the part of the state that is visible (see
+ * {@link RenderView#visibleArea()}) is rendered, and circles are drawn with
+ * as many segments as their size on the screen requires, so that a zoomed in
+ * or zoomed out view of a large board stays cheap to draw.
+ */
+public final class SproutsStateShapes implements SproutsStateRenderer {
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The {@code segmentCount} has no effect: it follows the size of the
+     * circles on the screen.
+     */
+    @Override
+    public void render(
+        final ShapeRenderer renderer,
+        final SproutsGameState gameState,
+        final float edgeThickness,
+        final int segmentCount,
+        final boolean cobweb
+    ) {
+        RenderView view = new RenderView(renderer);
+        Rectangle area = view.visibleArea();
+        area.set(
+            area.x - edgeThickness,
+            area.y - edgeThickness,
+            area.width + 2 * edgeThickness,
+            area.height + 2 * edgeThickness
+        );
+        gameState.renderModel().visibleIn(area).render(
+            renderer,
+            edgeThickness,
+            view.circleSegmentCount(edgeThickness),
+            cobweb
+        );
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
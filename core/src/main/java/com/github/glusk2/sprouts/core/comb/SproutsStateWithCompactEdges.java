@@ -0,0 +1,175 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.geom.DouglasPeuckerSimpl;
+import com.github.glusk2.sprouts.core.geom.GeometryKernel;
+import com.github.glusk2.sprouts.core.geom.Polyline;
+import com.github.glusk2.sprouts.core.geom.PolylineGrid;
+
+/**
+ * Sprouts State With Compact Edges.
+ * <p>
+ * A state that reduces the polylines of the black edges that
+ * {@code stateAfterMove} added to {@code previousState}. Every point of an
+ * original polyline is at most {@code tolerance} away from its compacted
+ * polyline, see {@link DouglasPeuckerSimpl}.
+ * <p>
+ * Compaction preserves the topology of the game state:
+ * <ul>
+ *   <li>
+ *     the first and the last line segment of every edge are kept, so the
+ *     order of edges around every vertex stays the same;
+ *   </li>
+ *   <li>
+ *     a compacted edge that would cross itself or any other edge is
+ *     discarded and the original edge is kept instead.
+ *   </li>
+ * </ul>
+ */
+public final class SproutsStateWithCompactEdges implements SproutsGameState {
+    /**
+     * Edges with fewer points than this have no points to drop between the
+     * first and the last line segment.
+     */
+    private static final int MIN_POLYLINE_SIZE = 5;
+
+    /** The state before a move is drawn. */
+    private final SproutsGameState previousState;
+    /** The state after the move is drawn. */
+    private final SproutsGameState stateAfterMove;
+    /** Point-to-segment distance tolerance of the compaction. */
+    private final float tolerance;
+
+    /** A cached value of {@link #edges()}. */
+    private Set<SproutsEdge> edgeCache;
+    /** A cached value of {@link #edgeGrid()}. */
+    private EdgeGrid gridCache;
+
+    /**
+     * Creates a new state that compacts the edges that
+     * {@code stateAfterMove} added to {@code previousState}.
+     *
+     * @param previousState the state before a move is drawn
+     * @param stateAfterMove the state after the move is drawn
+     * @param tolerance point-to-segment distance tolerance of the
+     *                  compaction
+     */
+    public SproutsStateWithCompactEdges(
+        final SproutsGameState previousState,
+        final SproutsGameState stateAfterMove,
+        final float tolerance
+    ) {
+        this.previousState = previousState;
+        this.stateAfterMove = stateAfterMove;
+        this.tolerance = tolerance;
+    }
+
+    @Override
+    public Set<SproutsEdge> edges() {
+        if (edgeCache != null) {
+            return edgeCache;
+        }
+        Set<SproutsEdge> oldEdges = previousState.edges();
+        Set<SproutsEdge> compactEdges =
+            new HashSet<SproutsEdge>(stateAfterMove.edges());
+        EdgeGrid grid = stateAfterMove.edgeGrid();
+        for (SproutsEdge edge : stateAfterMove.edges()) {
+            if (
+                !edge.isPositive()
+             || !edge.color().equals(Color.BLACK)
+             || edge.polyline().points().size() < MIN_POLYLINE_SIZE
+             || oldEdges.contains(edge)
+            ) {
+                continue;
+            }
+            SproutsEdge compacted = compacted(edge, grid);
+            if (compacted != edge) {
+                compactEdges.remove(edge);
+                compactEdges.remove(edge.reversed());
+                compactEdges.add(compacted);
+                compactEdges.add(compacted.reversed());
+                grid = grid.without(edge).with(compacted);
+            }
+        }
+        gridCache = grid;
+        edgeCache = Collections.unmodifiableSet(compactEdges);
+        return edgeCache;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The grid is derived from the grid of {@code stateAfterMove} by
+     * replacing each compacted edge.
+     */
+    @Override
+    public EdgeGrid edgeGrid() {
+        edges();
+        return gridCache;
+    }
+
+    /**
+     * Compacts the polyline of {@code edge}.
+     *
+     * @param edge a positive edge to compact
+     * @param grid the segments of all edges in the current state
+     * @return the compacted edge or {@code edge} itself, if it can not be
+     *         compacted without changing the topology
+     */
+    private SproutsEdge compacted(
+        final SproutsEdge edge,
+        final EdgeGrid grid
+    ) {
+        List<Vector2> points = edge.polyline().points();
+        int size = points.size();
+        List<Vector2> result = new ArrayList<Vector2>();
+        result.add(points.get(0));
+        result.addAll(
+            new DouglasPeuckerSimpl(
+                new Polyline.WrappedList(points.subList(1, size - 1)),
+                tolerance
+            ).points()
+        );
+        result.add(points.get(size - 1));
+        if (result.size() == size) {
+            return edge;
+        }
+
+        PolylineGrid compactedSoFar = new PolylineGrid();
+        Vector2 crossing = new Vector2();
+        for (int i = 0; i < result.size(); i++) {
+            Vector2 p1 = result.get(i);
+            if (i > 0) {
+                Vector2 p0 = result.get(i - 1);
+                if (compactedSoFar.firstCrossing(p0, p1, crossing) != -1) {
+                    return edge;
+                }
+                for (EdgeGrid.Segment segment : grid.segmentsNear(p0, p1)) {
+                    if (
+                        !segment.edge().equals(edge)
+                     && GeometryKernel.crossesSegment(
+                            p0, p1, segment.a(), segment.b(), crossing
+                        )
+                    ) {
+                        return edge;
+                    }
+                }
+            }
+            compactedSoFar.append(p1);
+        }
+        return
+            new SproutsEdge(
+                true,
+                new Polyline.WrappedList(result),
+                edge.from().color(),
+                edge.to().color()
+            );
+    }
+}
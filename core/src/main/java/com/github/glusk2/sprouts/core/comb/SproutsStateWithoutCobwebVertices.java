@@ -26,6 +26,15 @@ public final class SproutsStateWithoutCobwebVertices
     /** The state from which to remove the redundant cobweb vertices. */
     private final SproutsGameState previousState;
 
+    /** A cached value of {@link #edges()}. */
+    private Set<SproutsEdge> edgeCache;
+    /** A cached value of {@link #edgeGrid()}. */
+    private EdgeGrid gridCache;
+    /** Edges of {@code previousState} that are not in {@code this} state. */
+    private List<SproutsEdge> removedEdges;
+    /** Edges of {@code this} state that are not in {@code previousState}. */
+    private List<SproutsEdge> addedEdges;
+
     /**
      * Creates a new state without redundant cobweb vertices by wrapping a
      * state that may contain such vertices.
@@ -41,6 +50,9 @@ public final class SproutsStateWithoutCobwebVertices
 
     @Override
     public Set<SproutsEdge> edges() {
+        if (edgeCache != null) {
+            return edgeCache;
+        }
         List<Vertex> verticesToRemove = previousState.vertices().stream()
             .filter(v ->
                 v.color().equals(Color.RED)
@@ -48,6 +60,8 @@ public final class SproutsStateWithoutCobwebVertices
             )
             .collect(Collectors.toList());
 
+        List<SproutsEdge> removed = new ArrayList<>();
+        List<SproutsEdge> added = new ArrayList<>();
         SproutsGameState result = previousState;
         for (Vertex vertexToRemove : verticesToRemove) {
             SproutsEdge firstHalf = result.edges().stream()
@@ -80,9 +94,32 @@ public final class SproutsStateWithoutCobwebVertices
             simplifiedEdges.remove(secondHalf.reversed());
             simplifiedEdges.add(merged);
             simplifiedEdges.add(merged.reversed());
+            if (!added.remove(firstHalf)) {
+                removed.add(firstHalf);
+            }
+            if (!added.remove(secondHalf)) {
+                removed.add(secondHalf);
+            }
+            added.add(merged);
 
             result = () -> simplifiedEdges;
         }
-        return result.edges();
+        removedEdges = removed;
+        addedEdges = added;
+        edgeCache = result.edges();
+        return edgeCache;
+    }
+
+    @Override
+    public EdgeGrid edgeGrid() {
+        if (gridCache != null) {
+            return gridCache;
+        }
+        edges();
+        gridCache =
+            previousState.edgeGrid()
+                .without(removedEdges.toArray(new SproutsEdge[0]))
+                .with(addedEdges.toArray(new SproutsEdge[0]));
+        return gridCache;
     }
 }
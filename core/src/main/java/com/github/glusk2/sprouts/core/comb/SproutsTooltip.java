@@ -2,7 +2,6 @@ package com.github.glusk2.sprouts.core.comb;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
@@ -16,6 +15,11 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
  * in which the current move can end.
  * <p>
  * {@link #edges()} returns an empty set.
+ * <p>
+ * The tooltip sprouts are computed once, on the first invocation of
+ * {@link #vertices()}, so a tooltip can be rendered many times while a move
+ * is drawn in the same face. Objects of this class are not
+ * <em>thread-safe</em>.
  */
 public final class SproutsTooltip implements SproutsGameState {
     @SuppressWarnings("checkstyle:javadocvariable")
@@ -27,6 +31,9 @@ public final class SproutsTooltip implements SproutsGameState {
     /** The origin of the move. */
     private final Vertex moveOrigin;
 
+    /** A cached value of {@link #vertices()}. */
+    private Set<Vertex> vertexCache;
+
     /**
      * Creates a new tooltip state by providing the move and state
      * before move.
@@ -53,18 +60,26 @@ public final class SproutsTooltip implements SproutsGameState {
      */
     @Override
     public Set<Vertex> vertices() {
-        return face.vertices().stream()
-            .filter(v -> v.color().equals(Color.BLACK))
-            .filter(v -> {
-                Number blackDegree =
-                    new VertexDegree(v, stateBeforeMove, Color.BLACK);
-                return
-                    !v.equals(moveOrigin) && blackDegree.intValue()
-                        < DEAD_SPROUT_DEGREE
-                 || v.equals(moveOrigin) && blackDegree.intValue()
-                        < DEAD_SPROUT_DEGREE - 1;
-            })
-            .collect(Collectors.toSet());
+        if (vertexCache != null) {
+            return vertexCache;
+        }
+        Set<Vertex> alive =
+            new HashSet<Vertex>(stateBeforeMove.renderModel().aliveSprouts());
+        Set<Vertex> result = new HashSet<Vertex>();
+        for (Vertex v : face.vertices()) {
+            if (
+                alive.contains(v)
+             && (
+                    !v.equals(moveOrigin)
+                 || new VertexDegree(v, stateBeforeMove, Color.BLACK)
+                        .intValue() < DEAD_SPROUT_DEGREE - 1
+                )
+            ) {
+                result.add(v);
+            }
+        }
+        vertexCache = result;
+        return result;
     }
 
     /**
@@ -0,0 +1,192 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A 2-d tree of graph vertices.
+ * <p>
+ * The tree is built once, from a fixed collection of vertices, and can then
+ * answer nearest-neighbour queries in {@code O(log n)} time on average,
+ * without allocating any objects.
+ * <p>
+ * The tree is stored implicitly in an array: the root of every subtree is
+ * the median element of its index range, the left subtree is the range below
+ * the median and the right subtree is the range above it. Subtrees split
+ * alternately by the x and y coordinates.
+ */
+public final class VertexTree {
+    /** The vertices, in tree order. */
+    private final Vertex[] vertices;
+    /** The x coordinates of the {@code vertices}. */
+    private final float[] xs;
+    /** The y coordinates of the {@code vertices}. */
+    private final float[] ys;
+    /** The colors of the {@code vertices}. */
+    private final Color[] colors;
+    /**
+     * Tells whether the subtree rooted in each of the {@code vertices} splits
+     * by the x ({@code true}) or by the y coordinate ({@code false}).
+     */
+    private final boolean[] splitsByX;
+
+    /**
+     * Builds a new tree from a collection of {@code vertices}.
+     *
+     * @param vertices the vertices to put in the tree
+     */
+    public VertexTree(final Collection<Vertex> vertices) {
+        this.vertices = vertices.toArray(new Vertex[0]);
+        this.xs = new float[this.vertices.length];
+        this.ys = new float[this.vertices.length];
+        this.colors = new Color[this.vertices.length];
+        this.splitsByX = new boolean[this.vertices.length];
+        build(0, this.vertices.length, true);
+        for (int i = 0; i < this.vertices.length; i++) {
+            Vector2 position = this.vertices[i].position();
+            xs[i] = position.x;
+            ys[i] = position.y;
+            colors[i] = this.vertices[i].color();
+        }
+    }
+
+    /**
+     * Finds the vertex of the specified {@code color} that is nearest to
+     * {@code position}.
+     * <p>
+     * Only vertices that are less than {@code maxRadius} away from
+     * {@code position} are considered. If there is no such vertex, a new
+     * instance of {@link VoidVertex} is returned.
+     *
+     * @param position the query position
+     * @param maxRadius the maximum distance (exclusive) between
+     *                  {@code position} and the result
+     * @param color the color of the vertex to find
+     * @return the nearest vertex of the specified {@code color}
+     */
+    public Vertex nearest(
+        final Vector2 position,
+        final float maxRadius,
+        final Color color
+    ) {
+        int best =
+            search(
+                0,
+                vertices.length,
+                position.x,
+                position.y,
+                color,
+                -1,
+                maxRadius * maxRadius
+            );
+        if (best == -1) {
+            return new VoidVertex();
+        }
+        return vertices[best];
+    }
+
+    /**
+     * Searches the subtree in index range {@code [lo, hi)} for a vertex of
+     * the specified {@code color} that is closer to {@code (x, y)} than
+     * {@code best}.
+     *
+     * @param lo the first index of the subtree range
+     * @param hi the index past the last index of the subtree range
+     * @param x the x coordinate of the query position
+     * @param y the y coordinate of the query position
+     * @param color the color of the vertex to find
+     * @param best the index of the best vertex found so far, or {@code -1}
+     * @param best2 the squared distance to beat
+     * @return the index of the best vertex found, or {@code -1}
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    private int search(
+        final int lo,
+        final int hi,
+        final float x,
+        final float y,
+        final Color color,
+        final int best,
+        final float best2
+    ) {
+        if (lo >= hi) {
+            return best;
+        }
+        int mid = (lo + hi) >>> 1;
+        float dx = x - xs[mid];
+        float dy = y - ys[mid];
+        float d2 = dx * dx + dy * dy;
+        int result = best;
+        float result2 = best2;
+        if (d2 < result2 && colors[mid].equals(color)) {
+            result = mid;
+            result2 = d2;
+        }
+        float diff = dy;
+        if (splitsByX[mid]) {
+            diff = dx;
+        }
+        int nearLo = mid + 1;
+        int nearHi = hi;
+        int farLo = lo;
+        int farHi = mid;
+        if (diff < 0) {
+            nearLo = lo;
+            nearHi = mid;
+            farLo = mid + 1;
+            farHi = hi;
+        }
+        int near = search(nearLo, nearHi, x, y, color, result, result2);
+        if (near != result) {
+            result = near;
+            result2 = distance2(near, x, y);
+        }
+        if (diff * diff < result2) {
+            result = search(farLo, farHi, x, y, color, result, result2);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the squared distance between vertex {@code i} and
+     * {@code (x, y)}.
+     *
+     * @param i the index of the vertex
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @return the squared distance
+     */
+    private float distance2(final int i, final float x, final float y) {
+        float dx = x - xs[i];
+        float dy = y - ys[i];
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Arranges the {@code vertices} in index range {@code [lo, hi)} into a
+     * subtree.
+     *
+     * @param lo the first index of the subtree range
+     * @param hi the index past the last index of the subtree range
+     * @param byX whether the subtree splits by the x coordinate
+     */
+    private void build(final int lo, final int hi, final boolean byX) {
+        if (lo >= hi) {
+            return;
+        }
+        Comparator<Vertex> order =
+            Comparator.comparingDouble(v -> v.position().y);
+        if (byX) {
+            order = Comparator.comparingDouble(v -> v.position().x);
+        }
+        Arrays.sort(vertices, lo, hi, order);
+        int mid = (lo + hi) >>> 1;
+        splitsByX[mid] = byX;
+        build(lo, mid, !byX);
+        build(mid + 1, hi, !byX);
+    }
+}
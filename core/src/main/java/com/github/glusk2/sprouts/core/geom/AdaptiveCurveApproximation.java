@@ -0,0 +1,209 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.List;
+
+import com.badlogic.gdx.math.Bezier;
+import com.badlogic.gdx.math.Path;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * Adaptive polyline approximation of a curve.
+ * <p>
+ * Unlike {@link CurveApproximation}, which divides every spline into the
+ * same number of segments, this approximation subdivides a spline only
+ * until each piece is flat: it deviates from its chord by at most
+ * {@code tolerance} and the chord is at most {@code maxSegmentLength} long.
+ * Straight runs of the curve are thus approximated by a few long segments and
+ * only the bends get many short ones.
+ * <p>
+ * Cubic Bezier splines are subdivided with the de Casteljau algorithm and
+ * their flatness is measured by the distance of the inner control points from
+ * the chord, which bounds the deviation of the curve. Other splines are
+ * subdivided by their parameter, with the deviation of the middle point as
+ * the flatness measure.
+ * <p>
+ * Like {@link CurveApproximation}, the result contains the first point of
+ * each spline, but not the last point of the last spline. Points are
+ * produced into a {@link PackedPoints} list.
+ */
+public final class AdaptiveCurveApproximation implements Polyline {
+    /** The maximum subdivision depth of a spline. */
+    private static final int MAX_DEPTH = 10;
+    /**
+     * The minimum subdivision depth of a non-Bezier spline, which protects
+     * the middle point flatness measure from S-shaped splines.
+     */
+    private static final int MIN_DEPTH = 2;
+    /** The number of control points of a cubic Bezier spline. */
+    private static final int CUBIC = 4;
+    /** The number of coordinates of a cubic Bezier spline. */
+    private static final int CUBIC_COORDINATES = 8;
+
+    /** The curve to approximate as a polyline. */
+    private final Curve<Path<Vector2>> curve;
+    /** The maximum deviation of the curve from the approximation. */
+    private final float tolerance;
+    /** The maximum length of a line segment of the approximation. */
+    private final float maxSegmentLength;
+
+    /**
+     * Builds a new AdaptiveCurveApproximation.
+     *
+     * @param curve the curve to approximate as a polyline
+     * @param tolerance the maximum deviation of the curve from the
+     *                  approximation
+     * @param maxSegmentLength the maximum length of a line segment of the
+     *                         approximation
+     */
+    public AdaptiveCurveApproximation(
+        final Curve<Path<Vector2>> curve,
+        final float tolerance,
+        final float maxSegmentLength
+    ) {
+        this.curve = curve;
+        this.tolerance = tolerance;
+        this.maxSegmentLength = maxSegmentLength;
+    }
+
+    @Override
+    public List<Vector2> points() {
+        FloatArray result = new FloatArray();
+        for (Path<Vector2> spline : curve.splines()) {
+            if (
+                spline instanceof Bezier
+             && ((Bezier<Vector2>) spline).points.size == CUBIC
+            ) {
+                Bezier<Vector2> bezier = (Bezier<Vector2>) spline;
+                float[] c = new float[CUBIC_COORDINATES];
+                for (int i = 0; i < CUBIC; i++) {
+                    c[2 * i] = bezier.points.get(i).x;
+                    c[2 * i + 1] = bezier.points.get(i).y;
+                }
+                flattenCubic(c, 0, result);
+            } else {
+                Vector2 start = spline.valueAt(new Vector2(), 0);
+                Vector2 end = spline.valueAt(new Vector2(), 1);
+                flattenPath(spline, 0, 1, start, end, 0, result);
+            }
+        }
+        return new PackedPoints(result);
+    }
+
+    /**
+     * Emits the flat pieces of a cubic Bezier spline, except for its end
+     * point.
+     *
+     * @param c the spline control point coordinates:
+     *          {@code x0, y0, x1, y1, x2, y2, x3, y3}
+     * @param depth the current subdivision depth
+     * @param out the coordinates of the approximation
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    private void flattenCubic(
+        final float[] c,
+        final int depth,
+        final FloatArray out
+    ) {
+        float chord = Vector2.dst(c[0], c[1], c[6], c[7]);
+        float deviation =
+            Math.max(
+                distanceToChord(c[2], c[3], c),
+                distanceToChord(c[4], c[5], c)
+            );
+        if (
+            depth >= MAX_DEPTH
+         || (deviation <= tolerance && chord <= maxSegmentLength)
+        ) {
+            out.add(c[0], c[1]);
+            return;
+        }
+        // de Casteljau subdivision at t = 1/2
+        float x01 = (c[0] + c[2]) / 2;
+        float y01 = (c[1] + c[3]) / 2;
+        float x12 = (c[2] + c[4]) / 2;
+        float y12 = (c[3] + c[5]) / 2;
+        float x23 = (c[4] + c[6]) / 2;
+        float y23 = (c[5] + c[7]) / 2;
+        float x012 = (x01 + x12) / 2;
+        float y012 = (y01 + y12) / 2;
+        float x123 = (x12 + x23) / 2;
+        float y123 = (y12 + y23) / 2;
+        float xm = (x012 + x123) / 2;
+        float ym = (y012 + y123) / 2;
+        flattenCubic(
+            new float[] {c[0], c[1], x01, y01, x012, y012, xm, ym},
+            depth + 1,
+            out
+        );
+        flattenCubic(
+            new float[] {xm, ym, x123, y123, x23, y23, c[6], c[7]},
+            depth + 1,
+            out
+        );
+    }
+
+    /**
+     * Returns the distance of point {@code (x, y)} from the chord of a cubic
+     * Bezier spline.
+     *
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @param c the spline control point coordinates
+     * @return the distance of the point from the chord
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    private static float distanceToChord(
+        final float x,
+        final float y,
+        final float[] c
+    ) {
+        float dx = c[6] - c[0];
+        float dy = c[7] - c[1];
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        if (length == 0) {
+            return Vector2.dst(x, y, c[0], c[1]);
+        }
+        return Math.abs((x - c[0]) * dy - (y - c[1]) * dx) / length;
+    }
+
+    /**
+     * Emits the flat pieces of a spline on parameter interval
+     * {@code [t0, t1]}, except for its end point.
+     *
+     * @param spline the spline to approximate
+     * @param t0 the start of the parameter interval
+     * @param t1 the end of the parameter interval
+     * @param start the spline value at {@code t0}
+     * @param end the spline value at {@code t1}
+     * @param depth the current subdivision depth
+     * @param out the coordinates of the approximation
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    private void flattenPath(
+        final Path<Vector2> spline,
+        final float t0,
+        final float t1,
+        final Vector2 start,
+        final Vector2 end,
+        final int depth,
+        final FloatArray out
+    ) {
+        float tm = (t0 + t1) / 2;
+        Vector2 middle = spline.valueAt(new Vector2(), tm);
+        float[] chord = {start.x, start.y, 0, 0, 0, 0, end.x, end.y};
+        if (
+            depth >= MAX_DEPTH
+         || (
+                depth >= MIN_DEPTH
+             && distanceToChord(middle.x, middle.y, chord) <= tolerance
+             && start.dst(end) <= maxSegmentLength
+            )
+        ) {
+            out.add(start.x, start.y);
+            return;
+        }
+        flattenPath(spline, t0, tm, start, middle, depth + 1, out);
+        flattenPath(spline, tm, t1, middle, end, depth + 1, out);
+    }
+}
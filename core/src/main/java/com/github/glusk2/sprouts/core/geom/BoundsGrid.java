@@ -0,0 +1,149 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * A fixed list of bounding boxes, hashed into a uniform grid of
+ * {@code cellSize} sized cells.
+ * <p>
+ * Every box is stored in each cell that it overlaps. The grid answers the
+ * question which of the boxes overlap an area (see
+ * {@link #overlapping(Rectangle)}) by only checking the boxes in the cells
+ * that the area overlaps. The boxes are identified by their indices in the
+ * list passed through the constructor.
+ */
+public final class BoundsGrid {
+    /** The number of bits to shift the cell column index by in a cell key. */
+    private static final int KEY_SHIFT = 32;
+    /** The mask of the cell row index in a cell key. */
+    private static final long KEY_MASK = 0xffffffffL;
+
+    /** The bounding boxes in the grid. */
+    private final List<Rectangle> bounds;
+    /** The size of a grid cell. */
+    private final float cellSize;
+    /** Indices of the boxes in non-empty grid cells, by cell key. */
+    private final Map<Long, List<Integer>> cells;
+    /** The bounding box of all the boxes, {@code null} if there are none. */
+    private final Rectangle extent;
+
+    /**
+     * Creates a new grid of bounding boxes.
+     *
+     * @param bounds the bounding boxes to put in the grid
+     * @param cellSize the size of a grid cell
+     */
+    public BoundsGrid(final List<Rectangle> bounds, final float cellSize) {
+        this.bounds = bounds;
+        this.cellSize = cellSize;
+        this.cells = new HashMap<Long, List<Integer>>();
+        Rectangle all = null;
+        for (int i = 0; i < bounds.size(); i++) {
+            Rectangle box = bounds.get(i);
+            if (all == null) {
+                all = new Rectangle(box);
+            } else {
+                all.merge(box);
+            }
+            int maxX = cell(box.x + box.width);
+            int maxY = cell(box.y + box.height);
+            for (int x = cell(box.x); x <= maxX; x++) {
+                for (int y = cell(box.y); y <= maxY; y++) {
+                    Long key = key(x, y);
+                    List<Integer> cell = cells.get(key);
+                    if (cell == null) {
+                        cell = new ArrayList<Integer>();
+                        cells.put(key, cell);
+                    }
+                    cell.add(i);
+                }
+            }
+        }
+        this.extent = all;
+    }
+
+    /**
+     * Returns the indices of the boxes that overlap {@code area}, in
+     * ascending order.
+     * <p>
+     * Boxes that only touch the {@code area} border overlap it.
+     *
+     * @param area the area to check
+     * @return the indices of the boxes that overlap {@code area}
+     */
+    public List<Integer> overlapping(final Rectangle area) {
+        if (extent == null || !touches(extent, area)) {
+            return Collections.emptyList();
+        }
+        // cells outside of the extent are empty
+        int minX = cell(Math.max(area.x, extent.x));
+        int minY = cell(Math.max(area.y, extent.y));
+        int maxX =
+            cell(Math.min(area.x + area.width, extent.x + extent.width));
+        int maxY =
+            cell(Math.min(area.y + area.height, extent.y + extent.height));
+        List<Integer> candidates = new ArrayList<Integer>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                List<Integer> cell = cells.get(key(x, y));
+                if (cell != null) {
+                    candidates.addAll(cell);
+                }
+            }
+        }
+        // a box is listed once for every cell of the area that it overlaps
+        Collections.sort(candidates);
+        List<Integer> result = new ArrayList<Integer>();
+        int previous = -1;
+        for (int i : candidates) {
+            if (i != previous && touches(bounds.get(i), area)) {
+                result.add(i);
+            }
+            previous = i;
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether two rectangles overlap or touch.
+     *
+     * @param a the first rectangle
+     * @param b the second rectangle
+     * @return {@code true} if {@code a} and {@code b} overlap or touch
+     */
+    private static boolean touches(final Rectangle a, final Rectangle b) {
+        return
+            a.x <= b.x + b.width
+         && b.x <= a.x + a.width
+         && a.y <= b.y + b.height
+         && b.y <= a.y + a.height;
+    }
+
+    /**
+     * Returns the key of the cell in column {@code x} and row {@code y}.
+     *
+     * @param x the cell column index
+     * @param y the cell row index
+     * @return the cell key
+     */
+    private static Long key(final int x, final int y) {
+        return ((long) x << KEY_SHIFT) | (y & KEY_MASK);
+    }
+
+    /**
+     * Returns the index of the cell row or column that contains
+     * {@code coordinate}.
+     *
+     * @param coordinate an x or y coordinate
+     * @return the cell index
+     */
+    private int cell(final float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.List;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * A list of quads that cover capsules, for rendering with a signed distance
+ * field shader.
+ * <p>
+ * A capsule is the set of points that are at most {@code radius} away from
+ * line segment {@code a-b}. A thick polyline is a capsule per line segment
+ * (which gives round joins and caps), a disc is a capsule with
+ * {@code a = b}.
+ * <p>
+ * Every capsule is a single quad (two triangles), aligned with {@code a-b}
+ * and larger than the capsule by {@code margin} on every side, so that the
+ * antialiased border fits in. Every quad vertex is stored as
+ * {@value #VERTEX_SIZE} floats: {@code x}, {@code y}, the packed color (see
+ * {@link Color#toFloatBits()}), {@code a.x}, {@code a.y}, {@code b.x},
+ * {@code b.y} and {@code radius}. The shader computes the distance of every
+ * fragment to {@code a-b} and compares it with {@code radius}.
+ */
+public final class CapsuleQuads implements ShapeBuffer {
+    /** The number of floats that describe a quad vertex. */
+    public static final int VERTEX_SIZE = 8;
+
+    /** The space between a capsule and its quad. */
+    private final float margin;
+    /** The quad vertices added so far. */
+    private final FloatArray vertices;
+
+    /**
+     * Creates a new, empty list of quads.
+     *
+     * @param margin the space between a capsule and its quad
+     */
+    public CapsuleQuads(final float margin) {
+        this.margin = margin;
+        this.vertices = new FloatArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Consecutive points that are equal are treated as one point. A polyline
+     * of a single point is a disc.
+     */
+    @Override
+    public void addPolyline(
+        final List<Vector2> points,
+        final float thickness,
+        final Color color
+    ) {
+        if (points.isEmpty()) {
+            return;
+        }
+        float radius = thickness / 2;
+        float packedColor = color.toFloatBits();
+        Vector2 last = points.get(0);
+        boolean isPoint = true;
+        for (int i = 1; i < points.size(); i++) {
+            Vector2 p = points.get(i);
+            if (p.equals(last)) {
+                continue;
+            }
+            addCapsule(last, p, radius, packedColor);
+            last = p;
+            isPoint = false;
+        }
+        if (isPoint) {
+            addCapsule(last, last, radius, packedColor);
+        }
+    }
+
+    @Override
+    public void addDisc(
+        final Vector2 center,
+        final float radius,
+        final Color color
+    ) {
+        addCapsule(center, center, radius, color.toFloatBits());
+    }
+
+    @Override
+    public FloatArray vertices() {
+        return vertices;
+    }
+
+    @Override
+    public int vertexSize() {
+        return VERTEX_SIZE;
+    }
+
+    /**
+     * Adds the quad of the capsule around line segment {@code a-b}.
+     *
+     * @param a the first segment boundary
+     * @param b the second segment boundary
+     * @param radius the radius of the capsule
+     * @param packedColor the packed color of the capsule
+     */
+    private void addCapsule(
+        final Vector2 a,
+        final Vector2 b,
+        final float radius,
+        final float packedColor
+    ) {
+        float extent = radius + margin;
+        // unit direction of a-b, scaled to the extent
+        float dx = b.x - a.x;
+        float dy = b.y - a.y;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        if (length == 0) {
+            dx = extent;
+            dy = 0;
+        } else {
+            dx *= extent / length;
+            dy *= extent / length;
+        }
+        float x0 = a.x - dx;
+        float y0 = a.y - dy;
+        float x1 = b.x + dx;
+        float y1 = b.y + dy;
+        addVertex(x0 - dy, y0 + dx, packedColor, a, b, radius);
+        addVertex(x0 + dy, y0 - dx, packedColor, a, b, radius);
+        addVertex(x1 - dy, y1 + dx, packedColor, a, b, radius);
+        addVertex(x1 - dy, y1 + dx, packedColor, a, b, radius);
+        addVertex(x0 + dy, y0 - dx, packedColor, a, b, radius);
+        addVertex(x1 + dy, y1 - dx, packedColor, a, b, radius);
+    }
+
+    /**
+     * Adds a quad vertex.
+     *
+     * @param x the x coordinate of the vertex
+     * @param y the y coordinate of the vertex
+     * @param packedColor the packed color of the capsule
+     * @param a the first boundary of the capsule segment
+     * @param b the second boundary of the capsule segment
+     * @param radius the radius of the capsule
+     */
+    private void addVertex(
+        final float x,
+        final float y,
+        final float packedColor,
+        final Vector2 a,
+        final Vector2 b,
+        final float radius
+    ) {
+        vertices.add(x, y, packedColor);
+        vertices.add(a.x, a.y);
+        vertices.add(b.x, b.y, radius);
+    }
+}
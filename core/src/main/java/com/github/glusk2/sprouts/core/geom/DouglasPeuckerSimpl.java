@@ -0,0 +1,171 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A Douglas-Peucker polyline simplification on closed chunks.
+ * <p>
+ * Every point of the original polyline is at most {@code tolerance} away
+ * from the simplified polyline. Unlike {@link PerpDistSimpl}, which can drop
+ * at most every other point, this simplification can replace any number of
+ * nearly collinear points with a single line segment.
+ * <p>
+ * The original points are split into chunks of {@code chunkSize} line
+ * segments; consecutive chunks share a boundary point, which is always kept,
+ * and each chunk is simplified on its own. Appending points to the original
+ * polyline therefore only changes the simplification of the last chunk, which
+ * makes this simplification suitable for a stroke that is still being drawn:
+ * {@link IncrementalDouglasPeucker} keeps the simplified chunks between
+ * invocations.
+ * <p>
+ * The simplified polyline consists of the original {@code Vector2} objects.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Ramer%E2%80%93Douglas%E2%80%93Peucker_algorithm">Ramer-Douglas-Peucker algorithm</a>
+ */
+public final class DouglasPeuckerSimpl implements Polyline {
+    /** The default number of line segments in a chunk. */
+    private static final int DEFAULT_CHUNK_SIZE = 64;
+    /**
+     * If {@code original.points().size()} is smaller than
+     * {@code MIN_POLYLINE_SIZE} then we don't run the simplification
+     * algorithm.
+     */
+    private static final int MIN_POLYLINE_SIZE = 3;
+
+    /** The polyline to simplify. */
+    private final Polyline original;
+    /** Point-to-segment distance tolerance. */
+    private final float tolerance;
+    /** The number of line segments in a chunk. */
+    private final int chunkSize;
+
+    /**
+     * Creates a new {@code Polyline} that simplifies the {@code original}
+     * polyline, using the default chunk size.
+     * <p>
+     * Equivalent to:
+     * <pre>
+     * new DouglasPeuckerSimpl(original, tolerance, 64)
+     * </pre>
+     *
+     * @param original the polyline to simplify
+     * @param tolerance point-to-segment distance tolerance
+     */
+    public DouglasPeuckerSimpl(final Polyline original, final float tolerance) {
+        this(original, tolerance, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new {@code Polyline} that simplifies the {@code original}
+     * polyline.
+     *
+     * @param original the polyline to simplify
+     * @param tolerance point-to-segment distance tolerance
+     * @param chunkSize the number of line segments in a chunk
+     */
+    public DouglasPeuckerSimpl(
+        final Polyline original,
+        final float tolerance,
+        final int chunkSize
+    ) {
+        this.original = original;
+        this.tolerance = tolerance;
+        this.chunkSize = chunkSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Vector2> points() {
+        List<Vector2> points = original.points();
+        int size = points.size();
+        if (size < MIN_POLYLINE_SIZE) {
+            return points;
+        }
+        List<Vector2> simplified = new ArrayList<Vector2>();
+        for (int first = 0; first < size - 1; first += chunkSize) {
+            int last = Math.min(first + chunkSize, size - 1);
+            boolean[] keep =
+                kept(points.subList(first, last + 1), tolerance);
+            for (int i = 0; i < keep.length - 1; i++) {
+                if (keep[i]) {
+                    simplified.add(points.get(first + i));
+                }
+            }
+        }
+        simplified.add(points.get(size - 1));
+        return simplified;
+    }
+
+    /**
+     * Simplifies a single chunk.
+     * <p>
+     * The first and the last point of the chunk are always kept.
+     *
+     * @param chunk the points of the chunk
+     * @param tolerance point-to-segment distance tolerance
+     * @return marks of the chunk points to keep
+     */
+    static boolean[] kept(final List<Vector2> chunk, final float tolerance) {
+        int size = chunk.size();
+        boolean[] keep = new boolean[size];
+        if (size == 0) {
+            return keep;
+        }
+        keep[0] = true;
+        keep[size - 1] = true;
+        simplify(chunk, 0, size - 1, tolerance * tolerance, keep);
+        return keep;
+    }
+
+    /**
+     * Marks the points to keep between {@code first} and {@code last}
+     * (exclusive).
+     * <p>
+     * The recursion of the algorithm is unrolled onto a stack of index
+     * ranges.
+     *
+     * @param points the original points
+     * @param first the index of the first point of the chunk
+     * @param last the index of the last point of the chunk
+     * @param tolerance2 squared point-to-segment distance tolerance
+     * @param keep marks of the points to keep
+     */
+    private static void simplify(
+        final List<Vector2> points,
+        final int first,
+        final int last,
+        final float tolerance2,
+        final boolean[] keep
+    ) {
+        int[] stack = new int[2 * (last - first + 1)];
+        int top = 0;
+        stack[top++] = first;
+        stack[top++] = last;
+        while (top > 0) {
+            int to = stack[--top];
+            int from = stack[--top];
+            Vector2 a = points.get(from);
+            Vector2 b = points.get(to);
+            float max = -1;
+            int index = -1;
+            for (int i = from + 1; i < to; i++) {
+                float distance2 =
+                    GeometryKernel.segmentDistance2(a, b, points.get(i));
+                if (distance2 > max) {
+                    max = distance2;
+                    index = i;
+                }
+            }
+            if (index != -1 && max > tolerance2) {
+                keep[index] = true;
+                stack[top++] = from;
+                stack[top++] = index;
+                stack[top++] = index;
+                stack[top++] = to;
+            }
+        }
+    }
+}
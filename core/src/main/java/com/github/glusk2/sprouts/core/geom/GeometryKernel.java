@@ -0,0 +1,374 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.math.BigDecimal;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Primitive geometry predicates on {@code float} coordinates.
+ * <p>
+ * The kernels read the coordinates directly and never allocate in the common
+ * case: the only object they write to is an output vector provided by the
+ * caller.
+ * <p>
+ * The orientation predicate ({@link #orientationSign}) and the predicates
+ * built on it ({@link #crossesSegment}) are <em>exact</em>. They are first
+ * evaluated in {@code double} arithmetic; if the result is smaller than a
+ * static bound on the rounding error, the sign is uncertain and the
+ * predicate is evaluated again in exact decimal arithmetic. Nearly
+ * degenerate configurations thus get consistent answers without ad-hoc
+ * epsilons, while the common case costs a few floating point operations.
+ *
+ * @see <a href="https://www.cs.cmu.edu/~quake/robust.html">Adaptive Precision Floating-Point Arithmetic and Fast Robust Geometric Predicates</a>
+ */
+public final class GeometryKernel {
+    /** The tolerance of the endpoint equality tests. */
+    private static final float EPSILON = MathUtils.FLOAT_ROUNDING_ERROR;
+    /** The parameter of the midpoint of a line segment. */
+    private static final double MIDPOINT = .5;
+    /** The machine epsilon of {@code double} arithmetic: {@code 2^-53}. */
+    private static final double DOUBLE_EPSILON = 1.1102230246251565e-16;
+    /**
+     * The relative error bound of the {@code double} orientation
+     * determinant: {@code (3 + 16e) * e}, where {@code e = 2^-53}.
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    private static final double ORIENTATION_ERROR_BOUND =
+        (3 + 16 * DOUBLE_EPSILON) * DOUBLE_EPSILON;
+
+    /** Hidden constructor - this class only has static methods. */
+    private GeometryKernel() {
+    }
+
+    /**
+     * Returns the orientation of point {@code c} relative to the directed
+     * line {@code a-b}.
+     * <p>
+     * The result is the cross product {@code (b - a) x (c - a)}: it is
+     * positive if {@code c} is to the left of the line, negative if it is to
+     * the right and {@code 0} if the three points are collinear.
+     *
+     * @param a the first point of the line
+     * @param b the second point of the line
+     * @param c the point to orient
+     * @return twice the signed area of triangle {@code a, b, c}
+     */
+    public static float orientation(
+        final Vector2 a,
+        final Vector2 b,
+        final Vector2 c
+    ) {
+        return (b.x - a.x) * (c.y - a.y) - (b.y - a.y) * (c.x - a.x);
+    }
+
+    /**
+     * Returns the exact sign of the {@link #orientation} of point {@code c}
+     * relative to the directed line {@code a-b}.
+     *
+     * @param a the first point of the line
+     * @param b the second point of the line
+     * @param c the point to orient
+     * @return {@code 1} if {@code c} is to the left of the line, {@code -1}
+     *         if it is to the right and {@code 0} if the three points are
+     *         collinear
+     */
+    public static int orientationSign(
+        final Vector2 a,
+        final Vector2 b,
+        final Vector2 c
+    ) {
+        double left = ((double) b.x - a.x) * ((double) c.y - a.y);
+        double right = ((double) b.y - a.y) * ((double) c.x - a.x);
+        double determinant = left - right;
+        double bound =
+            ORIENTATION_ERROR_BOUND * (Math.abs(left) + Math.abs(right));
+        if (determinant > bound) {
+            return 1;
+        }
+        if (-determinant > bound) {
+            return -1;
+        }
+        return exactOrientationSign(a, b, c);
+    }
+
+    /**
+     * Checks whether vectors {@code a-b} and {@code a-c} point in opposite
+     * directions (their dot product is negative).
+     *
+     * @param a the common origin of the vectors
+     * @param b the tip of the first vector
+     * @param c the tip of the second vector
+     * @return {@code true} if the vectors point in opposite directions
+     */
+    public static boolean areOpposite(
+        final Vector2 a,
+        final Vector2 b,
+        final Vector2 c
+    ) {
+        return
+            ((double) b.x - a.x) * ((double) c.x - a.x)
+          + ((double) b.y - a.y) * ((double) c.y - a.y) < 0;
+    }
+
+    /**
+     * Checks whether line segments {@code p0-p1} and {@code a-b} intersect.
+     * <p>
+     * Parallel segments never intersect.
+     *
+     * @param p0 the first boundary of the first segment
+     * @param p1 the second boundary of the first segment
+     * @param a the first boundary of the second segment
+     * @param b the second boundary of the second segment
+     * @param intersection if the segments intersect, the intersection point
+     *                     is stored in this vector
+     * @return {@code true} if the segments intersect
+     */
+    public static boolean intersectSegments(
+        final Vector2 p0,
+        final Vector2 p1,
+        final Vector2 a,
+        final Vector2 b,
+        final Vector2 intersection
+    ) {
+        float dx = p1.x - p0.x;
+        float dy = p1.y - p0.y;
+        float d = (b.y - a.y) * dx - (b.x - a.x) * dy;
+        if (d == 0) {
+            return false;
+        }
+        float yd = p0.y - a.y;
+        float xd = p0.x - a.x;
+        float ua = ((b.x - a.x) * yd - (b.y - a.y) * xd) / d;
+        if (ua < 0 || ua > 1) {
+            return false;
+        }
+        float ub = (dx * yd - dy * xd) / d;
+        if (ub < 0 || ub > 1) {
+            return false;
+        }
+        intersection.set(p0.x + dx * ua, p0.y + dy * ua);
+        return true;
+    }
+
+    /**
+     * Checks whether line segment {@code p0-p1} crosses line segment
+     * {@code a-b}.
+     * <p>
+     * The segments cross if {@code p0} and {@code p1} lie strictly on the
+     * opposite sides of the line through {@code a-b} and {@code a-b} touches
+     * or crosses the line through {@code p0-p1}. If line segment
+     * {@code p0-p1} is simply connected to {@code a-b} through one of its
+     * bounds ({@code p0} or {@code p1}), there is no crossing.
+     * <p>
+     * The decision is exact, see {@link #orientationSign}. The crossing point
+     * is rounded to {@code float} precision.
+     *
+     * @param p0 the first boundary of the crossing segment
+     * @param p1 the second boundary of the crossing segment
+     * @param a the first boundary of the crossed segment
+     * @param b the second boundary of the crossed segment
+     * @param intersection if the segments cross, the crossing point is
+     *                     stored in this vector
+     * @return {@code true} if {@code p0-p1} crosses {@code a-b}
+     */
+    public static boolean crossesSegment(
+        final Vector2 p0,
+        final Vector2 p1,
+        final Vector2 a,
+        final Vector2 b,
+        final Vector2 intersection
+    ) {
+        int side0 = orientationSign(a, b, p0);
+        int side1 = orientationSign(a, b, p1);
+        if (side0 * side1 >= 0) {
+            return false;
+        }
+        if (orientationSign(p0, p1, a) * orientationSign(p0, p1, b) > 0) {
+            return false;
+        }
+        double area0 = determinant(a, b, p0);
+        double area1 = determinant(a, b, p1);
+        double t = area0 / (area0 - area1);
+        if (Double.isNaN(t)) {
+            // both determinants cancelled out to 0 in double arithmetic
+            t = MIDPOINT;
+        }
+        intersection.set(
+            (float) (p0.x + t * ((double) p1.x - p0.x)),
+            (float) (p0.y + t * ((double) p1.y - p0.y))
+        );
+        return true;
+    }
+
+    /**
+     * Returns the squared distance between point {@code p} and line segment
+     * {@code a-b}.
+     *
+     * @param a the first segment boundary
+     * @param b the second segment boundary
+     * @param p the point
+     * @return the squared distance between {@code p} and {@code a-b}
+     */
+    public static float segmentDistance2(
+        final Vector2 a,
+        final Vector2 b,
+        final Vector2 p
+    ) {
+        float t = projection(a, b, p);
+        // explicit clamp; Math.min and Math.max order NaN and signed zeros
+        if (t < 0) {
+            t = 0;
+        } else if (t > 1) {
+            t = 1;
+        }
+        float dx = a.x + t * (b.x - a.x) - p.x;
+        float dy = a.y + t * (b.y - a.y) - p.y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Checks whether point {@code p} lies on line segment {@code a-b}, within
+     * {@code maxError}.
+     * <p>
+     * If the point of {@code a-b} nearest to {@code p} is one of the segment
+     * bounds, {@code p} is <em>not</em> considered part of the segment.
+     *
+     * @param a the first segment boundary
+     * @param b the second segment boundary
+     * @param p the point
+     * @param maxError the maximum distance between {@code a-b} and {@code p}
+     *                 at which {@code p} is still considered to lie on the
+     *                 segment
+     * @return {@code true} if {@code p} lies on {@code a-b}
+     */
+    public static boolean isPointOnSegment(
+        final Vector2 a,
+        final Vector2 b,
+        final Vector2 p,
+        final float maxError
+    ) {
+        if (!projectsInside(a, b, p)) {
+            return false;
+        }
+        float t = projection(a, b, p);
+        float x = a.x + t * (b.x - a.x);
+        float y = a.y + t * (b.y - a.y);
+        float dx = x - p.x;
+        float dy = y - p.y;
+        return
+            (float) Math.sqrt(dx * dx + dy * dy) <= maxError
+         && !epsilonEquals(x, y, a)
+         && !epsilonEquals(x, y, b);
+    }
+
+    /**
+     * Checks whether the point of line segment {@code a-b} nearest to
+     * {@code p} lies strictly between {@code a} and {@code b}.
+     *
+     * @param a the first segment boundary
+     * @param b the second segment boundary
+     * @param p the point
+     * @return {@code true} if {@code p} projects into the interior of
+     *         {@code a-b}
+     */
+    public static boolean projectsInside(
+        final Vector2 a,
+        final Vector2 b,
+        final Vector2 p
+    ) {
+        float t = projection(a, b, p);
+        return t > 0 && t < 1;
+    }
+
+    /**
+     * Returns the parameter {@code t} of the point of line segment
+     * {@code a-b} nearest to {@code p}.
+     * <p>
+     * The nearest point is {@code a + t * (b - a)}, where {@code t} is the
+     * result clamped to {@code [0, 1]}. If the segment is degenerate, the
+     * result is {@code 0}.
+     *
+     * @param a the first segment boundary
+     * @param b the second segment boundary
+     * @param p the point
+     * @return the parameter of the projection of {@code p} onto the line
+     *         through {@code a-b}
+     */
+    private static float projection(
+        final Vector2 a,
+        final Vector2 b,
+        final Vector2 p
+    ) {
+        float dx = b.x - a.x;
+        float dy = b.y - a.y;
+        float length2 = dx * dx + dy * dy;
+        if (length2 == 0) {
+            return 0;
+        }
+        return ((p.x - a.x) * dx + (p.y - a.y) * dy) / length2;
+    }
+
+    /**
+     * Checks whether point {@code (x, y)} equals {@code v}, within the
+     * tolerance of {@code Vector2.epsilonEquals(Vector2)}.
+     *
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @param v the vector to compare with
+     * @return {@code true} if the point and {@code v} are equal
+     */
+    private static boolean epsilonEquals(
+        final float x,
+        final float y,
+        final Vector2 v
+    ) {
+        return Math.abs(v.x - x) <= EPSILON && Math.abs(v.y - y) <= EPSILON;
+    }
+
+    /**
+     * Returns the orientation determinant, evaluated in {@code double}
+     * arithmetic.
+     *
+     * @param a the first point of the line
+     * @param b the second point of the line
+     * @param c the point to orient
+     * @return the orientation determinant
+     */
+    private static double determinant(
+        final Vector2 a,
+        final Vector2 b,
+        final Vector2 c
+    ) {
+        return
+            ((double) b.x - a.x) * ((double) c.y - a.y)
+          - ((double) b.y - a.y) * ((double) c.x - a.x);
+    }
+
+    /**
+     * Returns the sign of the orientation determinant, evaluated in exact
+     * decimal arithmetic.
+     *
+     * @param a the first point of the line
+     * @param b the second point of the line
+     * @param c the point to orient
+     * @return the sign of the determinant
+     */
+    private static int exactOrientationSign(
+        final Vector2 a,
+        final Vector2 b,
+        final Vector2 c
+    ) {
+        BigDecimal ax = new BigDecimal(a.x);
+        BigDecimal ay = new BigDecimal(a.y);
+        BigDecimal left =
+            new BigDecimal(b.x).subtract(ax).multiply(
+                new BigDecimal(c.y).subtract(ay)
+            );
+        BigDecimal right =
+            new BigDecimal(b.y).subtract(ay).multiply(
+                new BigDecimal(c.x).subtract(ax)
+            );
+        return left.subtract(right).signum();
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * The points of a polyline that is still growing, computed by an
+ * incremental algorithm: a <em>head</em> that never changes again, followed
+ * by a <em>tail</em> that is recomputed as the polyline grows.
+ * <p>
+ * The head is a view of the first {@code headSize} points of an append-only
+ * array of packed point coordinates. The incremental algorithm shares the
+ * array between all the versions of the polyline that it computes and only
+ * ever appends to it, so two versions with the same array share the shorter
+ * of their heads. Their common prefix is thus known without comparing the
+ * points, see {@link #sharedHead(GrowingPoints)}.
+ * <p>
+ * This list is a read-only view. The {@code tail} must not be changed while
+ * the view is in use. Like a {@link PackedPoints} view, the head can be read
+ * on another thread while the incremental algorithm appends to the array.
+ */
+public final class GrowingPoints extends AbstractList<Vector2> {
+    /** The append-only array of packed head point coordinates. */
+    private final FloatArray head;
+    /** The number of head points. */
+    private final int headSize;
+    /** The head points, followed by the tail points. */
+    private final List<Vector2> points;
+
+    /**
+     * Creates a new view of the head points, followed by the
+     * {@code tail}.
+     *
+     * @param head the append-only array of packed head point coordinates
+     * @param headSize the number of head points
+     * @param tail the points after the head
+     */
+    public GrowingPoints(
+        final FloatArray head,
+        final int headSize,
+        final List<Vector2> tail
+    ) {
+        this.head = head;
+        this.headSize = headSize;
+        this.points =
+            new JoinedPoints(new PackedPoints(head, 0, headSize), tail);
+    }
+
+    /**
+     * Returns the number of points that never change again: every later
+     * version of the polyline starts with them.
+     *
+     * @return the number of head points
+     */
+    public int headSize() {
+        return headSize;
+    }
+
+    /**
+     * Returns the number of leading points that are known to be the same in
+     * {@code this} and the {@code other} version of the polyline.
+     *
+     * @param other another version of the polyline
+     * @return the length of the shared head, {@code 0} if the versions were
+     *         computed into different head arrays
+     */
+    public int sharedHead(final GrowingPoints other) {
+        if (head != other.head) {
+            return 0;
+        }
+        return Math.min(headSize, other.headSize);
+    }
+
+    @Override
+    public Vector2 get(final int index) {
+        return points.get(index);
+    }
+
+    @Override
+    public int size() {
+        return points.size();
+    }
+
+    @Override
+    public List<Vector2> subList(final int fromIndex, final int toIndex) {
+        return points.subList(fromIndex, toIndex);
+    }
+}
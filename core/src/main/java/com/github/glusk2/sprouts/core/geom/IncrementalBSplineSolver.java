@@ -0,0 +1,295 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * An incremental solver of the B-spline control points system.
+ * <p>
+ * It solves the same "1 4 1" tridiagonal system as
+ * {@link BSplineControlPoints}, but it is meant to be invoked repeatedly
+ * with a sample that grows at the end, like the sample of a Move that is
+ * being drawn.
+ * <p>
+ * The forward elimination of the Thomas algorithm only depends on the
+ * beginning of the sample, so it is cached and only extended with the new
+ * rows. The back substitution is limited to a tail window of
+ * {@code window} rows: solution rows that are further than {@code window}
+ * rows from the end are <em>committed</em> - they are kept from an earlier
+ * solution and never recomputed. The influence of a changed row decays by a
+ * factor of about {@code 2 - sqrt(3)} per row, so with the default window
+ * the difference between a committed value and the full solution is below
+ * the {@code float} precision of the control points.
+ * <p>
+ * Committed rows make the beginning of the result stable: appending sample
+ * points never changes the committed control points. They are kept in an
+ * append-only array, the head of the {@link GrowingPoints} result, so only
+ * the tail window is copied into each result. If the beginning of the
+ * sample changes, the affected rows are dropped and solved again.
+ * <p>
+ * Objects of this class are mutable and not <em>thread-safe</em>.
+ *
+ * @see BSplineControlPoints
+ */
+public final class IncrementalBSplineSolver {
+    /** The default size of the back substitution window. */
+    private static final int DEFAULT_WINDOW = 16;
+    /**
+     * The minimal sample size that is solved by {@code this} solver. Smaller
+     * samples are delegated to {@link BSplineControlPoints}.
+     */
+    private static final int MIN_SAMPLE_SIZE = 4;
+    /** The initial capacity of the cached rows. */
+    private static final int INITIAL_CAPACITY = 16;
+    /** The diagonal coefficient of the "1 4 1 matrix". */
+    private static final double DIAGONAL = 4;
+    /** The sample point coefficient on the right-hand side. */
+    private static final float SAMPLE_WEIGHT = 6;
+
+    /** The size of the back substitution window. */
+    private final int window;
+
+    /**
+     * The last solved sample, {@code null} if it was not a
+     * {@link GrowingPoints} list.
+     */
+    private GrowingPoints growingSample;
+    /** The last solved sample. */
+    private List<Vector2> cachedSample = new ArrayList<Vector2>();
+    /**
+     * The packed coordinates of the first control point, followed by the
+     * committed rows. Only appended to, while the committed rows stay.
+     */
+    private FloatArray committedPoints = new FloatArray();
+    /** Modified coefficients over the diagonal, from forward elimination. */
+    private double[] newC = new double[INITIAL_CAPACITY];
+    /** Modified right-hand side x coordinates, from forward elimination. */
+    private double[] newDx = new double[INITIAL_CAPACITY];
+    /** Modified right-hand side y coordinates, from forward elimination. */
+    private double[] newDy = new double[INITIAL_CAPACITY];
+    /** Solution x coordinates. */
+    private double[] x = new double[INITIAL_CAPACITY];
+    /** Solution y coordinates. */
+    private double[] y = new double[INITIAL_CAPACITY];
+    /** The number of valid forward elimination rows. */
+    private int forwardRows;
+    /** The number of committed solution rows. */
+    private int committedRows;
+    /** Whether the last solution reused committed rows. */
+    private boolean approximate;
+
+    /** Creates a new solver with the default back substitution window. */
+    public IncrementalBSplineSolver() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /**
+     * Creates a new solver.
+     *
+     * @param window the size of the back substitution window
+     */
+    public IncrementalBSplineSolver(final int window) {
+        this.window = window;
+    }
+
+    /**
+     * Returns the B-spline control points of a growing {@code sample}.
+     * <p>
+     * The head that {@code sample} shares with the last solved sample is
+     * known to be unchanged, so the points are not compared. Only rows that
+     * depend on the head of {@code sample} alone are committed, since the
+     * tail may change with the next sample. The committed control points
+     * are the head of the result.
+     *
+     * @param sample the sample points
+     * @return the B-spline control points
+     */
+    public GrowingPoints controlPoints(final GrowingPoints sample) {
+        int prefix = 0;
+        if (growingSample != null) {
+            prefix = sample.sharedHead(growingSample);
+        }
+        GrowingPoints controlPoints =
+            solve(sample, prefix, sample.headSize());
+        growingSample = sample;
+        return controlPoints;
+    }
+
+    /**
+     * Returns the B-spline control points of {@code sample}.
+     * <p>
+     * {@code sample} is compared with the last solved sample to find the
+     * unchanged prefix; it must not be changed afterwards. The committed
+     * control points are the head of the result.
+     *
+     * @param sample the sample points
+     * @return the B-spline control points
+     */
+    public GrowingPoints controlPoints(final List<Vector2> sample) {
+        int max = Math.min(sample.size(), cachedSample.size());
+        int prefix = 0;
+        while (
+            prefix < max
+         && sample.get(prefix).equals(cachedSample.get(prefix))
+        ) {
+            prefix++;
+        }
+        GrowingPoints controlPoints = solve(sample, prefix, sample.size());
+        growingSample = null;
+        return controlPoints;
+    }
+
+    /**
+     * Solves {@code sample}, of which the first {@code prefix} points are
+     * the same as in the last solved sample.
+     * <p>
+     * Rows that are more than {@code window} rows away from the first
+     * sample point that may still change are committed.
+     *
+     * @param sample the sample points
+     * @param prefix the length of the unchanged prefix
+     * @param stable the number of sample points that stay the same in the
+     *               next sample
+     * @return the B-spline control points
+     */
+    private GrowingPoints solve(
+        final List<Vector2> sample,
+        final int prefix,
+        final int stable
+    ) {
+        int size = sample.size();
+        if (size < MIN_SAMPLE_SIZE) {
+            approximate = false;
+            return
+                new GrowingPoints(
+                    new FloatArray(),
+                    0,
+                    new BSplineControlPoints(sample).points()
+                );
+        }
+        int rows = size - 2;
+
+        forwardRows = Math.min(forwardRows, Math.max(0, prefix - 1));
+        committedRows =
+            Math.min(committedRows, Math.max(0, prefix - 1 - window));
+        ensureCapacity(rows);
+
+        // forward elimination of all but the last row
+        for (int i = forwardRows; i < rows - 1; i++) {
+            Vector2 s1 = sample.get(i + 1);
+            double dx = SAMPLE_WEIGHT * s1.x;
+            double dy = SAMPLE_WEIGHT * s1.y;
+            if (i == 0) {
+                Vector2 s0 = sample.get(0);
+                dx = SAMPLE_WEIGHT * s1.x - s0.x;
+                dy = SAMPLE_WEIGHT * s1.y - s0.y;
+                newC[0] = 1 / DIAGONAL;
+                newDx[0] = dx / DIAGONAL;
+                newDy[0] = dy / DIAGONAL;
+            } else {
+                double denominator = DIAGONAL - newC[i - 1];
+                newC[i] = 1 / denominator;
+                newDx[i] = (dx - newDx[i - 1]) / denominator;
+                newDy[i] = (dy - newDy[i - 1]) / denominator;
+            }
+        }
+        forwardRows = rows - 1;
+
+        // the last row
+        int last = rows - 1;
+        Vector2 sLast = sample.get(size - 1);
+        Vector2 sBeforeLast = sample.get(size - 2);
+        double dx = SAMPLE_WEIGHT * sBeforeLast.x - sLast.x;
+        double dy = SAMPLE_WEIGHT * sBeforeLast.y - sLast.y;
+        double denominator = DIAGONAL - newC[last - 1];
+        x[last] = (dx - newDx[last - 1]) / denominator;
+        y[last] = (dy - newDy[last - 1]) / denominator;
+
+        // back substitution of the tail window
+        for (int i = last - 1; i >= committedRows; i--) {
+            x[i] = newDx[i] - newC[i] * x[i + 1];
+            y[i] = newDy[i] - newC[i] * y[i + 1];
+        }
+        approximate = committedRows > 0;
+        commitRows(
+            sample.get(0),
+            Math.max(committedRows, Math.min(rows, stable - 1) - window)
+        );
+        cachedSample = sample;
+
+        List<Vector2> tail = new ArrayList<Vector2>(rows - committedRows + 1);
+        for (int i = committedRows; i < rows; i++) {
+            tail.add(new Vector2((float) x[i], (float) y[i]));
+        }
+        tail.add(sLast);
+        return new GrowingPoints(committedPoints, committedRows + 1, tail);
+    }
+
+    /**
+     * Appends the solution rows that become committed to
+     * {@code committedPoints}.
+     * <p>
+     * If {@code committedPoints} holds rows that are no longer committed,
+     * or a different first point, the committed points are copied into a
+     * new array first, since the results of earlier invocations are views
+     * of the old one.
+     *
+     * @param first the first sample point
+     * @param rows the number of committed rows after this invocation
+     */
+    private void commitRows(final Vector2 first, final int rows) {
+        int size = committedPoints.size / 2;
+        if (
+            size == 0
+         || size > committedRows + 1
+         || committedPoints.get(0) != first.x
+         || committedPoints.get(1) != first.y
+        ) {
+            FloatArray copy = new FloatArray(2 * (rows + 1));
+            copy.add(first.x, first.y);
+            for (int i = 0; i < committedRows; i++) {
+                copy.add((float) x[i], (float) y[i]);
+            }
+            committedPoints = copy;
+        }
+        for (int i = committedPoints.size / 2 - 1; i < rows; i++) {
+            committedPoints.add((float) x[i], (float) y[i]);
+        }
+        committedRows = rows;
+    }
+
+    /**
+     * Checks whether the last invocation of {@link #controlPoints(List)}
+     * reused committed rows of an earlier solution.
+     * <p>
+     * If {@code false}, the last result is the same as the result of
+     * {@link BSplineControlPoints}.
+     *
+     * @return {@code true} if the last solution used the window
+     *         approximation
+     */
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    /**
+     * Makes sure that the cached row arrays can hold {@code rows} rows.
+     *
+     * @param rows the number of rows
+     */
+    private void ensureCapacity(final int rows) {
+        if (rows <= x.length) {
+            return;
+        }
+        int capacity = Math.max(rows, 2 * x.length);
+        newC = Arrays.copyOf(newC, capacity);
+        newDx = Arrays.copyOf(newDx, capacity);
+        newDy = Arrays.copyOf(newDy, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+    }
+}
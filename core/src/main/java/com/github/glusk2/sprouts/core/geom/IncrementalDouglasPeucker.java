@@ -0,0 +1,107 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * An incremental Douglas-Peucker simplification of a {@link SampleBuffer}.
+ * <p>
+ * It computes the same chunked simplification as
+ * {@link DouglasPeuckerSimpl}, but it is meant to be invoked repeatedly
+ * with a sample that grows at the end, like the sample of a Move that is
+ * being drawn.
+ * <p>
+ * A chunk is <em>closed</em> once the sample point at its end has been
+ * drawn. The simplification of a closed chunk does not depend on the points
+ * drawn after it and the points of a {@code SampleBuffer} never change, so
+ * the closed chunks are simplified only once and their output is kept in an
+ * append-only array, the head of the {@link GrowingPoints} result. Only the
+ * open last chunk is simplified on every invocation.
+ * <p>
+ * Objects of this class are mutable and not <em>thread-safe</em>.
+ *
+ * @see DouglasPeuckerSimpl
+ */
+public final class IncrementalDouglasPeucker {
+    /** Point-to-segment distance tolerance. */
+    private final float tolerance;
+    /** The number of line segments in a chunk. */
+    private final int chunkSize;
+
+    /** The buffer whose closed chunks are in {@code closed}. */
+    private SampleBuffer sample;
+    /**
+     * The packed coordinates of the kept points of the closed chunks,
+     * without the end point of each chunk.
+     */
+    private FloatArray closed = new FloatArray();
+    /** The number of points in {@code closed} after each closed chunk. */
+    private IntArray closedEnds = new IntArray();
+
+    /**
+     * Creates a new simplification.
+     *
+     * @param tolerance point-to-segment distance tolerance
+     * @param chunkSize the number of line segments in a chunk
+     */
+    public IncrementalDouglasPeucker(
+        final float tolerance,
+        final int chunkSize
+    ) {
+        this.tolerance = tolerance;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Simplifies the first {@code length} points of {@code buffer}.
+     * <p>
+     * The head of the result holds the simplified closed chunks. A different
+     * {@code buffer} than in the last invocation starts a new head array.
+     *
+     * @param buffer the sample points
+     * @param length the number of sample points to simplify
+     * @return the simplified points
+     */
+    public GrowingPoints points(final SampleBuffer buffer, final int length) {
+        if (buffer != sample) {
+            sample = buffer;
+            closed = new FloatArray();
+            closedEnds = new IntArray();
+        }
+        List<Vector2> points = buffer.points(length);
+        int chunks = Math.max(0, length - 1) / chunkSize;
+        for (int chunk = closedEnds.size; chunk < chunks; chunk++) {
+            int first = chunk * chunkSize;
+            boolean[] keep =
+                DouglasPeuckerSimpl.kept(
+                    points.subList(first, first + chunkSize + 1),
+                    tolerance
+                );
+            for (int i = 0; i < chunkSize; i++) {
+                if (keep[i]) {
+                    Vector2 p = points.get(first + i);
+                    closed.add(p.x, p.y);
+                }
+            }
+            closedEnds.add(closed.size / 2);
+        }
+        int headSize = 0;
+        if (chunks > 0) {
+            headSize = closedEnds.get(chunks - 1);
+        }
+
+        List<Vector2> open = points.subList(chunks * chunkSize, length);
+        boolean[] keep = DouglasPeuckerSimpl.kept(open, tolerance);
+        List<Vector2> tail = new ArrayList<Vector2>();
+        for (int i = 0; i < keep.length; i++) {
+            if (keep[i]) {
+                tail.add(open.get(i));
+            }
+        }
+        return new GrowingPoints(closed, headSize, tail);
+    }
+}
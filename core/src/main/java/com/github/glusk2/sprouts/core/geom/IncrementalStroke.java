@@ -0,0 +1,159 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * An incremental polyline approximation of a smooth stroke through a
+ * growing {@link SampleBuffer}.
+ * <p>
+ * It computes the same points as an {@link AdaptiveCurveApproximation} of
+ * the {@link BezierCurve} through the {@link DouglasPeuckerSimpl}
+ * simplification of the sample (up to the window approximation of the
+ * {@link IncrementalBSplineSolver}), but it is meant to be invoked
+ * repeatedly with a sample that grows at the end, like the sample of a Move
+ * that is being drawn. The simplified sample
+ * and the B-spline control points are computed by the incremental
+ * {@code simplification} and {@code solver}; both return a head that never
+ * changes again. A Bezier spline between two head points of both never
+ * changes either, so it is approximated only once and its points are kept
+ * in an append-only array, the head of the {@link GrowingPoints} result.
+ * Only the splines after the heads are approximated on every invocation.
+ * <p>
+ * Unlike the curve approximation, the result ends with the last sample
+ * point. A flat last spline is approximated by segments of up to
+ * {@code maxSegmentLength}, so without its end point the stroke could stop
+ * that far short of where the Move was drawn to.
+ * <p>
+ * Objects of this class are mutable and not <em>thread-safe</em>.
+ */
+public final class IncrementalStroke {
+    /** The simplification of the sample. */
+    private final IncrementalDouglasPeucker simplification;
+    /** The solver of the B-spline control points. */
+    private final IncrementalBSplineSolver solver;
+    /** The maximum deviation of the smooth stroke from the approximation. */
+    private final float flatness;
+    /** The maximum length of a line segment of the approximation. */
+    private final float maxSegmentLength;
+
+    /** The last simplified sample. */
+    private GrowingPoints lastSample;
+    /** The last B-spline control points. */
+    private GrowingPoints lastControlPoints;
+    /** The packed coordinates of the approximated final splines. */
+    private FloatArray head = new FloatArray();
+    /** The number of approximated final splines in {@code head}. */
+    private int finalSplines;
+
+    /**
+     * Creates a new stroke approximation.
+     *
+     * @param simplification the simplification of the sample
+     * @param solver the solver of the B-spline control points
+     * @param flatness the maximum deviation of the smooth stroke from the
+     *                 approximation
+     * @param maxSegmentLength the maximum length of a line segment of the
+     *                         approximation
+     */
+    public IncrementalStroke(
+        final IncrementalDouglasPeucker simplification,
+        final IncrementalBSplineSolver solver,
+        final float flatness,
+        final float maxSegmentLength
+    ) {
+        this.simplification = simplification;
+        this.solver = solver;
+        this.flatness = flatness;
+        this.maxSegmentLength = maxSegmentLength;
+    }
+
+    /**
+     * Approximates the stroke through the first {@code length} points of
+     * {@code buffer}.
+     * <p>
+     * The result ends with the last sample point.
+     *
+     * @param buffer the sample points
+     * @param length the number of sample points
+     * @return the points of the stroke approximation
+     */
+    public GrowingPoints points(final SampleBuffer buffer, final int length) {
+        GrowingPoints sample = simplification.points(buffer, length);
+        GrowingPoints controlPoints = solver.controlPoints(sample);
+
+        int unchanged = 0;
+        if (lastSample != null) {
+            unchanged =
+                Math.min(
+                    sample.sharedHead(lastSample),
+                    controlPoints.sharedHead(lastControlPoints)
+                );
+        }
+        if (finalSplines > Math.max(0, unchanged - 1)) {
+            // earlier results are views of the old head
+            head = new FloatArray();
+            finalSplines = 0;
+        }
+        // spline i joins points i - 1 and i
+        int last = Math.min(sample.headSize(), controlPoints.headSize()) - 1;
+        for (int i = finalSplines + 1; i <= last; i++) {
+            for (Vector2 p : approximation(sample, controlPoints, i - 1, i)) {
+                head.add(p.x, p.y);
+            }
+            finalSplines = i;
+        }
+        lastSample = sample;
+        lastControlPoints = controlPoints;
+
+        List<Vector2> tail =
+            new ArrayList<Vector2>(
+                approximation(
+                    sample,
+                    controlPoints,
+                    finalSplines,
+                    sample.size() - 1
+                )
+            );
+        if (!sample.isEmpty()) {
+            tail.add(sample.get(sample.size() - 1));
+        }
+        return new GrowingPoints(head, head.size / 2, tail);
+    }
+
+    /**
+     * Approximates the splines between {@code sample} points {@code from}
+     * and {@code to}.
+     *
+     * @param sample the simplified sample
+     * @param controlPoints the B-spline control points of {@code sample}
+     * @param from the index of the first point
+     * @param to the index of the last point
+     * @return the points of the approximation, without the last point
+     */
+    private List<Vector2> approximation(
+        final List<Vector2> sample,
+        final List<Vector2> controlPoints,
+        final int from,
+        final int to
+    ) {
+        if (to <= from) {
+            return Collections.emptyList();
+        }
+        return
+            new AdaptiveCurveApproximation(
+                new BezierCurve(
+                    new Polyline.WrappedList(sample.subList(from, to + 1)),
+                    new Polyline.WrappedList(
+                        controlPoints.subList(from, to + 1)
+                    )
+                ),
+                flatness,
+                maxSegmentLength
+            ).points();
+    }
+}
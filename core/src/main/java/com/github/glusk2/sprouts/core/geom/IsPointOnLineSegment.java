@@ -1,6 +1,5 @@
 package com.github.glusk2.sprouts.core.geom;
 
-import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Vector2;
 import com.github.glusk2.sprouts.core.util.Check;
 
@@ -71,15 +70,6 @@ public final class IsPointOnLineSegment implements Check {
      */
     @Override
     public boolean check() {
-        boolean isPointOnLine =
-            Intersector.distanceSegmentPoint(p0, p1, point) <= maximumError;
-        Vector2 nearestSegmentPoint =
-            Intersector.nearestSegmentPoint(p0, p1, point, new Vector2());
-        return
-            isPointOnLine
-            && !(
-                nearestSegmentPoint.epsilonEquals(p0)
-             || nearestSegmentPoint.epsilonEquals(p1)
-            );
+        return GeometryKernel.isPointOnSegment(p0, p1, point, maximumError);
     }
 }
@@ -0,0 +1,65 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A read-only view of two lists of points, one after the other.
+ * <p>
+ * Neither list is copied: a change in either list is reflected in this
+ * view. Sub lists are views as well.
+ */
+final class JoinedPoints extends AbstractList<Vector2> {
+    /** The points at the beginning of this view. */
+    private final List<Vector2> head;
+    /** The points at the end of this view. */
+    private final List<Vector2> tail;
+
+    /**
+     * Creates a new view of {@code head} followed by {@code tail}.
+     *
+     * @param head the points at the beginning of this view
+     * @param tail the points at the end of this view
+     */
+    JoinedPoints(final List<Vector2> head, final List<Vector2> tail) {
+        this.head = head;
+        this.tail = tail;
+    }
+
+    @Override
+    public Vector2 get(final int index) {
+        int headSize = head.size();
+        if (index < headSize) {
+            return head.get(index);
+        }
+        return tail.get(index - headSize);
+    }
+
+    @Override
+    public int size() {
+        return head.size() + tail.size();
+    }
+
+    @Override
+    public List<Vector2> subList(final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                "fromIndex: " + fromIndex + ", toIndex: " + toIndex
+            );
+        }
+        int headSize = head.size();
+        if (toIndex <= headSize) {
+            return head.subList(fromIndex, toIndex);
+        }
+        if (fromIndex >= headSize) {
+            return tail.subList(fromIndex - headSize, toIndex - headSize);
+        }
+        return
+            new JoinedPoints(
+                head.subList(fromIndex, headSize),
+                tail.subList(0, toIndex - headSize)
+            );
+    }
+}
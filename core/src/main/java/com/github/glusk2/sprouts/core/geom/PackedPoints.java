@@ -0,0 +1,123 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.AbstractList;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * A list of points, packed as consecutive {@code x, y} pairs in a
+ * {@code FloatArray}.
+ * <p>
+ * Packed points take a fraction of the memory of a list of {@code Vector2}
+ * objects and can be produced without allocating a new object per point.
+ * The {@code Vector2} elements of this list are created on access; modifying
+ * them does not modify the list.
+ * <p>
+ * This list is a read-only <em>view</em> of {@code size} points that start
+ * at point {@code offset} of the backing array. Sub lists are views of the
+ * same backing array. The backing array must not be changed in the range of
+ * the view, while the view is in use.
+ * <p>
+ * A view holds on to the {@code items} that the backing array has when the
+ * view is created. Appending to a {@code FloatArray} may replace its
+ * {@code items} with a larger copy, but it never writes to the points in
+ * the range of an existing view. A view of an append-only array can thus be
+ * handed over to another thread (safely, e.g. through a volatile field) and
+ * read there while the array keeps growing.
+ */
+public final class PackedPoints extends AbstractList<Vector2> {
+    /** The items of the backing array of packed point coordinates. */
+    private final float[] items;
+    /** The index of the first point of this view in the backing array. */
+    private final int offset;
+    /** The number of points in this view. */
+    private final int size;
+
+    /**
+     * Creates a view of all the points in {@code coordinates}.
+     * <p>
+     * Equivalent to:
+     * <pre>
+     * new PackedPoints(coordinates, 0, coordinates.size / 2)
+     * </pre>
+     *
+     * @param coordinates the backing array of packed point coordinates
+     */
+    public PackedPoints(final FloatArray coordinates) {
+        this(coordinates, 0, coordinates.size / 2);
+    }
+
+    /**
+     * Creates a view of {@code size} points in {@code coordinates}, starting
+     * at point {@code offset}.
+     *
+     * @param coordinates the backing array of packed point coordinates
+     * @param offset the index of the first point of this view in the backing
+     *               array
+     * @param size the number of points in this view
+     */
+    public PackedPoints(
+        final FloatArray coordinates,
+        final int offset,
+        final int size
+    ) {
+        if (offset < 0 || size < 0 || 2 * (offset + size) > coordinates.size) {
+            throw new IndexOutOfBoundsException(
+                "The view is out of the bounds of the backing array."
+            );
+        }
+        this.items = coordinates.items;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * Creates a view of {@code size} points in {@code items}, starting at
+     * point {@code offset}, without checking the bounds.
+     *
+     * @param items the items of the backing array of packed point
+     *              coordinates
+     * @param offset the index of the first point of this view in the backing
+     *               array
+     * @param size the number of points in this view
+     */
+    private PackedPoints(
+        final float[] items,
+        final int offset,
+        final int size
+    ) {
+        this.items = items;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public Vector2 get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        int i = 2 * (offset + index);
+        return new Vector2(items[i], items[i + 1]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public PackedPoints subList(final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                "fromIndex: " + fromIndex + ", toIndex: " + toIndex
+            );
+        }
+        return
+            new PackedPoints(
+                items,
+                offset + fromIndex,
+                toIndex - fromIndex
+            );
+    }
+}
@@ -73,7 +73,7 @@ public final class PerpDistSimpl implements Polyline {
             Vector2 p0 = originalPoints.get(i);
             Vector2 p1 = originalPoints.get(i + 2);
             Vector2 x = originalPoints.get(i + 1);
-            if (new IsPointOnLineSegment(p0, p1, x, tolerance).check()) {
+            if (GeometryKernel.isPointOnSegment(p0, p1, x, tolerance)) {
                 i++;
             }
         }
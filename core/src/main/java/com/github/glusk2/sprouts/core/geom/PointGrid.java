@@ -0,0 +1,115 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A fixed set of points, hashed into a uniform grid of {@code radius} sized
+ * cells.
+ * <p>
+ * The grid answers the question whether any of its points lies on a line
+ * segment, within {@code radius} - see
+ * {@link GeometryKernel#isPointOnSegment}. Only the
+ * points in cells that are overlapped by the bounding box of the line
+ * segment, grown by {@code radius}, are checked.
+ */
+public final class PointGrid {
+    /** The number of bits to shift the cell column index by in a cell key. */
+    private static final int KEY_SHIFT = 32;
+    /** The mask of the cell row index in a cell key. */
+    private static final long KEY_MASK = 0xffffffffL;
+
+    /**
+     * The maximum distance between a line segment and a point at which the
+     * point is still considered to lie on the segment; also the size of a
+     * grid cell.
+     */
+    private final float radius;
+    /** Points in non-empty grid cells, by cell key. */
+    private final Map<Long, List<Vector2>> cells;
+
+    /**
+     * Creates a new grid of {@code points}.
+     *
+     * @param points the points to put in the grid
+     * @param radius the maximum distance between a line segment and a point
+     *               at which the point is still considered to lie on the
+     *               segment
+     */
+    public PointGrid(final Collection<Vector2> points, final float radius) {
+        this.radius = radius;
+        this.cells = new HashMap<Long, List<Vector2>>();
+        for (Vector2 point : points) {
+            Long key = key(cell(point.x), cell(point.y));
+            List<Vector2> cell = cells.get(key);
+            if (cell == null) {
+                cell = new ArrayList<Vector2>();
+                cells.put(key, cell);
+            }
+            cell.add(point);
+        }
+    }
+
+    /**
+     * Checks whether any of the points lies on line segment {@code p0-p1}.
+     * <p>
+     * The check for each candidate point is the same as
+     * {@link IsPointOnLineSegment}, with {@code radius} as the maximum error.
+     *
+     * @param p0 the first line segment boundary
+     * @param p1 the second line segment boundary
+     * @return {@code true} if a point lies on {@code p0-p1}
+     */
+    public boolean anyOnSegment(final Vector2 p0, final Vector2 p1) {
+        if (cells.isEmpty()) {
+            return false;
+        }
+        int minX = cell(Math.min(p0.x, p1.x) - radius);
+        int maxX = cell(Math.max(p0.x, p1.x) + radius);
+        int minY = cell(Math.min(p0.y, p1.y) - radius);
+        int maxY = cell(Math.max(p0.y, p1.y) + radius);
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                List<Vector2> cell = cells.get(key(x, y));
+                if (cell == null) {
+                    continue;
+                }
+                for (Vector2 point : cell) {
+                    if (
+                        GeometryKernel.isPointOnSegment(p0, p1, point, radius)
+                    ) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the key of the cell in column {@code x} and row {@code y}.
+     *
+     * @param x the cell column index
+     * @param y the cell row index
+     * @return the cell key
+     */
+    private static Long key(final int x, final int y) {
+        return ((long) x << KEY_SHIFT) | (y & KEY_MASK);
+    }
+
+    /**
+     * Returns the index of the cell row or column that contains
+     * {@code coordinate}.
+     *
+     * @param coordinate an x or y coordinate
+     * @return the cell index
+     */
+    private int cell(final float coordinate) {
+        return (int) Math.floor(coordinate / radius);
+    }
+}
@@ -0,0 +1,204 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A polyline that is built point by point and keeps its line segments in a
+ * uniform grid.
+ * <p>
+ * The grid makes it cheap to find the first segment of the polyline that a
+ * new line segment crosses. Checking every new segment of an {@code n} point
+ * stroke against all of its previous segments thus takes roughly linear time,
+ * instead of {@code O(n^2)}.
+ * <p>
+ * Line segments are indexed by the position of their second boundary: segment
+ * {@code k} connects points {@code k - 1} and {@code k}.
+ * <p>
+ * Objects of this class are mutable and not <em>thread-safe</em>.
+ */
+public final class PolylineGrid {
+    /** The default size of a grid cell. */
+    private static final float DEFAULT_CELL_SIZE = 16f;
+    /** The number of bits to shift the cell column index by in a cell key. */
+    private static final int KEY_SHIFT = 32;
+    /** The mask of the cell row index in a cell key. */
+    private static final long KEY_MASK = 0xffffffffL;
+
+    /** The size of a grid cell. */
+    private final float cellSize;
+    /** The points appended so far. */
+    private final List<Vector2> points;
+    /** Indices of line segments in non-empty grid cells, by cell key. */
+    private final Map<Long, List<Integer>> cells;
+
+    /** Creates a new, empty PolylineGrid with the default cell size. */
+    public PolylineGrid() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Creates a new, empty PolylineGrid.
+     *
+     * @param cellSize the size of a grid cell
+     */
+    public PolylineGrid(final float cellSize) {
+        this.cellSize = cellSize;
+        this.points = new ArrayList<Vector2>();
+        this.cells = new HashMap<Long, List<Integer>>();
+    }
+
+    /**
+     * Returns the number of points appended so far.
+     *
+     * @return the number of points in {@code this} polyline
+     */
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * Returns the points appended so far.
+     *
+     * @return an unmodifiable view of the points in {@code this} polyline
+     */
+    public List<Vector2> points() {
+        return Collections.unmodifiableList(points);
+    }
+
+    /**
+     * Appends {@code point} to the end of {@code this} polyline.
+     * <p>
+     * If {@code this} polyline is not empty, a new line segment is stored
+     * between the last point and {@code point}.
+     *
+     * @param point the point to append
+     */
+    public void append(final Vector2 point) {
+        points.add(point);
+        int index = points.size() - 1;
+        if (index == 0) {
+            return;
+        }
+        for (Long key : keys(points.get(index - 1), point)) {
+            List<Integer> cell = cells.get(key);
+            if (cell == null) {
+                cell = new ArrayList<Integer>();
+                cells.put(key, cell);
+            }
+            cell.add(index);
+        }
+    }
+
+    /**
+     * Removes all points past the first {@code size} points, together with
+     * their line segments.
+     * <p>
+     * This is useful for rewinding the polyline to a common prefix of the
+     * points, when the end of a stroke changes.
+     *
+     * @param size the number of points to keep
+     */
+    public void truncate(final int size) {
+        for (int index = points.size() - 1; index >= size; index--) {
+            if (index > 0) {
+                Vector2 a = points.get(index - 1);
+                for (Long key : keys(a, points.get(index))) {
+                    List<Integer> cell = cells.get(key);
+                    cell.remove(Integer.valueOf(index));
+                    if (cell.isEmpty()) {
+                        cells.remove(key);
+                    }
+                }
+            }
+            points.remove(index);
+        }
+    }
+
+    /**
+     * Finds the first line segment of {@code this} polyline that crosses the
+     * line segment {@code p0-p1}.
+     * <p>
+     * If line segment {@code p0-p1} is simply connected to {@code this}
+     * polyline through one of its bounds, there is no crossing. This matches
+     * the definition of an intersection used by
+     * {@code PolylineIntersectionSearch}.
+     *
+     * @param p0 the first line segment boundary
+     * @param p1 the second line segment boundary
+     * @param intersection if a crossing is found, the crossing point is
+     *                     stored in this vector
+     * @return the index of the first crossed line segment, or {@code -1} if
+     *         there is no crossing
+     */
+    public int firstCrossing(
+        final Vector2 p0,
+        final Vector2 p1,
+        final Vector2 intersection
+    ) {
+        Vector2 candidate = new Vector2();
+        int first = -1;
+        for (Long key : keys(p0, p1)) {
+            List<Integer> cell = cells.get(key);
+            if (cell == null) {
+                continue;
+            }
+            for (int index : cell) {
+                if (first != -1 && index >= first) {
+                    continue;
+                }
+                boolean crosses =
+                    GeometryKernel.crossesSegment(
+                        p0,
+                        p1,
+                        points.get(index - 1),
+                        points.get(index),
+                        candidate
+                    );
+                if (crosses) {
+                    first = index;
+                    intersection.set(candidate);
+                }
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Returns the keys of all cells overlapped by the bounding box of line
+     * segment {@code a-b}.
+     *
+     * @param a the first line segment boundary
+     * @param b the second line segment boundary
+     * @return the keys of cells overlapped by the bounding box of {@code a-b}
+     */
+    private List<Long> keys(final Vector2 a, final Vector2 b) {
+        int minX = cell(Math.min(a.x, b.x));
+        int maxX = cell(Math.max(a.x, b.x));
+        int minY = cell(Math.min(a.y, b.y));
+        int maxY = cell(Math.max(a.y, b.y));
+        List<Long> keys = new ArrayList<Long>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                keys.add(((long) x << KEY_SHIFT) | (y & KEY_MASK));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the index of the cell row or column that contains
+     * {@code coordinate}.
+     *
+     * @param coordinate an x or y coordinate
+     * @return the cell index
+     */
+    private int cell(final float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+}
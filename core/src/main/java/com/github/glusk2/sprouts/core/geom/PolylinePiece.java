@@ -1,6 +1,6 @@
 package com.github.glusk2.sprouts.core.geom;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import com.badlogic.gdx.math.Vector2;
@@ -14,6 +14,12 @@ import com.badlogic.gdx.math.Vector2;
  * <p>
  * If the {@code cuttingPoint} is not on the {@code original} Polyline,
  * {@link #points()} returns an empty list.
+ * <p>
+ * The points of a piece are a read-only view of the {@code original} points
+ * and the {@code cuttingPoint} - nothing is copied. The index of the line
+ * segment that is cut is searched for once and memoized, so the
+ * {@code original} points must not change while {@code this} piece is in
+ * use.
  */
 public final class PolylinePiece implements Polyline {
     /** The default value for {@code segmentIntersectError}. */
@@ -33,6 +39,13 @@ public final class PolylinePiece implements Polyline {
      */
     private final float segmentIntersectError;
 
+    /**
+     * The index of the second boundary of the line segment that contains
+     * {@code cuttingPoint}; {@code -1} if unknown, {@code 0} if
+     * {@code cuttingPoint} is not on {@code original}.
+     */
+    private int cutIndex;
+
     /**
      * Constructs <strong>the second half</strong> PolylinePiece from
      * {@code original} that is cut at the {@code cuttingPoint}, using the
@@ -50,6 +63,34 @@ public final class PolylinePiece implements Polyline {
         this(original, cuttingPoint, false, DEFAULT_SEGMENT_INTERSECT_ERROR);
     }
 
+    /**
+     * Constructs <strong>the second half</strong> PolylinePiece from
+     * {@code original} that is cut at the {@code cuttingPoint}, which is
+     * already known to lie on the line segment between points
+     * {@code cutIndex - 1} and {@code cutIndex}.
+     * <p>
+     * No search for the {@code cuttingPoint} is needed to compute the
+     * {@link #points()} of this piece.
+     *
+     * @param original the Polyline to cut
+     * @param cuttingPoint the point at which to cut {@code original}
+     * @param cutIndex the index of the second boundary of the line segment
+     *                 that contains {@code cuttingPoint}
+     */
+    public PolylinePiece(
+        final Polyline original,
+        final Vector2 cuttingPoint,
+        final int cutIndex
+    ) {
+        this(
+            original,
+            cuttingPoint,
+            false,
+            DEFAULT_SEGMENT_INTERSECT_ERROR,
+            cutIndex
+        );
+    }
+
     /**
      * Constructs the specified PolylinePiece from {@code original} that is
      * cut at the {@code cuttingPoint}.
@@ -68,39 +109,80 @@ public final class PolylinePiece implements Polyline {
         final Vector2 cuttingPoint,
         final boolean pieceFlag,
         final float segmentIntersectError
+    ) {
+        this(original, cuttingPoint, pieceFlag, segmentIntersectError, -1);
+    }
+
+    /**
+     * Constructs the specified PolylinePiece from {@code original} that is
+     * cut at the {@code cuttingPoint}, with a known or unknown cut index.
+     *
+     * @param original the Polyline to cut
+     * @param cuttingPoint the point at which to cut {@code original}
+     * @param pieceFlag a flag that indicates which half this PolylinePiece
+     *                  represents ({@code true} - the first half,
+     *                  {@code false} - the second half)
+     * @param segmentIntersectError maximum error margin for detection of
+     *                              intersection between a polyline segment and
+     *                              {@code point}
+     * @param cutIndex the index of the second boundary of the line segment
+     *                 that contains {@code cuttingPoint}, or {@code -1} if
+     *                 unknown
+     */
+    private PolylinePiece(
+        final Polyline original,
+        final Vector2 cuttingPoint,
+        final boolean pieceFlag,
+        final float segmentIntersectError,
+        final int cutIndex
     ) {
         this.original = original;
         this.cuttingPoint = cuttingPoint;
         this.pieceFlag = pieceFlag;
         this.segmentIntersectError = segmentIntersectError;
+        this.cutIndex = cutIndex;
     }
 
     @Override
     public List<Vector2> points() {
-        List<Vector2> points = new ArrayList<Vector2>(original.points());
+        List<Vector2> points = original.points();
+        int i = cutIndex(points);
+        if (i == 0) {
+            return Collections.emptyList();
+        }
+        List<Vector2> cut = Collections.singletonList(cuttingPoint);
+        if (pieceFlag) {
+            return new JoinedPoints(points.subList(0, i), cut);
+        }
+        return new JoinedPoints(cut, points.subList(i, points.size()));
+    }
+
+    /**
+     * Finds the line segment of {@code points} that contains
+     * {@code cuttingPoint} and memoizes the result.
+     *
+     * @param points the points of the {@code original} Polyline
+     * @return the index of the second boundary of the line segment, or
+     *         {@code 0} if {@code cuttingPoint} is not on {@code original}
+     */
+    private int cutIndex(final List<Vector2> points) {
+        if (cutIndex != -1) {
+            return cutIndex;
+        }
+        cutIndex = 0;
         for (int i = 1; i < points.size(); i++) {
-            Vector2 p0 = points.get(i - 1).cpy();
-            Vector2 p1 = points.get(i).cpy();
             if (
-                new IsPointOnLineSegment(
-                    p0,
-                    p1,
+                GeometryKernel.isPointOnSegment(
+                    points.get(i - 1),
+                    points.get(i),
                     cuttingPoint,
                     segmentIntersectError
-                ).check()
+                )
             ) {
-                if (pieceFlag) {
-                    List<Vector2> result = points.subList(0, i);
-                    result.add(cuttingPoint);
-                    return result;
-                } else {
-                    List<Vector2> result = new ArrayList<Vector2>();
-                    result.add(cuttingPoint);
-                    result.addAll(points.subList(i, points.size()));
-                    return result;
-                }
+                cutIndex = i;
+                break;
             }
         }
-        return new ArrayList<Vector2>();
+        return cutIndex;
     }
 }
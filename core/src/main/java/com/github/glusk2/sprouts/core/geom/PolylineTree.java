@@ -0,0 +1,367 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A bounding volume hierarchy over the line segments of a polyline.
+ * <p>
+ * Every node of the tree covers a contiguous range of line segments and
+ * stores their axis-aligned bounding box. A line segment query descends only
+ * into the nodes whose boxes it overlaps, so a polyline that is nowhere near
+ * is rejected by a single box test and a crossing is found in
+ * {@code O(log n)} box tests.
+ * <p>
+ * Line segments are indexed by the position of their second boundary: segment
+ * {@code k} connects points {@code k - 1} and {@code k}.
+ * <p>
+ * The tree is built lazily, on the first query. The points of the polyline
+ * must not change after that. Objects of this class are not
+ * <em>thread-safe</em>.
+ */
+public final class PolylineTree {
+    /** The maximum number of line segments in a leaf node. */
+    private static final int LEAF_SIZE = 8;
+    /** The number of floats that describe a node bounding box. */
+    private static final int BOX_SIZE = 4;
+    /** The offset of the maximum x coordinate in a node bounding box. */
+    private static final int MAX_X = 2;
+    /** The offset of the maximum y coordinate in a node bounding box. */
+    private static final int MAX_Y = 3;
+
+    /** The polyline that {@code this} tree covers. */
+    private final Polyline polyline;
+
+    /** The points of the {@code polyline}, once the tree is built. */
+    private List<Vector2> points;
+    /**
+     * Node bounding boxes as {@code minX, minY, maxX, maxY} quadruples. The
+     * children of node {@code i} are nodes {@code 2i + 1} and {@code 2i + 2}.
+     */
+    private float[] boxes;
+
+    /**
+     * Creates a new tree over the line segments of {@code polyline}.
+     *
+     * @param polyline the polyline to cover
+     */
+    public PolylineTree(final Polyline polyline) {
+        this.polyline = polyline;
+    }
+
+    /**
+     * Finds the first line segment of the polyline that crosses the line
+     * segment {@code p0-p1}.
+     * <p>
+     * If line segment {@code p0-p1} is simply connected to the polyline
+     * through one of its bounds, there is no crossing.
+     *
+     * @param p0 the first line segment boundary
+     * @param p1 the second line segment boundary
+     * @param intersection if a crossing is found, the crossing point is
+     *                     stored in this vector
+     * @return the index of the first crossed line segment, or {@code -1} if
+     *         there is no crossing
+     */
+    public int firstCrossing(
+        final Vector2 p0,
+        final Vector2 p1,
+        final Vector2 intersection
+    ) {
+        build();
+        return first(0, 1, points.size(), p0, p1, intersection);
+    }
+
+    /**
+     * Finds the crossing between the polyline and the line segment
+     * {@code p0-p1} that is closest to {@code p0}.
+     * <p>
+     * If line segment {@code p0-p1} is simply connected to the polyline
+     * through one of its bounds, there is no crossing.
+     *
+     * @param p0 the first line segment boundary
+     * @param p1 the second line segment boundary
+     * @param intersection if a crossing is found, the crossing point is
+     *                     stored in this vector
+     * @return the index of the crossed line segment, or {@code -1} if there
+     *         is no crossing
+     */
+    public int closestCrossing(
+        final Vector2 p0,
+        final Vector2 p1,
+        final Vector2 intersection
+    ) {
+        build();
+        return closest(0, 1, points.size(), p0, p1, intersection, -1);
+    }
+
+    /**
+     * Finds the first point of the polyline that is at most {@code radius}
+     * away from {@code position}.
+     *
+     * @param position the query position
+     * @param radius the maximum distance (inclusive) between
+     *               {@code position} and the result
+     * @return the index of the first such point, or {@code -1} if there is
+     *         none
+     */
+    public int firstPointWithin(final Vector2 position, final float radius) {
+        build();
+        return firstWithin(0, 1, points.size(), position, radius);
+    }
+
+    /**
+     * Searches the points of the node that covers line segments
+     * {@code [lo, hi)} for the first point that is at most {@code radius}
+     * away from {@code position}.
+     *
+     * @param node the node index
+     * @param lo the index of the first line segment in the node
+     * @param hi the index past the last line segment in the node
+     * @param position the query position
+     * @param radius the maximum distance between {@code position} and the
+     *               result
+     * @return the index of the first such point, or {@code -1}
+     */
+    private int firstWithin(
+        final int node,
+        final int lo,
+        final int hi,
+        final Vector2 position,
+        final float radius
+    ) {
+        if (boxDistance2(node, position) > radius * radius) {
+            return -1;
+        }
+        if (hi - lo <= LEAF_SIZE) {
+            for (int i = lo - 1; i < hi; i++) {
+                if (points.get(i).dst(position) <= radius) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mid = (lo + hi) >>> 1;
+        int result = firstWithin(2 * node + 1, lo, mid, position, radius);
+        if (result == -1) {
+            result = firstWithin(2 * node + 2, mid, hi, position, radius);
+        }
+        return result;
+    }
+
+    /**
+     * Searches the node that covers line segments {@code [lo, hi)} for the
+     * first crossing.
+     *
+     * @param node the node index
+     * @param lo the index of the first line segment in the node
+     * @param hi the index past the last line segment in the node
+     * @param p0 the first query segment boundary
+     * @param p1 the second query segment boundary
+     * @param intersection the crossing point of the result
+     * @return the index of the first crossed line segment, or {@code -1}
+     */
+    private int first(
+        final int node,
+        final int lo,
+        final int hi,
+        final Vector2 p0,
+        final Vector2 p1,
+        final Vector2 intersection
+    ) {
+        if (!overlaps(node, p0, p1)) {
+            return -1;
+        }
+        if (hi - lo <= LEAF_SIZE) {
+            for (int i = lo; i < hi; i++) {
+                if (crosses(i, p0, p1, intersection)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mid = (lo + hi) >>> 1;
+        int result = first(2 * node + 1, lo, mid, p0, p1, intersection);
+        if (result == -1) {
+            result = first(2 * node + 2, mid, hi, p0, p1, intersection);
+        }
+        return result;
+    }
+
+    /**
+     * Searches the node that covers line segments {@code [lo, hi)} for a
+     * crossing that is closer to {@code p0} than the {@code best} one.
+     *
+     * @param node the node index
+     * @param lo the index of the first line segment in the node
+     * @param hi the index past the last line segment in the node
+     * @param p0 the first query segment boundary
+     * @param p1 the second query segment boundary
+     * @param intersection the crossing point of {@code best}, updated with
+     *                     the crossing point of the result
+     * @param best the index of the closest crossing found so far, or
+     *             {@code -1}
+     * @return the index of the closest crossing found, or {@code -1}
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    private int closest(
+        final int node,
+        final int lo,
+        final int hi,
+        final Vector2 p0,
+        final Vector2 p1,
+        final Vector2 intersection,
+        final int best
+    ) {
+        if (!overlaps(node, p0, p1)) {
+            return best;
+        }
+        int result = best;
+        if (hi - lo <= LEAF_SIZE) {
+            Vector2 candidate = new Vector2();
+            for (int i = lo; i < hi; i++) {
+                if (
+                    crosses(i, p0, p1, candidate)
+                 && (
+                        result == -1
+                     || p0.dst2(candidate) < p0.dst2(intersection)
+                    )
+                ) {
+                    result = i;
+                    intersection.set(candidate);
+                }
+            }
+            return result;
+        }
+        int mid = (lo + hi) >>> 1;
+        result = closest(2 * node + 1, lo, mid, p0, p1, intersection, result);
+        return closest(2 * node + 2, mid, hi, p0, p1, intersection, result);
+    }
+
+    /**
+     * Checks whether line segment {@code index} crosses {@code p0-p1}.
+     *
+     * @param index the line segment index
+     * @param p0 the first query segment boundary
+     * @param p1 the second query segment boundary
+     * @param intersection if there is a crossing, the crossing point is
+     *                     stored in this vector
+     * @return {@code true} if there is a crossing
+     */
+    private boolean crosses(
+        final int index,
+        final Vector2 p0,
+        final Vector2 p1,
+        final Vector2 intersection
+    ) {
+        return
+            GeometryKernel.crossesSegment(
+                p0,
+                p1,
+                points.get(index - 1),
+                points.get(index),
+                intersection
+            );
+    }
+
+    /**
+     * Checks whether the bounding box of {@code node} overlaps the bounding
+     * box of line segment {@code p0-p1}.
+     *
+     * @param node the node index
+     * @param p0 the first query segment boundary
+     * @param p1 the second query segment boundary
+     * @return {@code true} if the bounding boxes overlap
+     */
+    private boolean overlaps(
+        final int node,
+        final Vector2 p0,
+        final Vector2 p1
+    ) {
+        int box = BOX_SIZE * node;
+        return
+            Math.max(p0.x, p1.x) >= boxes[box]
+         && Math.max(p0.y, p1.y) >= boxes[box + 1]
+         && Math.min(p0.x, p1.x) <= boxes[box + MAX_X]
+         && Math.min(p0.y, p1.y) <= boxes[box + MAX_Y];
+    }
+
+    /**
+     * Returns the squared distance between the bounding box of {@code node}
+     * and {@code position}.
+     *
+     * @param node the node index
+     * @param position the position
+     * @return the squared distance, {@code 0} if {@code position} is inside
+     *         the box
+     */
+    private float boxDistance2(final int node, final Vector2 position) {
+        int box = BOX_SIZE * node;
+        float dx = 0;
+        if (position.x < boxes[box]) {
+            dx = boxes[box] - position.x;
+        } else if (position.x > boxes[box + MAX_X]) {
+            dx = position.x - boxes[box + MAX_X];
+        }
+        float dy = 0;
+        if (position.y < boxes[box + 1]) {
+            dy = boxes[box + 1] - position.y;
+        } else if (position.y > boxes[box + MAX_Y]) {
+            dy = position.y - boxes[box + MAX_Y];
+        }
+        return dx * dx + dy * dy;
+    }
+
+    /** Builds the tree, unless it is built already. */
+    private void build() {
+        if (boxes != null) {
+            return;
+        }
+        points = polyline.points();
+        int nodes = 1;
+        int segments = Math.max(1, points.size() - 1);
+        while (nodes * LEAF_SIZE < segments) {
+            nodes *= 2;
+        }
+        boxes = new float[BOX_SIZE * 2 * nodes];
+        build(0, 1, points.size());
+    }
+
+    /**
+     * Computes the bounding box of the node that covers line segments
+     * {@code [lo, hi)} and its descendants.
+     *
+     * @param node the node index
+     * @param lo the index of the first line segment in the node
+     * @param hi the index past the last line segment in the node
+     */
+    private void build(final int node, final int lo, final int hi) {
+        int box = BOX_SIZE * node;
+        if (hi - lo <= LEAF_SIZE) {
+            boxes[box] = Float.POSITIVE_INFINITY;
+            boxes[box + 1] = Float.POSITIVE_INFINITY;
+            boxes[box + MAX_X] = Float.NEGATIVE_INFINITY;
+            boxes[box + MAX_Y] = Float.NEGATIVE_INFINITY;
+            for (int i = lo - 1; i < hi; i++) {
+                Vector2 p = points.get(i);
+                boxes[box] = Math.min(boxes[box], p.x);
+                boxes[box + 1] = Math.min(boxes[box + 1], p.y);
+                boxes[box + MAX_X] = Math.max(boxes[box + MAX_X], p.x);
+                boxes[box + MAX_Y] = Math.max(boxes[box + MAX_Y], p.y);
+            }
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        int left = BOX_SIZE * (2 * node + 1);
+        int right = BOX_SIZE * (2 * node + 2);
+        build(2 * node + 1, lo, mid);
+        build(2 * node + 2, mid, hi);
+        boxes[box] = Math.min(boxes[left], boxes[right]);
+        boxes[box + 1] = Math.min(boxes[left + 1], boxes[right + 1]);
+        boxes[box + MAX_X] =
+            Math.max(boxes[left + MAX_X], boxes[right + MAX_X]);
+        boxes[box + MAX_Y] =
+            Math.max(boxes[left + MAX_Y], boxes[right + MAX_Y]);
+    }
+}
@@ -0,0 +1,230 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.List;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * A list of colored triangles that thick polylines and discs are tessellated
+ * into.
+ * <p>
+ * Every triangle vertex is stored as {@value #VERTEX_SIZE} floats:
+ * {@code x}, {@code y} and the packed color (see
+ * {@link Color#toFloatBits()}). Triangles are stored in the order in which
+ * they are added, so shapes that are added later are painted over the
+ * earlier ones.
+ * <p>
+ * A thick polyline is made of one quad per line segment, a circular wedge
+ * on the outer side of every join and a half disc at each end (round joins
+ * and caps). Unlike a disc at every point, this covers every pixel of the
+ * polyline with about one layer of triangles.
+ */
+public final class PolylineTriangles implements ShapeBuffer {
+    /** The number of floats that describe a triangle vertex. */
+    public static final int VERTEX_SIZE = 3;
+
+    /** The number of segments used to approximate a full circle. */
+    private final int circleSegmentCount;
+    /** The triangle vertices added so far. */
+    private final FloatArray vertices;
+
+    /**
+     * Creates a new, empty list of triangles.
+     *
+     * @param circleSegmentCount the number of segments used to approximate
+     *                           a full circle; arcs get a proportional share
+     */
+    public PolylineTriangles(final int circleSegmentCount) {
+        this.circleSegmentCount = circleSegmentCount;
+        this.vertices = new FloatArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Consecutive points that are equal are treated as one point. A polyline
+     * of a single point is a disc.
+     */
+    @Override
+    public void addPolyline(
+        final List<Vector2> points,
+        final float thickness,
+        final Color color
+    ) {
+        if (points.isEmpty()) {
+            return;
+        }
+        float radius = thickness / 2;
+        float packedColor = color.toFloatBits();
+        Vector2 first = points.get(0);
+        Vector2 last = first;
+        // the direction of the previous line segment, or NaN at the start
+        double previousAngle = Double.NaN;
+        for (int i = 1; i < points.size(); i++) {
+            Vector2 p = points.get(i);
+            if (p.equals(last)) {
+                continue;
+            }
+            double angle = Math.atan2(p.y - last.y, p.x - last.x);
+            if (Double.isNaN(previousAngle)) {
+                addSector(
+                    last, radius, angle + MathUtils.PI / 2, MathUtils.PI,
+                    packedColor
+                );
+            } else {
+                addJoin(last, radius, previousAngle, angle, packedColor);
+            }
+            addSegment(last, p, radius, angle, packedColor);
+            previousAngle = angle;
+            last = p;
+        }
+        if (Double.isNaN(previousAngle)) {
+            addSector(first, radius, 0, MathUtils.PI2, packedColor);
+        } else {
+            addSector(
+                last, radius, previousAngle - MathUtils.PI / 2, MathUtils.PI,
+                packedColor
+            );
+        }
+    }
+
+    @Override
+    public void addDisc(
+        final Vector2 center,
+        final float radius,
+        final Color color
+    ) {
+        addSector(center, radius, 0, MathUtils.PI2, color.toFloatBits());
+    }
+
+    @Override
+    public FloatArray vertices() {
+        return vertices;
+    }
+
+    @Override
+    public int vertexSize() {
+        return VERTEX_SIZE;
+    }
+
+    /**
+     * Adds the quad of line segment {@code p0-p1}.
+     *
+     * @param p0 the first segment boundary
+     * @param p1 the second segment boundary
+     * @param radius half of the polyline thickness
+     * @param angle the direction of the segment
+     * @param packedColor the packed color of the quad
+     */
+    private void addSegment(
+        final Vector2 p0,
+        final Vector2 p1,
+        final float radius,
+        final double angle,
+        final float packedColor
+    ) {
+        float nx = (float) (-Math.sin(angle) * radius);
+        float ny = (float) (Math.cos(angle) * radius);
+        addVertex(p0.x + nx, p0.y + ny, packedColor);
+        addVertex(p0.x - nx, p0.y - ny, packedColor);
+        addVertex(p1.x + nx, p1.y + ny, packedColor);
+        addVertex(p1.x + nx, p1.y + ny, packedColor);
+        addVertex(p0.x - nx, p0.y - ny, packedColor);
+        addVertex(p1.x - nx, p1.y - ny, packedColor);
+    }
+
+    /**
+     * Adds the round join at {@code center}, between a line segment in
+     * direction {@code fromAngle} and a line segment in direction
+     * {@code toAngle}.
+     * <p>
+     * The wedge fills the gap between the quads on the outer side of the
+     * turn; on the inner side the quads overlap.
+     *
+     * @param center the join point
+     * @param radius half of the polyline thickness
+     * @param fromAngle the direction of the incoming line segment
+     * @param toAngle the direction of the outgoing line segment
+     * @param packedColor the packed color of the join
+     */
+    private void addJoin(
+        final Vector2 center,
+        final float radius,
+        final double fromAngle,
+        final double toAngle,
+        final float packedColor
+    ) {
+        double turn = toAngle - fromAngle;
+        if (turn > Math.PI) {
+            turn -= MathUtils.PI2;
+        } else if (turn < -Math.PI) {
+            turn += MathUtils.PI2;
+        }
+        if (turn > 0) {
+            // left turn, the outer side is on the right
+            addSector(
+                center, radius, fromAngle - Math.PI / 2, turn, packedColor
+            );
+        } else if (turn < 0) {
+            addSector(
+                center, radius, fromAngle + Math.PI / 2, turn, packedColor
+            );
+        }
+    }
+
+    /**
+     * Adds a circular sector as a triangle fan.
+     *
+     * @param center the center of the circle
+     * @param radius the radius of the circle
+     * @param startAngle the angle of the first sector boundary
+     * @param sweep the signed angle between the sector boundaries
+     * @param packedColor the packed color of the sector
+     */
+    private void addSector(
+        final Vector2 center,
+        final float radius,
+        final double startAngle,
+        final double sweep,
+        final float packedColor
+    ) {
+        int segments =
+            Math.max(
+                1,
+                (int) Math.ceil(
+                    Math.abs(sweep) / MathUtils.PI2 * circleSegmentCount
+                )
+            );
+        double step = sweep / segments;
+        float x0 = center.x + (float) (Math.cos(startAngle) * radius);
+        float y0 = center.y + (float) (Math.sin(startAngle) * radius);
+        for (int i = 1; i <= segments; i++) {
+            double angle = startAngle + i * step;
+            float x1 = center.x + (float) (Math.cos(angle) * radius);
+            float y1 = center.y + (float) (Math.sin(angle) * radius);
+            addVertex(center.x, center.y, packedColor);
+            addVertex(x0, y0, packedColor);
+            addVertex(x1, y1, packedColor);
+            x0 = x1;
+            y0 = y1;
+        }
+    }
+
+    /**
+     * Adds a triangle vertex.
+     *
+     * @param x the x coordinate of the vertex
+     * @param y the y coordinate of the vertex
+     * @param packedColor the packed color of the vertex
+     */
+    private void addVertex(
+        final float x,
+        final float y,
+        final float packedColor
+    ) {
+        vertices.add(x, y, packedColor);
+    }
+}
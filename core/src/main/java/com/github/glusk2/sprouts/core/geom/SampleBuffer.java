@@ -0,0 +1,83 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * An append-only buffer of sample points, shared by a sequence of immutable
+ * snapshots.
+ * <p>
+ * A snapshot holds the buffer and the number of points that it sees, its
+ * {@code length}. Appending to the newest snapshot adds the point at the
+ * end of the shared buffer, in amortized constant time, without changing
+ * what older snapshots see. Appending to an older snapshot (branching)
+ * copies its points into a new buffer first.
+ * <p>
+ * Objects of this class are not <em>thread-safe</em>.
+ */
+public final class SampleBuffer {
+    /** The packed {@code x, y} coordinates of the points in the buffer. */
+    private final FloatArray coordinates;
+
+    /**
+     * Creates a new buffer with {@code points}.
+     *
+     * @param points the initial points of the buffer
+     */
+    public SampleBuffer(final List<Vector2> points) {
+        this(new FloatArray(2 * points.size()));
+        for (Vector2 p : points) {
+            coordinates.add(p.x, p.y);
+        }
+    }
+
+    /**
+     * Creates a new buffer with packed point {@code coordinates}.
+     *
+     * @param coordinates the packed {@code x, y} coordinates of the points
+     */
+    private SampleBuffer(final FloatArray coordinates) {
+        this.coordinates = coordinates;
+    }
+
+    /**
+     * Appends {@code point} to the first {@code length} points of the
+     * buffer.
+     *
+     * @param length the number of points that the appending snapshot sees
+     * @param point the point to append
+     * @return {@code this} buffer if {@code length} is the number of points
+     *         in it, otherwise a new buffer with the first {@code length}
+     *         points; either way, the buffer holds {@code point} at index
+     *         {@code length}
+     */
+    public SampleBuffer append(final int length, final Vector2 point) {
+        if (length < 0 || 2 * length > coordinates.size) {
+            throw new IndexOutOfBoundsException("Length: " + length);
+        }
+        SampleBuffer buffer = this;
+        if (2 * length < coordinates.size) {
+            FloatArray copy = new FloatArray(2 * (length + 1));
+            copy.addAll(coordinates, 0, 2 * length);
+            buffer = new SampleBuffer(copy);
+        }
+        buffer.coordinates.add(point.x, point.y);
+        return buffer;
+    }
+
+    /**
+     * Returns a view of the first {@code length} points of the buffer.
+     * <p>
+     * The view stays valid as points are appended, since appending never
+     * changes the existing points. It can also be read on another thread
+     * while points are appended, see {@link PackedPoints}.
+     *
+     * @param length the number of points that the snapshot sees
+     * @return a read-only view of the first {@code length} points
+     */
+    public PackedPoints points(final int length) {
+        return new PackedPoints(coordinates, 0, length);
+    }
+}
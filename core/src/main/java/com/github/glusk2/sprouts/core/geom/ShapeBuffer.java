@@ -0,0 +1,58 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.List;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * A buffer of GPU vertices that thick polylines and discs are added to.
+ * <p>
+ * Shapes are stored in the order in which they are added, so shapes that are
+ * added later are painted over the earlier ones.
+ */
+public interface ShapeBuffer {
+    /**
+     * Adds a polyline through {@code points}, with round joins and caps.
+     *
+     * @param points the polyline points
+     * @param thickness the thickness of the polyline
+     * @param color the color of the polyline
+     */
+    void addPolyline(List<Vector2> points, float thickness, Color color);
+
+    /**
+     * Adds a disc.
+     *
+     * @param center the center of the disc
+     * @param radius the radius of the disc
+     * @param color the color of the disc
+     */
+    void addDisc(Vector2 center, float radius, Color color);
+
+    /**
+     * Returns the vertices added so far.
+     * <p>
+     * The result is a live view: it changes as shapes are added.
+     *
+     * @return the vertices, {@link #vertexSize()} floats per vertex
+     */
+    FloatArray vertices();
+
+    /**
+     * Returns the number of floats that describe a vertex.
+     *
+     * @return the number of floats per vertex
+     */
+    int vertexSize();
+
+    /**
+     * Returns the number of vertices added so far.
+     *
+     * @return the number of vertices
+     */
+    default int vertexCount() {
+        return vertices().size / vertexSize();
+    }
+}
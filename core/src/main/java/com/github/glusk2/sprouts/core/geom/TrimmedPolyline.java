@@ -1,6 +1,6 @@
 package com.github.glusk2.sprouts.core.geom;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import com.badlogic.gdx.math.Vector2;
@@ -18,6 +18,11 @@ import com.badlogic.gdx.math.Vector2;
  * <p>
  * {@link #points()} may return an empty list if all of the points in
  * {@code original.points()} meet the trimming criteria.
+ * <p>
+ * The points are a read-only view of {@code original.points()} - nothing is
+ * copied. The number of points to trim is searched for once and memoized, so
+ * the {@code original} points must not change while {@code this} polyline
+ * is in use.
  */
 public final class TrimmedPolyline implements Polyline {
     /** The Polyline to trim. */
@@ -28,6 +33,12 @@ public final class TrimmedPolyline implements Polyline {
      */
     private final float minDistance;
 
+    /**
+     * The index of the first point that is not trimmed, or {@code -1} if
+     * unknown.
+     */
+    private int trimIndex = -1;
+
     /**
      * Constructs a new TrimmedPolyline.
      *
@@ -43,16 +54,24 @@ public final class TrimmedPolyline implements Polyline {
 
     @Override
     public List<Vector2> points() {
-        List<Vector2> points = new ArrayList<Vector2>(original.points());
-        if (points.isEmpty()) {
-            return new ArrayList<Vector2>();
-        }
-        Vector2 firstPoint = points.get(0);
-        for (int i = 1; i < points.size(); i++) {
-            if (firstPoint.dst(points.get(i)) >= minDistance) {
-                return points.subList(i, points.size());
+        List<Vector2> points = original.points();
+        if (trimIndex == -1) {
+            trimIndex = points.size();
+            if (!points.isEmpty()) {
+                Vector2 firstPoint = points.get(0);
+                for (int i = 1; i < points.size(); i++) {
+                    if (firstPoint.dst(points.get(i)) >= minDistance) {
+                        trimIndex = i;
+                        break;
+                    }
+                }
             }
         }
-        return new ArrayList<Vector2>();
+        if (trimIndex >= points.size()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(
+            points.subList(trimIndex, points.size())
+        );
     }
 }
@@ -0,0 +1,67 @@
+package com.github.glusk2.sprouts.core.moves;
+
+import java.util.Iterator;
+
+/**
+ * A {@code Move} <em>decorator</em> that caches the validation results of
+ * the original Move.
+ * <p>
+ * The Submoves of a Move are not copied, so they should cache their own
+ * results (like {@link SubmoveElement} does) for repeated iterations to be
+ * cheap.
+ */
+public final class CachedMove implements Move {
+    /** The original Move. */
+    private final Move source;
+
+    /** The cached value of {@link #isCompleted()}. */
+    private Boolean completed;
+    /** The cached value of {@link #isValid()}. */
+    private Boolean valid;
+
+    /**
+     * Creates a new {@code CachedMove} from {@code source}.
+     *
+     * @param source the Move to cache
+     */
+    public CachedMove(final Move source) {
+        this.source = source;
+    }
+
+    @Override
+    public Iterator<Submove> iterator() {
+        return source.iterator();
+    }
+
+    /**
+     * Checks the original Move only once and caches the result. On
+     * consecutive invocations the cached result is returned instead.
+     * <p>
+     * This implementation is not <em>thread-safe</em>.
+     *
+     * @return {@code true} if all the Submoves are completed
+     */
+    @Override
+    public boolean isCompleted() {
+        if (completed == null) {
+            completed = source.isCompleted();
+        }
+        return completed;
+    }
+
+    /**
+     * Checks the original Move only once and caches the result. On
+     * consecutive invocations the cached result is returned instead.
+     * <p>
+     * This implementation is not <em>thread-safe</em>.
+     *
+     * @return {@code true} if all the Submoves are valid
+     */
+    @Override
+    public boolean isValid() {
+        if (valid == null) {
+            valid = source.isValid();
+        }
+        return valid;
+    }
+}
@@ -29,6 +29,11 @@ import com.github.glusk2.sprouts.core.comb.SproutsEdge;
  * <p>
  * We will not allow the middle sprout to be within the
  * {@code 2 * vertexGlueRadius} radius of any submove endpoint.
+ * <p>
+ * The first point near {@code middleSproutPosition} is found through the
+ * bounding volume hierarchy of each submove edge (see
+ * {@link SproutsEdge#tree()}). The result is searched for once and
+ * memoized.
  */
 public final class MiddleSprout {
     /**
@@ -52,6 +57,8 @@ public final class MiddleSprout {
      * and returns it as {@link #submovePolylineIndex()}.
      */
     private int splitIndex = -1;
+    /** Whether {@link #findMiddleSprout()} has been invoked already. */
+    private boolean searched;
 
     /**
      * Creates a new middle sprout.
@@ -80,33 +87,34 @@ public final class MiddleSprout {
      * accordingly.
      */
     private void findMiddleSprout() {
+        if (searched) {
+            return;
+        }
+        searched = true;
         Iterator<Submove> it = move.iterator();
         while (it.hasNext()) {
             Submove submove = it.next();
-            List<Vector2> points = submove.asEdge().polyline().points();
-            for (int i = 0; i < points.size(); i++) {
-                if (
-                    points.get(i).dst(middleSproutPosition) <= vertexGlueRadius
+            SproutsEdge edge = submove.asEdge();
+            List<Vector2> points = edge.polyline().points();
+            int i =
+                edge.tree().firstPointWithin(
+                    middleSproutPosition,
+                    vertexGlueRadius
+                );
+            if (i != -1) {
+                Vector2 submoveStart = edge.from().position();
+                Vector2 submoveEnd = edge.to().position();
+                while (
+                    i < points.size()
+                 && (
+                    submoveStart.dst(points.get(i)) <= 2 * vertexGlueRadius
+                 || submoveEnd.dst(points.get(i)) <= 2 * vertexGlueRadius
+                    )
                 ) {
-                    // It would be nice to have some tests written for this
-                    // piece of code.
-                    //---------------------------------------------------------
-                    Vector2 submoveStart = submove.asEdge().from().position();
-                    Vector2 submoveEnd = submove.asEdge().to().position();
-                    while (
-                        i < points.size()
-                     && (
-                        submoveStart.dst(points.get(i)) <= 2 * vertexGlueRadius
-                     || submoveEnd.dst(points.get(i)) <= 2 * vertexGlueRadius
-                        )
-                    ) {
-                        i++;
-                    }
-                    if (i == points.size()) {
-                        continue;
-                    }
-                    //---------------------------------------------------------
-                    edgeToSplit = submove.asEdge();
+                    i++;
+                }
+                if (i < points.size()) {
+                    edgeToSplit = edge;
                     splitIndex = i;
                     return;
                 }
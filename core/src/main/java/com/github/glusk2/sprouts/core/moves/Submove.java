@@ -3,6 +3,8 @@ package com.github.glusk2.sprouts.core.moves;
 import java.util.Iterator;
 
 import com.github.glusk2.sprouts.core.comb.SproutsEdge;
+import com.github.glusk2.sprouts.core.comb.SproutsGameState;
+import com.github.glusk2.sprouts.core.comb.SproutsStateAfterSubmove;
 
 /**
  * Represents a part of the player's move drawn on the screen.
@@ -52,4 +54,20 @@ public interface Submove extends Iterator<Submove> {
      * @return {@code true} if {@code this} Submove is valid
      */
     boolean isValid();
+
+    /**
+     * Returns the game state after {@code this} completed Submove is drawn
+     * in {@code currentState}.
+     * <p>
+     * The default implementation creates a new
+     * {@link SproutsStateAfterSubmove}. Implementations may return a state
+     * that they have already built, so that its edges are not derived
+     * again.
+     *
+     * @param currentState the game state before {@code this} Submove
+     * @return the game state after {@code this} Submove
+     */
+    default SproutsGameState stateAfter(final SproutsGameState currentState) {
+        return new SproutsStateAfterSubmove(currentState, this);
+    }
 }
@@ -1,25 +1,15 @@
 package com.github.glusk2.sprouts.core.moves;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import com.github.glusk2.sprouts.core.comb.FaceIntersectionSearch;
 import com.github.glusk2.sprouts.core.comb.IsAliveSprout;
-import com.github.glusk2.sprouts.core.comb.IsSubmovePossibleInFace;
-import com.github.glusk2.sprouts.core.comb.NearestSproutSearch;
-import com.github.glusk2.sprouts.core.comb.PolylineIntersectionSearch;
 import com.github.glusk2.sprouts.core.comb.SproutsEdge;
-import com.github.glusk2.sprouts.core.comb.SproutsFaces;
 import com.github.glusk2.sprouts.core.comb.SproutsGameState;
-import com.github.glusk2.sprouts.core.comb.SproutsStateAfterSubmove;
 import com.github.glusk2.sprouts.core.comb.Vertex;
 import com.github.glusk2.sprouts.core.comb.VertexDegree;
-import com.github.glusk2.sprouts.core.comb.VoidVertex;
-import com.github.glusk2.sprouts.core.geom.IsPointOnLineSegment;
 import com.github.glusk2.sprouts.core.geom.Polyline;
 import com.github.glusk2.sprouts.core.geom.PolylinePiece;
 
@@ -29,35 +19,17 @@ import com.github.glusk2.sprouts.core.geom.PolylinePiece;
  * The first element of any such sequence is always the {@link SubmoveHead}.
  */
 public final class SubmoveElement implements Submove {
-    /**
-     * The minimum Submove length (as the number of polyline points).
-     * <p>
-     * Left + right hook - the minimum of 4 stroke points is required.
-     */
-    private static final int MIN_LENGTH = 4;
-    /**
-     * The maximum Submove length (in line segments) allowed to draw when
-     * drawing in a face that has a less than 2 sprout lives.
-     */
-    private static final int INVALID_WINDOW = 7;
-    /** The Graph Vertex in which {@code this} Submove begins. */
-    private final Vertex origin;
     /** The polyline approximation of the move stroke. */
     private final Polyline stroke;
-    /** The game state before {@code this} Submove. */
-    private final SproutsGameState currentState;
-    /**
-     * The Vertex glue radius, used to auto-complete {@code this} Submove
-     * when near a sprout.
-     */
-    private final float vertexGlueRadius;
-
-    /** Any Submove that is drawn outside of {@code gameBounds} is invalid. */
-    private final Rectangle gameBounds;
-
+    /** The scan that validates the {@code stroke}. */
+    private final SubmoveScan scan;
 
+    /** A cached value of {@code stroke.points()}. */
+    private List<Vector2> strokePoints = null;
     /** A cached value of {@link #asEdge()}. */
     private SproutsEdge cache = null;
+    /** A cached value of {@link #next()}. */
+    private Submove nextCache = null;
 
     /**
      * Creates a new Submove.
@@ -123,169 +95,32 @@ public final class SubmoveElement implements Submove {
         final float vertexGlueRadius,
         final Rectangle gameBounds
     ) {
-        this.origin = origin;
+        this(
+            stroke,
+            new SubmoveScan(origin, currentState, vertexGlueRadius, gameBounds)
+        );
+    }
+
+    /**
+     * Creates a new Submove that is validated by an existing {@code scan}.
+     * <p>
+     * The {@code scan} remembers what it has already validated, so sharing
+     * it between Submoves with a growing {@code stroke} avoids checking the
+     * same stroke points over and over again.
+     *
+     * @param stroke the polyline approximation of the move stroke
+     * @param scan the scan that validates the {@code stroke}
+     */
+    public SubmoveElement(final Polyline stroke, final SubmoveScan scan) {
         this.stroke = stroke;
-        this.currentState = currentState;
-        this.vertexGlueRadius = vertexGlueRadius;
-        this.gameBounds = gameBounds;
+        this.scan = scan;
     }
 
     @Override
-    @SuppressWarnings("checkstyle:methodlength")
     public SproutsEdge asEdge() {
-        if (cache != null) {
-            return cache;
-        }
-        List<Vector2> strokePoints = stroke.points();
-        if (strokePoints.isEmpty()) {
-            throw
-                new IllegalStateException(
-                    "At least 1 sample point is needed to establish a "
-                     + "direction!"
-                );
-        }
-        Set<SproutsEdge> moveFace =
-            new SproutsFaces(
-                currentState.edges()
-            ).drawnIn(
-                new SproutsEdge(
-                    true,
-                    new Polyline.WrappedList(strokePoints),
-                    origin.color(), // from
-                    Color.BLACK     // to
-                )
-            );
-        for (int i = 0; i < strokePoints.size(); i++) {
-            // If move not possible in face, let the user draw a couple of
-            // line segments before aborting
-            if (
-                i > INVALID_WINDOW
-             && !new IsSubmovePossibleInFace(
-                    origin.color().equals(Color.BLACK),
-                    currentState,
-                    moveFace
-                ).check()
-            ) {
-                cache =
-                    new SproutsEdge(
-                        true,
-                        new Polyline.WrappedList(
-                            new ArrayList<Vector2>(strokePoints.subList(0, i))
-                        ),
-                        origin.color(),
-                        Color.GRAY
-                    );
-                return cache;
-            }
-
-            // If outside of game bounds, finnish
-            Vector2 p1 = strokePoints.get(i);
-            if (!gameBounds.contains(p1)) {
-                cache =
-                    new SproutsEdge(
-                        true,
-                        new Polyline.WrappedList(
-                            new ArrayList<Vector2>(strokePoints.subList(0, i))
-                        ),
-                        origin.color(),
-                        Color.GRAY
-                    );
-                return cache;
-            }
-
-            // If close to a sprout, finnish
-            if (i >= MIN_LENGTH) {
-                Vertex v = new NearestSproutSearch(currentState, p1).result();
-                if (v.position().dst(p1) < vertexGlueRadius) {
-                    List<Vector2> returnPoints =
-                        new ArrayList<Vector2>(strokePoints.subList(0, i));
-                    returnPoints.add(v.position());
-                    cache =
-                        new SproutsEdge(
-                            true,
-                            new Polyline.WrappedList(returnPoints),
-                            origin.color(),
-                            v.color()
-                        );
-                    return cache;
-                }
-            }
-
-            if (i > 0) {
-                Vector2 p0 = strokePoints.get(i - 1);
-
-                // Check if too close to a red vertex and abort
-                boolean intesectsCobwebVertex = currentState.vertices()
-                    .stream()
-                    .anyMatch(v ->
-                        v.color().equals(Color.RED)
-                     && new IsPointOnLineSegment(
-                            p0, p1, v.position(), vertexGlueRadius
-                        ).check()
-                    );
-                if (intesectsCobwebVertex) {
-                    cache =
-                        new SproutsEdge(
-                            true,
-                            new Polyline.WrappedList(
-                                strokePoints.subList(0, i)
-                            ),
-                            origin.color(),
-                            Color.GRAY
-                        );
-                    return cache;
-                }
-
-                // Check if crosses itself
-                Vertex crossPoint =
-                    new PolylineIntersectionSearch(
-                        p0,
-                        p1,
-                        new Polyline.WrappedList(strokePoints.subList(0, i)),
-                        Color.BLACK
-                    ).result();
-                if (crossPoint.color().equals(Color.BLACK)) {
-                    List<Vector2> returnPoints =
-                        new ArrayList<Vector2>(strokePoints.subList(0, i));
-                    returnPoints.add(crossPoint.position());
-                    cache =
-                        new SproutsEdge(
-                            true,
-                            new Polyline.WrappedList(returnPoints),
-                            origin.color(),
-                            Color.GRAY
-                        );
-                    return cache;
-                }
-                // Check if crosses the face
-                crossPoint =
-                    new FaceIntersectionSearch(moveFace, p0, p1).result();
-                if (!crossPoint.equals(new VoidVertex())) {
-                    List<Vector2> returnPoints =
-                        new ArrayList<Vector2>(strokePoints.subList(0, i));
-                    returnPoints.add(crossPoint.position());
-                    Color toColor = crossPoint.color();
-                    if (toColor.equals(Color.BLACK)) {
-                        toColor = Color.GRAY;
-                    }
-                    cache =
-                        new SproutsEdge(
-                            true,
-                            new Polyline.WrappedList(returnPoints),
-                            origin.color(),
-                            toColor
-                        );
-                    return cache;
-                }
-            }
+        if (cache == null) {
+            cache = scan.edge(strokePoints());
         }
-        cache =
-            new SproutsEdge(
-                true,
-                new Polyline.WrappedList(strokePoints),
-                origin.color(),
-                Color.CLEAR
-            );
         return cache;
     }
 
@@ -300,7 +135,7 @@ public final class SubmoveElement implements Submove {
 
     @Override
     public boolean isReadyToRender() {
-        return stroke.points().size() > 1;
+        return strokePoints().size() > 1;
     }
 
     @Override
@@ -309,7 +144,8 @@ public final class SubmoveElement implements Submove {
             return false;
         }
 
-        Vertex from = origin;
+        SproutsGameState currentState = scan.currentState();
+        Vertex from = scan.origin();
         Vertex to = asEdge().to();
 
         boolean intermediate = true;
@@ -330,6 +166,22 @@ public final class SubmoveElement implements Submove {
         return intermediate && !to.color().equals(Color.GRAY);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If {@code currentState} is the state that the {@code scan} validates
+     * {@code this} Submove in, the state is the one that the scan of the
+     * next Submove validates in, see {@link SubmoveScan#next(Submove)}.
+     * While a Move is validated, that state is already built.
+     */
+    @Override
+    public SproutsGameState stateAfter(final SproutsGameState currentState) {
+        if (currentState == scan.currentState() && isCompleted()) {
+            return scan.next(this).currentState();
+        }
+        return Submove.super.stateAfter(currentState);
+    }
+
     @Override
     public boolean hasNext() {
         return isCompleted() && !asEdge().to().color().equals(Color.BLACK);
@@ -340,17 +192,36 @@ public final class SubmoveElement implements Submove {
         if (!hasNext()) {
             throw new IllegalStateException("This is the tail Submove.");
         }
-        Vertex tip = asEdge().to();
-        return
+        if (nextCache != null) {
+            return nextCache;
+        }
+        // the tip is the crossing point on the line segment that ends at
+        // the stroke point after the last one in the edge
+        SproutsEdge edge = asEdge();
+        nextCache =
             new SubmoveElement(
-                tip,
                 new PolylinePiece(
-                    stroke,
-                    tip.position()
+                    new Polyline.WrappedList(strokePoints()),
+                    edge.to().position(),
+                    edge.polyline().points().size() - 1
                 ),
-                new SproutsStateAfterSubmove(currentState, this),
-                vertexGlueRadius,
-                gameBounds
+                scan.next(this)
             );
+        return nextCache;
+    }
+
+    /**
+     * Returns the points of the {@code stroke}.
+     * <p>
+     * The stroke is approximated once and the points are cached, since every
+     * check of {@code this} Submove needs them.
+     *
+     * @return the cached points of the {@code stroke}
+     */
+    private List<Vector2> strokePoints() {
+        if (strokePoints == null) {
+            strokePoints = stroke.points();
+        }
+        return strokePoints;
     }
 }
@@ -0,0 +1,464 @@
+package com.github.glusk2.sprouts.core.moves;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+import com.github.glusk2.sprouts.core.comb.EdgeGrid;
+import com.github.glusk2.sprouts.core.comb.FaceIntersectionSearch;
+import com.github.glusk2.sprouts.core.comb.IsSubmovePossibleInFace;
+import com.github.glusk2.sprouts.core.comb.NearestSproutSearch;
+import com.github.glusk2.sprouts.core.comb.SproutsEdge;
+import com.github.glusk2.sprouts.core.comb.SproutsFaces;
+import com.github.glusk2.sprouts.core.comb.SproutsGameState;
+import com.github.glusk2.sprouts.core.comb.SproutsStateAfterSubmove;
+import com.github.glusk2.sprouts.core.comb.SproutsTooltip;
+import com.github.glusk2.sprouts.core.comb.Vertex;
+import com.github.glusk2.sprouts.core.comb.VoidVertex;
+import com.github.glusk2.sprouts.core.geom.GrowingPoints;
+import com.github.glusk2.sprouts.core.geom.PointGrid;
+import com.github.glusk2.sprouts.core.geom.Polyline;
+import com.github.glusk2.sprouts.core.geom.PolylineGrid;
+
+/**
+ * A resumable scan of a Submove stroke.
+ * <p>
+ * A scan walks the stroke points one by one and stops at the first point
+ * that completes or invalidates the Submove. The result is the Submove as
+ * an edge, see {@link Submove#asEdge()}.
+ * <p>
+ * While a Move is being drawn, the stroke keeps growing at the end, but its
+ * beginning does not change. A scan therefore remembers the prefix of the
+ * stroke that it has already validated (together with the face that the
+ * Submove is drawn in) and on the next invocation of
+ * {@link #edge(List)} only checks the points past the longest common prefix
+ * of the old and the new stroke. If both strokes are {@link GrowingPoints}
+ * with a shared head, the head is known to be common and only the points
+ * after it are compared.
+ * <p>
+ * A scan also keeps the scan of the next Submove, see
+ * {@link #next(Submove)}, so that a whole Submove sequence can be validated
+ * incrementally.
+ * <p>
+ * Objects of this class are mutable and not <em>thread-safe</em>.
+ */
+public final class SubmoveScan {
+    /**
+     * The minimum Submove length, in multiples of the vertex glue radius.
+     * <p>
+     * A Submove is not auto-completed before its stroke is this long, so
+     * that it can leave the glue radius of its origin. The length is
+     * measured along the stroke, so it does not depend on how densely the
+     * stroke is approximated. With the glue radius of twice the move
+     * thickness, this is 3.2 move thicknesses: where the 5th point (4
+     * segments) of a stroke approximated with 5 segments per spline used
+     * to be.
+     */
+    private static final float MIN_LENGTH = 1.6f;
+    /**
+     * The maximum Submove length, in multiples of the vertex glue radius,
+     * allowed to draw when drawing in a face that has a less than 2 sprout
+     * lives.
+     * <p>
+     * Like {@link #MIN_LENGTH}, it is measured along the stroke. With the
+     * glue radius of twice the move thickness, this is 6 move thicknesses:
+     * about 7 segments of a stroke approximated with 5 segments per spline.
+     */
+    private static final float INVALID_WINDOW = 3f;
+
+    /** The Graph Vertex in which the Submove begins. */
+    private final Vertex origin;
+    /** The game state before the Submove. */
+    private final SproutsGameState currentState;
+    /**
+     * The Vertex glue radius, used to auto-complete the Submove when near a
+     * sprout.
+     */
+    private final float vertexGlueRadius;
+    /** Any Submove that is drawn outside of {@code gameBounds} is invalid. */
+    private final Rectangle gameBounds;
+
+    /** The faces of {@code currentState}. */
+    private SproutsFaces faces;
+    /** The face that the Submove is drawn in. */
+    private Set<SproutsEdge> face;
+    /** The face that {@code tooltip} was created for. */
+    private Set<SproutsEdge> tooltipFace;
+    /** The tooltip of {@code tooltipFace}, see {@link #tooltip()}. */
+    private SproutsTooltip tooltip;
+    /** Whether the Submove is possible in {@code face}. */
+    private Boolean possibleInFace;
+    /** The cobweb vertices of {@code currentState}, in a grid. */
+    private PointGrid cobwebVertices;
+    /**
+     * The validated stroke prefix - points that neither complete nor
+     * invalidate the Submove.
+     */
+    private PolylineGrid validated;
+    /**
+     * The length of the stroke up to each point of the {@code validated}
+     * prefix.
+     */
+    private FloatArray validatedLengths;
+    /**
+     * The last scanned stroke, {@code null} if it was not a
+     * {@link GrowingPoints} list.
+     */
+    private GrowingPoints scanned;
+    /** The Submove edge that {@code nextScan} was created for. */
+    private SproutsEdge nextEdge;
+    /** The scan of the next Submove. */
+    private SubmoveScan nextScan;
+
+    /**
+     * Creates a new scan of a Submove.
+     *
+     * @param origin the Graph Vertex in which the Submove begins
+     * @param currentState the game state before the Submove
+     * @param vertexGlueRadius the Vertex glue radius, used to auto-complete
+     *                         the Submove when near a sprout
+     * @param gameBounds any Submove that is drawn outside of
+     *                   {@code gameBounds} is invalid
+     */
+    public SubmoveScan(
+        final Vertex origin,
+        final SproutsGameState currentState,
+        final float vertexGlueRadius,
+        final Rectangle gameBounds
+    ) {
+        this.origin = origin;
+        this.currentState = currentState;
+        this.vertexGlueRadius = vertexGlueRadius;
+        this.gameBounds = gameBounds;
+    }
+
+    /**
+     * Returns the Graph Vertex in which the Submove begins.
+     *
+     * @return the origin of the Submove
+     */
+    public Vertex origin() {
+        return origin;
+    }
+
+    /**
+     * Returns the game state before the Submove.
+     *
+     * @return the game state before the Submove
+     */
+    public SproutsGameState currentState() {
+        return currentState;
+    }
+
+    /**
+     * Scans {@code strokePoints} and returns the Submove as an edge.
+     * <p>
+     * Points in the common prefix of {@code strokePoints} and the previously
+     * scanned stroke are not checked again.
+     *
+     * @param strokePoints the polyline approximation of the move stroke
+     * @return the Submove as an edge
+     */
+    public SproutsEdge edge(final List<Vector2> strokePoints) {
+        if (strokePoints.isEmpty()) {
+            throw
+                new IllegalStateException(
+                    "At least 1 sample point is needed to establish a "
+                     + "direction!"
+                );
+        }
+        int start = commonPrefix(strokePoints);
+        scanned = null;
+        if (strokePoints instanceof GrowingPoints) {
+            scanned = (GrowingPoints) strokePoints;
+        }
+        if (face == null || start < 2) {
+            if (faces == null) {
+                faces = new SproutsFaces(currentState.edges());
+            }
+            face =
+                faces.drawnIn(
+                    new SproutsEdge(
+                        true,
+                        new Polyline.WrappedList(strokePoints),
+                        origin.color(), // from
+                        Color.BLACK     // to
+                    )
+                );
+            possibleInFace = null;
+            start = 0;
+        }
+        if (validated == null) {
+            validated = new PolylineGrid();
+            validatedLengths = new FloatArray();
+        }
+        validated.truncate(start);
+        validatedLengths.size = start;
+
+        EdgeGrid edgeGrid = currentState.edgeGrid();
+        for (int i = start; i < strokePoints.size(); i++) {
+            Vector2 p1 = strokePoints.get(i);
+            float length = 0;
+            if (i > 0) {
+                length =
+                    validatedLengths.get(i - 1)
+                  + strokePoints.get(i - 1).dst(p1);
+            }
+
+            // If move not possible in face, let the user draw a couple of
+            // line segments before aborting
+            if (
+                length > INVALID_WINDOW * vertexGlueRadius
+             && !isPossibleInFace()
+            ) {
+                return abortedAt(strokePoints, i);
+            }
+
+            // If outside of game bounds, finnish
+            if (!gameBounds.contains(p1)) {
+                return abortedAt(strokePoints, i);
+            }
+
+            // If close to a sprout, finnish
+            if (length >= MIN_LENGTH * vertexGlueRadius) {
+                Vertex v =
+                    new NearestSproutSearch(
+                        currentState,
+                        p1,
+                        vertexGlueRadius,
+                        Color.BLACK
+                    ).result();
+                if (!v.equals(new VoidVertex())) {
+                    List<Vector2> returnPoints =
+                        new ArrayList<Vector2>(strokePoints.subList(0, i));
+                    returnPoints.add(v.position());
+                    return
+                        new SproutsEdge(
+                            true,
+                            new Polyline.WrappedList(returnPoints),
+                            origin.color(),
+                            v.color()
+                        );
+                }
+            }
+
+            if (i > 0) {
+                Vector2 p0 = strokePoints.get(i - 1);
+
+                // Check if too close to a red vertex and abort
+                if (cobwebVertices().anyOnSegment(p0, p1)) {
+                    return
+                        new SproutsEdge(
+                            true,
+                            new Polyline.WrappedList(
+                                strokePoints.subList(0, i)
+                            ),
+                            origin.color(),
+                            Color.GRAY
+                        );
+                }
+
+                // Check if crosses itself
+                Vector2 selfCrossing = new Vector2();
+                if (validated.firstCrossing(p0, p1, selfCrossing) != -1) {
+                    List<Vector2> returnPoints =
+                        new ArrayList<Vector2>(strokePoints.subList(0, i));
+                    returnPoints.add(selfCrossing);
+                    return
+                        new SproutsEdge(
+                            true,
+                            new Polyline.WrappedList(returnPoints),
+                            origin.color(),
+                            Color.GRAY
+                        );
+                }
+                // Check if crosses the face
+                Vertex crossPoint =
+                    new FaceIntersectionSearch(
+                        edgeGrid,
+                        face,
+                        p0,
+                        p1
+                    ).result();
+                if (!crossPoint.equals(new VoidVertex())) {
+                    List<Vector2> returnPoints =
+                        new ArrayList<Vector2>(strokePoints.subList(0, i));
+                    returnPoints.add(crossPoint.position());
+                    Color toColor = crossPoint.color();
+                    if (toColor.equals(Color.BLACK)) {
+                        toColor = Color.GRAY;
+                    }
+                    return
+                        new SproutsEdge(
+                            true,
+                            new Polyline.WrappedList(returnPoints),
+                            origin.color(),
+                            toColor
+                        );
+                }
+            }
+            validated.append(p1);
+            validatedLengths.add(length);
+        }
+        return
+            new SproutsEdge(
+                true,
+                new Polyline.WrappedList(strokePoints),
+                origin.color(),
+                Color.CLEAR
+            );
+    }
+
+    /**
+     * Returns the scan of the Submove that follows {@code submove}.
+     * <p>
+     * {@code submove} must be a completed Submove scanned by {@code this}
+     * scan. If its edge is the same as the last time this method was
+     * invoked, the same scan (and the state after {@code submove}) is
+     * returned.
+     *
+     * @param submove the Submove scanned by {@code this} scan
+     * @return the scan of the next Submove
+     */
+    public SubmoveScan next(final Submove submove) {
+        SproutsEdge edge = submove.asEdge();
+        if (
+            nextScan == null
+         || !edge.to().color().equals(nextEdge.to().color())
+         || !edge.polyline().points().equals(nextEdge.polyline().points())
+        ) {
+            nextEdge = edge;
+            nextScan =
+                new SubmoveScan(
+                    edge.to(),
+                    new SproutsStateAfterSubmove(currentState, submove),
+                    vertexGlueRadius,
+                    gameBounds
+                );
+        }
+        return nextScan;
+    }
+
+    /**
+     * Returns an invalid Submove edge made of the first {@code size}
+     * {@code strokePoints}.
+     *
+     * @param strokePoints the polyline approximation of the move stroke
+     * @param size the number of stroke points to keep
+     * @return an invalid Submove edge
+     */
+    private SproutsEdge abortedAt(
+        final List<Vector2> strokePoints,
+        final int size
+    ) {
+        return
+            new SproutsEdge(
+                true,
+                new Polyline.WrappedList(
+                    new ArrayList<Vector2>(strokePoints.subList(0, size))
+                ),
+                origin.color(),
+                Color.GRAY
+            );
+    }
+
+    /**
+     * Returns the length of the longest common prefix of
+     * {@code strokePoints} and the validated stroke prefix.
+     * <p>
+     * The validated prefix is a prefix of the last scanned stroke, so the
+     * head that {@code strokePoints} shares with the last scanned stroke is
+     * skipped without comparing the points.
+     *
+     * @param strokePoints the polyline approximation of the move stroke
+     * @return the length of the common prefix
+     */
+    private int commonPrefix(final List<Vector2> strokePoints) {
+        if (validated == null) {
+            return 0;
+        }
+        List<Vector2> old = validated.points();
+        int max = Math.min(old.size(), strokePoints.size());
+        int i = 0;
+        if (scanned != null && strokePoints instanceof GrowingPoints) {
+            i =
+                Math.min(
+                    max,
+                    ((GrowingPoints) strokePoints).sharedHead(scanned)
+                );
+        }
+        while (i < max && old.get(i).equals(strokePoints.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the tooltip of the face that the Submove is drawn in: the
+     * sprouts in which the Submove can end.
+     * <p>
+     * The face is the one found by the last invocation of
+     * {@link #edge(List)}. The faces of {@code currentState} are only built
+     * once per scan, so the face only changes when the starting direction of
+     * the stroke crosses into another face. The tooltip is cached and
+     * reused for as long as the face stays the same.
+     *
+     * @return the tooltip of the face that the Submove is drawn in
+     * @throws IllegalStateException if no stroke has been scanned yet
+     */
+    public SproutsTooltip tooltip() {
+        if (face == null) {
+            throw
+                new IllegalStateException(
+                    "The face is unknown until a stroke is scanned!"
+                );
+        }
+        if (tooltip == null || tooltipFace != face) {
+            final Set<SproutsEdge> drawnIn = face;
+            tooltip = new SproutsTooltip(currentState, () -> drawnIn, origin);
+            tooltipFace = face;
+        }
+        return tooltip;
+    }
+
+    /**
+     * Checks whether the Submove is possible in {@code face} and caches the
+     * result.
+     *
+     * @return {@code true} if the Submove is possible in {@code face}
+     */
+    private boolean isPossibleInFace() {
+        if (possibleInFace == null) {
+            possibleInFace =
+                new IsSubmovePossibleInFace(
+                    origin.color().equals(Color.BLACK),
+                    currentState,
+                    face
+                ).check();
+        }
+        return possibleInFace;
+    }
+
+    /**
+     * Returns the cobweb vertices of {@code currentState} in a grid of
+     * {@code vertexGlueRadius} sized cells and caches the result.
+     *
+     * @return the cobweb vertices of {@code currentState}
+     */
+    private PointGrid cobwebVertices() {
+        if (cobwebVertices == null) {
+            List<Vector2> positions = new ArrayList<Vector2>();
+            for (Vertex v : currentState.vertices()) {
+                if (v.color().equals(Color.RED)) {
+                    positions.add(v.position());
+                }
+            }
+            cobwebVertices = new PointGrid(positions, vertexGlueRadius);
+        }
+        return cobwebVertices;
+    }
+}
@@ -1,7 +1,6 @@
 package com.github.glusk2.sprouts.core.snapshots;
 
 import java.util.Arrays;
-import java.util.LinkedList;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
@@ -17,6 +16,7 @@ import com.github.glusk2.sprouts.core.comb.IsMovePossible;
 import com.github.glusk2.sprouts.core.comb.NearestSproutSearch;
 import com.github.glusk2.sprouts.core.comb.SproutsGameState;
 import com.github.glusk2.sprouts.core.comb.SproutsInitialState;
+import com.github.glusk2.sprouts.core.comb.SproutsStateRenderer;
 import com.github.glusk2.sprouts.core.comb.Vertex;
 
 /**
@@ -25,6 +25,9 @@ import com.github.glusk2.sprouts.core.comb.Vertex;
  * <p>
  * A "touch down" event initiates a new Move, the other touch events return
  * {@code this}.
+ * <p>
+ * The {@code playerTurnLabel} shows the player turn of {@code this}
+ * Snapshot, see {@link #act()}.
  */
 public final class BeforeMove implements Snapshot {
     /** The graph representing the current game board state. */
@@ -45,6 +48,9 @@ public final class BeforeMove implements Snapshot {
     /** A reference to the UI label to update player turns. */
     private final Label playerTurnLabel;
 
+    /** A cached value of {@link #isMovePossible()}. */
+    private Boolean movePossible = null;
+
     /**
      * Creates a new Snapshot, using the default initial state.
      *
@@ -118,7 +124,7 @@ public final class BeforeMove implements Snapshot {
 
     @Override
     public Snapshot touchDown(final Vector2 position) {
-        if (!new IsMovePossible(gameState).check()) {
+        if (!isMovePossible()) {
             return this;
         }
 
@@ -137,7 +143,7 @@ public final class BeforeMove implements Snapshot {
                     moveThickness,
                     circleSegmentCount,
                     nearest,
-                    new LinkedList<Vector2>(Arrays.asList(nearest.position())),
+                    Arrays.asList(nearest.position()),
                     gameBounds,
                     displayCobweb,
                     playerTurn,
@@ -159,25 +165,38 @@ public final class BeforeMove implements Snapshot {
 
     @Override
     @SuppressWarnings("checkstyle:avoidinlineconditionals")
-    public void render(final ShapeRenderer renderer) {
-        gameState.render(
+    public void act() {
+        if (isMovePossible()) {
+            playerTurnLabel.setText(
+                "Player " + (playerTurn.state() ? 2 : 1) + " on the move!"
+            );
+        } else {
+            playerTurnLabel.setColor(Color.GREEN);
+            playerTurnLabel.setText(
+                "Player " + (playerTurn.state() ? 1 : 2) + " wins!"
+            );
+        }
+    }
+
+    @Override
+    public void render(
+        final ShapeRenderer renderer,
+        final SproutsStateRenderer board
+    ) {
+        board.render(
             renderer,
+            gameState,
             moveThickness,
             circleSegmentCount,
             displayCobweb.state()
         );
-        if (!new IsMovePossible(gameState).check()) {
+        if (!isMovePossible()) {
             Gdx.gl.glEnable(GL20.GL_BLEND);
             Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 
             Color overlayColor = Color.WHITE.cpy();
             overlayColor.a = 1 / 2f;
 
-            playerTurnLabel.setColor(Color.GREEN);
-            playerTurnLabel.setText(
-                "Player " + (playerTurn.state() ? 1 : 2) + " wins!"
-            );
-
             renderer.begin(ShapeType.Filled);
             renderer.setColor(overlayColor);
             renderer.rect(
@@ -192,6 +211,28 @@ public final class BeforeMove implements Snapshot {
         }
     }
 
+    @Override
+    public Snapshot prepared() {
+        gameState.renderModel();
+        isMovePossible();
+        return this;
+    }
+
+    /**
+     * Checks whether a Move is possible in the {@code gameState}.
+     * <p>
+     * The check runs once; both "touch down" events and rendering use its
+     * cached result. This method is not <em>thread-safe</em>.
+     *
+     * @return {@code true} if a Move is possible
+     */
+    private boolean isMovePossible() {
+        if (movePossible == null) {
+            movePossible = new IsMovePossible(gameState).check();
+        }
+        return movePossible;
+    }
+
     @Override
     public SproutsGameState gameState() {
         return this.gameState;
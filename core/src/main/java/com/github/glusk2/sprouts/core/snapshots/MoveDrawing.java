@@ -1,8 +1,6 @@
 package com.github.glusk2.sprouts.core.snapshots;
 
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
@@ -10,17 +8,22 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.github.glusk2.sprouts.core.ToggleSwitch;
-import com.github.glusk2.sprouts.core.comb.SproutsFaces;
 import com.github.glusk2.sprouts.core.comb.SproutsGameState;
+import com.github.glusk2.sprouts.core.comb.SproutsStateRenderer;
 import com.github.glusk2.sprouts.core.comb.SproutsTooltip;
 import com.github.glusk2.sprouts.core.comb.Vertex;
-import com.github.glusk2.sprouts.core.geom.BezierCurve;
-import com.github.glusk2.sprouts.core.geom.CurveApproximation;
+import com.github.glusk2.sprouts.core.geom.IncrementalBSplineSolver;
+import com.github.glusk2.sprouts.core.geom.IncrementalDouglasPeucker;
+import com.github.glusk2.sprouts.core.geom.IncrementalStroke;
+import com.github.glusk2.sprouts.core.geom.Polyline;
+import com.github.glusk2.sprouts.core.geom.SampleBuffer;
+import com.github.glusk2.sprouts.core.moves.CachedMove;
 import com.github.glusk2.sprouts.core.moves.Move;
 import com.github.glusk2.sprouts.core.moves.RenderedMove;
 import com.github.glusk2.sprouts.core.moves.Submove;
 import com.github.glusk2.sprouts.core.moves.SubmoveElement;
 import com.github.glusk2.sprouts.core.moves.SubmoveHead;
+import com.github.glusk2.sprouts.core.moves.SubmoveScan;
 import com.github.glusk2.sprouts.core.moves.SubmoveSequence;
 
 /**
@@ -37,23 +40,33 @@ import com.github.glusk2.sprouts.core.moves.SubmoveSequence;
  */
 public final class MoveDrawing implements Snapshot {
     /**
-     * Spline segment count.
+     * Curve flatness modifier.
      * <p>
-     * Defines the number of discrete points on interval: {@code 0 <= t <= 1}
-     * for spline rendering.
+     * This is multiplied by {@code moveThickness} to compute the maximum
+     * deviation of the Move polyline from the smooth Move curve.
      */
-    private static final int SPLINE_SEGMENT_COUNT = 5;
+    private static final float FLATNESS_MODIFIER = .25f;
     /**
-     * Perpendicular distance modifier.
+     * Sample simplification modifier.
      * <p>
-     * This is multiplied by {@code lineThickness} to compute the
-     * {@code tolerance} in
-     * {@link com.github.glusk2.sprouts.core.geom.PerpDistSimpl#PerpDistSimpl(
-     *     java.util.List,
-     *     float
-     * )}.
+     * This is multiplied by {@code moveThickness} to compute the
+     * {@code tolerance} of the Douglas-Peucker simplification of the Move
+     * sample. Unlike the perpendicular distance simplification, which only
+     * drops every other point, Douglas-Peucker can replace a long run of
+     * sample points with a single segment, so a small tolerance is needed
+     * to keep the smooth Move stroke within half a move thickness of the
+     * sample points.
      */
-    private static final float PERP_DISTANCE_MODIFIER = 3f;
+    private static final float SIMPLIFICATION_MODIFIER = .25f;
+    /**
+     * The number of sample line segments that are simplified together.
+     * <p>
+     * Simplification of a chunk does not depend on the points drawn after
+     * it, so small chunks keep the beginning of the simplified sample stable
+     * while the Move is being drawn. The end of every chunk is kept, so too
+     * small chunks keep sample points that the simplification would drop.
+     */
+    private static final int SIMPLIFICATION_CHUNK_SIZE = 8;
 
 
     /** The graph that a Move is being drawn to. */
@@ -68,10 +81,15 @@ public final class MoveDrawing implements Snapshot {
      */
     private final Vertex moveOrigin;
     /**
-     * The sample points of the Move that is being drawn in {@code this}
-     * Snapshot.
+     * The sample points of the Move, shared by all MoveDrawing Snapshots of
+     * the same Move.
      */
-    private final List<Vector2> moveSample;
+    private final SampleBuffer sampleBuffer;
+    /**
+     * The number of sample points in {@code sampleBuffer} that belong to the
+     * Move that is being drawn in {@code this} Snapshot.
+     */
+    private final int sampleLength;
     /** Any Submove that is drawn outside of {@code gameBounds} is invalid. */
     private final Rectangle gameBounds;
     /** A switch that tracks whether the player wishes to display cobweb. */
@@ -83,6 +101,26 @@ public final class MoveDrawing implements Snapshot {
     private final ToggleSwitch playerTurn;
     /** A reference to the UI label to update player turns. */
     private final Label playerTurnLabel;
+    /**
+     * The scan of the first Submove, shared by all MoveDrawing Snapshots of
+     * the same Move.
+     */
+    private final SubmoveScan moveScan;
+    /**
+     * The polyline approximation of the Move stroke, shared by all
+     * MoveDrawing Snapshots of the same Move.
+     */
+    private final IncrementalStroke moveStroke;
+
+    /** A cached value of {@link #move()}. */
+    private Move moveCache = null;
+    /**
+     * The tooltip of the face that the Move is drawn in, {@code null} if
+     * there is none.
+     */
+    private SproutsTooltip tooltip = null;
+    /** Whether {@link #prepared()} has already been invoked. */
+    private boolean isPrepared = false;
 
     /**
      * Creates a new MoveDrawing Snapshot from the {@code currentState},
@@ -115,21 +153,114 @@ public final class MoveDrawing implements Snapshot {
         final ToggleSwitch displayCobweb,
         final ToggleSwitch playerTurn,
         final Label playerTurnLabel
+    ) {
+        this(
+            gameState,
+            moveThickness,
+            circleSegmentCount,
+            moveOrigin,
+            new SampleBuffer(moveSample),
+            moveSample.size(),
+            gameBounds,
+            displayCobweb,
+            playerTurn,
+            playerTurnLabel,
+            new SubmoveScan(
+                moveOrigin,
+                gameState,
+                moveThickness * 2,
+                gameBounds
+            ),
+            new IncrementalStroke(
+                new IncrementalDouglasPeucker(
+                    SIMPLIFICATION_MODIFIER * moveThickness,
+                    SIMPLIFICATION_CHUNK_SIZE
+                ),
+                new IncrementalBSplineSolver(),
+                FLATNESS_MODIFIER * moveThickness,
+                moveThickness * 2
+            )
+        );
+    }
+
+    /**
+     * Creates a new MoveDrawing Snapshot that continues building the Move
+     * with an existing {@code sampleBuffer}, {@code moveScan} and
+     * {@code moveStroke}.
+     * <p>
+     * Consecutive MoveDrawing Snapshots of the same Move share all three,
+     * so that only the newly drawn part of the Move is stored, smoothed and
+     * validated on each "touch dragged" event.
+     *
+     * @param gameState the Graph that a Move is being drawn to
+     * @param moveThickness the thickness of the Moves drawn
+     * @param circleSegmentCount the number of segments used to draw circular
+     *                           Vertices
+     * @param moveOrigin the origin sprout of the Move that is being drawn
+     *                   in {@code this} Snapshot
+     * @param sampleBuffer the sample points of the Move
+     * @param sampleLength the number of sample points in
+     *                     {@code sampleBuffer} that belong to the Move that
+     *                     is being drawn in {@code this} Snapshot
+     * @param gameBounds any Submove that is drawn outside of
+     *                   {@code gameBounds} is invalid
+     * @param displayCobweb a switch that tracks whether the player wishes to
+     *                      display cobweb
+     * @param playerTurn A switch that tracks the player turn. If ON, it's
+     *                   "Player 1"'s turn, else it is "Player 2"'s'.
+     * @param playerTurnLabel a reference to the UI label to update player turns
+     * @param moveScan the scan of the first Submove of the Move
+     * @param moveStroke the polyline approximation of the Move stroke
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    public MoveDrawing(
+        final SproutsGameState gameState,
+        final float moveThickness,
+        final int circleSegmentCount,
+        final Vertex moveOrigin,
+        final SampleBuffer sampleBuffer,
+        final int sampleLength,
+        final Rectangle gameBounds,
+        final ToggleSwitch displayCobweb,
+        final ToggleSwitch playerTurn,
+        final Label playerTurnLabel,
+        final SubmoveScan moveScan,
+        final IncrementalStroke moveStroke
     ) {
         this.gameState = gameState;
         this.moveThickness = moveThickness;
         this.circleSegmentCount = circleSegmentCount;
         this.moveOrigin = moveOrigin;
-        this.moveSample = moveSample;
+        this.sampleBuffer = sampleBuffer;
+        this.sampleLength = sampleLength;
         this.gameBounds = gameBounds;
         this.displayCobweb = displayCobweb;
         this.playerTurn = playerTurn;
         this.playerTurnLabel = playerTurnLabel;
+        this.moveScan = moveScan;
+        this.moveStroke = moveStroke;
+    }
+
+    /**
+     * Returns the Move of {@code this} Snapshot.
+     * <p>
+     * The Move is built on the first invocation and shared by rendering and
+     * the "touch up" event, so its Submoves are scanned and validated once
+     * per Snapshot. This method is not <em>thread-safe</em>.
+     *
+     * @return the Move built from {@code moveOrigin} and the sample points
+     *         of {@code this} Snapshot
+     */
+    private Move move() {
+        if (moveCache == null) {
+            moveCache = new CachedMove(moveFromSampleAndOrigin());
+        }
+        return moveCache;
     }
 
     /**
-     * Builds and returns a new Move from {@code moveOrigin} and
-     * {@code moveSample}.
+     * Builds and returns a new Move from {@code moveOrigin} and the sample
+     * points of {@code this} Snapshot.
      *
      * @return a new Move
      */
@@ -138,17 +269,10 @@ public final class MoveDrawing implements Snapshot {
             new SubmoveSequence(
                 new SubmoveHead(
                     new SubmoveElement(
-                        moveOrigin,
-                        new CurveApproximation(
-                            new BezierCurve(
-                                new ArrayList<Vector2>(moveSample),
-                                PERP_DISTANCE_MODIFIER * moveThickness
-                            ),
-                            SPLINE_SEGMENT_COUNT
+                        new Polyline.WrappedList(
+                            moveStroke.points(sampleBuffer, sampleLength)
                         ),
-                        gameState,
-                        moveThickness * 2,
-                        gameBounds
+                        moveScan
                     )
                 )
             );
@@ -161,7 +285,7 @@ public final class MoveDrawing implements Snapshot {
 
     @Override
     public Snapshot touchUp(final Vector2 position) {
-        Move nextMove = moveFromSampleAndOrigin();
+        Move nextMove = move();
         if (nextMove.isValid() && nextMove.isCompleted()) {
             return
                 new SproutAdd(
@@ -190,58 +314,90 @@ public final class MoveDrawing implements Snapshot {
 
     @Override
     public Snapshot touchDragged(final Vector2 position) {
-        Vector2 lastElement = moveSample.get(moveSample.size() - 1);
+        Vector2 lastElement = sampleBuffer.points(sampleLength).get(
+            sampleLength - 1
+        );
         if (position.dst(lastElement) > 2 * moveThickness) {
-            List<Vector2> newSample = new LinkedList<Vector2>(moveSample);
-            newSample.add(position);
             return
                 new MoveDrawing(
                     gameState,
                     moveThickness,
                     circleSegmentCount,
                     moveOrigin,
-                    newSample,
+                    sampleBuffer.append(sampleLength, position),
+                    sampleLength + 1,
                     gameBounds,
                     displayCobweb,
                     playerTurn,
-                    playerTurnLabel
+                    playerTurnLabel,
+                    moveScan,
+                    moveStroke
                 );
         }
         return this;
     }
 
     @Override
-    public void render(final ShapeRenderer renderer) {
-        Move move = moveFromSampleAndOrigin();
+    public void render(
+        final ShapeRenderer renderer,
+        final SproutsStateRenderer board
+    ) {
+        prepared();
 
         new RenderedMove(
-            move,
+            move(),
             moveThickness,
             circleSegmentCount
         ).render(renderer);
 
-        gameState.render(
+        board.render(
             renderer,
+            gameState,
             moveThickness,
             circleSegmentCount,
             displayCobweb.state()
         );
 
-        Iterator<Submove> submoves = move.iterator();
-        if (submoves.hasNext()) {
-            Submove s = submoves.next();
-            if (s.isReadyToRender()) {
-                new SproutsTooltip(
-                    gameState,
-                    () -> new SproutsFaces(
-                        gameState.edges()
-                    ).drawnIn(s.asEdge()),
-                    moveOrigin
-                ).render(renderer, moveThickness, circleSegmentCount, false);
-            }
+        if (tooltip != null) {
+            tooltip.render(renderer, moveThickness, circleSegmentCount, false);
         }
     }
 
+    /**
+     * Builds, validates and scans the Move of {@code this} Snapshot and
+     * finds the tooltip of the face that it is drawn in.
+     * <p>
+     * All the results are cached, so rendering a prepared MoveDrawing does
+     * not change the {@code moveScan} and {@code moveStroke} that it shares
+     * with the Snapshots that follow it.
+     *
+     * @return {@code this} Snapshot, prepared for rendering
+     */
+    @Override
+    public Snapshot prepared() {
+        if (isPrepared) {
+            return this;
+        }
+        Move move = move();
+        move.isValid();
+        move.isCompleted();
+        // checking for the next Submove scans the current one
+        Iterator<Submove> it = move.iterator();
+        while (it.hasNext()) {
+            it = it.next();
+        }
+        Submove first = move.iterator().next();
+        if (first.isReadyToRender()) {
+            // scanning the first Submove finds the face it is drawn in
+            first.asEdge();
+            tooltip = moveScan.tooltip();
+            tooltip.vertices();
+        }
+        gameState.renderModel();
+        isPrepared = true;
+        return this;
+    }
+
     @Override
     public SproutsGameState gameState() {
         return this.gameState;
@@ -3,6 +3,7 @@ package com.github.glusk2.sprouts.core.snapshots;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 import com.github.glusk2.sprouts.core.comb.SproutsGameState;
+import com.github.glusk2.sprouts.core.comb.SproutsStateRenderer;
 
 /**
  * A Snapshot is a "picture" of the game board.
@@ -44,10 +45,47 @@ public interface Snapshot {
     Snapshot touchDragged(Vector2 position);
     /**
      * Renders {@code this} "picture" (Snapshot) with {@code renderer}.
+     * <p>
+     * The committed game state is rendered with {@code board}, the Move
+     * being drawn is rendered with {@code renderer}.
      *
      * @param renderer the graphics primitives rendering object
+     * @param board the renderer of the committed game state
      */
-    void render(ShapeRenderer renderer);
+    void render(ShapeRenderer renderer, SproutsStateRenderer board);
+
+    /**
+     * Updates the user interface around the game board to {@code this}
+     * Snapshot.
+     * <p>
+     * This method is invoked on the render thread, once per frame, before
+     * anything is drawn, with the Snapshot that the frame renders. Whatever
+     * the user interface shows about the game is thus published together
+     * with the Snapshot and changes in the same frame as the game board.
+     * <p>
+     * The default implementation does nothing.
+     */
+    default void act() {
+    }
+
+    /**
+     * Computes everything that {@code render} reads ahead of time and
+     * returns {@code this}.
+     * <p>
+     * Snapshots cache what they compute, so a Snapshot that is created on
+     * one thread and rendered on another has to be prepared before it is
+     * handed over. Rendering a prepared Snapshot only reads results that do
+     * not change afterwards.
+     * <p>
+     * The default implementation derives the render model of the
+     * {@link #gameState()}.
+     *
+     * @return {@code this} Snapshot, prepared for rendering
+     */
+    default Snapshot prepared() {
+        gameState().renderModel();
+        return this;
+    }
 
     /**
      * Returns the current state of the game board as a graph.
@@ -1,6 +1,5 @@
 package com.github.glusk2.sprouts.core.snapshots;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
@@ -8,6 +7,8 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.github.glusk2.sprouts.core.ToggleSwitch;
 import com.github.glusk2.sprouts.core.comb.SproutsGameState;
 import com.github.glusk2.sprouts.core.comb.SproutsStateAfterMove;
+import com.github.glusk2.sprouts.core.comb.SproutsStateAfterSubmoves;
+import com.github.glusk2.sprouts.core.comb.SproutsStateRenderer;
 import com.github.glusk2.sprouts.core.moves.MiddleSprout;
 import com.github.glusk2.sprouts.core.moves.Move;
 import com.github.glusk2.sprouts.core.moves.RenderedMove;
@@ -18,12 +19,28 @@ import com.github.glusk2.sprouts.core.moves.RenderedMove;
  * <p>
  * A "touch up" event detects the position of a new sprout and adds it to the
  * last drawn Move.
+ * <p>
+ * The state after the Submoves of the Move does not depend on the position
+ * of the new sprout. It is computed speculatively, when {@code this}
+ * Snapshot is {@link #prepared()}, so that only the split of the Move is
+ * left for the "touch up" event.
+ * <p>
+ * The player turn is not toggled in place: the next turn is handed to the
+ * next {@code BeforeMove} in a new switch, so that it is published together
+ * with the Snapshot that it belongs to.
  */
 public final class SproutAdd implements Snapshot {
+    /**
+     * Scales {@code moveThickness} to get the tolerance of the committed
+     * edge compaction.
+     */
+    private static final float COMPACTION_MODIFIER = .25f;
     /** The graph that a Move is being drawn to. */
     private final SproutsGameState currentState;
     /** The move to place the middle sprout on. */
     private final Move move;
+    /** The state after the Submoves of the {@code move}. */
+    private final SproutsGameState stateAfterSubmoves;
     /** The thickness of the Moves drawn. */
     private final float moveThickness;
     /** The number of segments used to draw circular Vertices. */
@@ -70,6 +87,8 @@ public final class SproutAdd implements Snapshot {
     ) {
         this.currentState = currentState;
         this.move = move;
+        this.stateAfterSubmoves =
+            new SproutsStateAfterSubmoves(currentState, move);
         this.moveThickness = moveThickness;
         this.circleSegmentCount = circleSegmentCount;
         this.gameBounds = gameBounds;
@@ -84,35 +103,30 @@ public final class SproutAdd implements Snapshot {
     }
 
     @Override
-    @SuppressWarnings("checkstyle:avoidinlineconditionals")
     public Snapshot touchUp(final Vector2 position) {
         MiddleSprout middleSprout =
             new MiddleSprout(move, position, moveThickness);
 
+        ToggleSwitch nextTurn = playerTurn;
         if (middleSprout.submove() != null) {
-            playerTurn.toggle();
-            if (playerTurnLabel != null) {
-                playerTurnLabel.setText(
-                    "Player " + (playerTurn.state() ? 2 : 1) + " on the move!"
-                );
-                Gdx.graphics.requestRendering();
-            }
+            nextTurn = new ToggleSwitch(!playerTurn.state());
         }
         return
             new BeforeMove(
                 new SproutsStateAfterMove(
                     currentState,
-                    move,
-                    middleSprout
+                    stateAfterSubmoves,
+                    middleSprout,
+                    COMPACTION_MODIFIER * moveThickness
                 ),
                 moveThickness,
                 circleSegmentCount,
                 gameBounds,
                 displayCobweb,
-                playerTurn,
+                nextTurn,
                 playerTurnLabel
             );
-}
+    }
 
     @Override
     public Snapshot touchDragged(final Vector2 position) {
@@ -120,20 +134,32 @@ public final class SproutAdd implements Snapshot {
     }
 
     @Override
-    public void render(final ShapeRenderer renderer) {
+    public void render(
+        final ShapeRenderer renderer,
+        final SproutsStateRenderer board
+    ) {
         new RenderedMove(
             move,
             moveThickness,
             circleSegmentCount
         ).render(renderer);
-        currentState.render(
+        board.render(
             renderer,
+            currentState,
             moveThickness,
             circleSegmentCount,
             displayCobweb.state()
         );
     }
 
+    @Override
+    public Snapshot prepared() {
+        currentState.renderModel();
+        stateAfterSubmoves.edges();
+        stateAfterSubmoves.edgeGrid();
+        return this;
+    }
+
     @Override
     public SproutsGameState gameState() {
         return this.currentState;
@@ -1,8 +1,15 @@
 package com.github.glusk2.sprouts.core.snapshots;
 
+import java.util.function.UnaryOperator;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Buttons;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.InputListener;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.github.glusk2.sprouts.core.BoardCamera;
 
 /**
  * A TouchEventSnapshooter is a special kind of "camera" that takes "pictures"
@@ -13,25 +20,114 @@ import com.badlogic.gdx.scenes.scene2d.InputListener;
  * <p>
  * {@code snapshot()} returns the updated {@code initialSnapshot} after zero
  * or more {@code touch} events.
+ * <p>
+ * Only the first pointer (the first finger or the left mouse button) is
+ * redirected; the others zoom and pan the {@code camera}. The touch
+ * positions are transformed to board coordinates with the {@code camera}.
+ * <p>
+ * Touch events can be handed over to a {@code validator} thread, that
+ * updates the Snapshot (and validates the Move being drawn) in the order of
+ * the events. Every updated Snapshot is {@link Snapshot#prepared() prepared}
+ * before it is published, so {@code snapshot()} returns the latest
+ * published Snapshot without waiting and it can be rendered without
+ * changing anything that the validator uses.
  */
 public final class TouchEventSnapshooter
     extends InputListener implements Snapshooter {
 
-    /** The updated {@code initialSnapshot} after zero or more touch events. */
-    private Snapshot currentSnapshot;
+    /** The zoom and pan of the game board. */
+    private final BoardCamera camera;
 
     /**
-     * Creates a new TouchEventSnapshooter by specifying the
-     * {@code initialSnapshot}.
+     * The thread that updates the Snapshot, {@code null} if it is updated
+     * on the thread that handles the touch events.
+     */
+    private final AsyncExecutor validator;
+
+    /**
+     * The latest updated Snapshot, only accessed by the {@code validator}.
+     */
+    private Snapshot latestSnapshot;
+    /**
+     * The updated {@code initialSnapshot} after zero or more touch events,
+     * as published by the {@code validator}.
+     */
+    private volatile Snapshot currentSnapshot;
+    /** The first failure of the {@code validator}, if any. */
+    private volatile RuntimeException failure;
+
+    /**
+     * Creates a new TouchEventSnapshooter of a board that can not be zoomed,
+     * by specifying the {@code initialSnapshot}.
+     * <p>
+     * Equivalent to:
+     * <pre>
+     * new TouchEventSnapshooter(
+     *     initialSnapshot,
+     *     new BoardCamera(new Rectangle(), 1)
+     * );
+     * </pre>
      *
      * @param initialSnapshot the initial Snapshot
      */
     public TouchEventSnapshooter(final Snapshot initialSnapshot) {
-        this.currentSnapshot = initialSnapshot;
+        this(initialSnapshot, new BoardCamera(new Rectangle(), 1));
+    }
+
+    /**
+     * Creates a new TouchEventSnapshooter by specifying the
+     * {@code initialSnapshot} and the {@code camera}.
+     *
+     * @param initialSnapshot the initial Snapshot
+     * @param camera the zoom and pan of the game board
+     */
+    public TouchEventSnapshooter(
+        final Snapshot initialSnapshot,
+        final BoardCamera camera
+    ) {
+        this(initialSnapshot, camera, null);
+    }
+
+    /**
+     * Creates a new TouchEventSnapshooter that updates the Snapshot on the
+     * {@code validator} thread.
+     * <p>
+     * The {@code validator} should run one task at a time, in the order of
+     * submission, and is not disposed of by {@code this} object.
+     *
+     * @param initialSnapshot the initial Snapshot
+     * @param camera the zoom and pan of the game board
+     * @param validator the thread that updates the Snapshot, {@code null}
+     *                  to update it on the thread that handles the touch
+     *                  events
+     */
+    public TouchEventSnapshooter(
+        final Snapshot initialSnapshot,
+        final BoardCamera camera,
+        final AsyncExecutor validator
+    ) {
+        this.camera = camera;
+        this.validator = validator;
+        this.latestSnapshot = initialSnapshot.prepared();
+        this.currentSnapshot = latestSnapshot;
     }
 
+    /**
+     * Returns the latest published Snapshot.
+     *
+     * @return the updated {@code initialSnapshot} after zero or more touch
+     *         events
+     * @throws IllegalStateException if the {@code validator} failed to
+     *                               update the Snapshot
+     */
     @Override
     public Snapshot snapshot() {
+        if (failure != null) {
+            throw new IllegalStateException(
+                "Failed to update the snapshot.",
+                failure
+            );
+        }
         return currentSnapshot;
     }
 
@@ -43,10 +139,11 @@ public final class TouchEventSnapshooter
         final int pointer,
         final int button
     ) {
-        currentSnapshot =
-            currentSnapshot.touchDown(
-                event.getTarget().localToStageCoordinates(new Vector2(x, y))
-            );
+        if (pointer != 0 || button != Buttons.LEFT) {
+            return false;
+        }
+        Vector2 position = boardPosition(event, x, y);
+        update(snapshot -> snapshot.touchDown(position));
         return true;
     }
 
@@ -58,10 +155,8 @@ public final class TouchEventSnapshooter
         final int pointer,
         final int button
     ) {
-        currentSnapshot =
-            currentSnapshot.touchUp(
-                event.getTarget().localToStageCoordinates(new Vector2(x, y))
-            );
+        Vector2 position = boardPosition(event, x, y);
+        update(snapshot -> snapshot.touchUp(position));
     }
 
     @Override
@@ -71,8 +166,60 @@ public final class TouchEventSnapshooter
         final float y,
         final int pointer
     ) {
-        currentSnapshot =
-            currentSnapshot.touchDragged(
+        if (camera.isPinching()) {
+            return;
+        }
+        Vector2 position = boardPosition(event, x, y);
+        update(snapshot -> snapshot.touchDragged(position));
+    }
+
+    /**
+     * Updates the latest Snapshot with a touch {@code event} and publishes
+     * the result.
+     * <p>
+     * Without a {@code validator} the update happens right away, otherwise
+     * it is queued and the board is rendered again once it is published.
+     *
+     * @param event the touch event to update the latest Snapshot with
+     */
+    private void update(final UnaryOperator<Snapshot> event) {
+        if (validator == null) {
+            latestSnapshot = event.apply(latestSnapshot);
+            currentSnapshot = latestSnapshot;
+            return;
+        }
+        validator.submit(() -> {
+            try {
+                latestSnapshot = event.apply(latestSnapshot).prepared();
+                currentSnapshot = latestSnapshot;
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+                throw e;
+            }
+            if (Gdx.graphics != null) {
+                Gdx.graphics.requestRendering();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Returns the event position in board coordinates.
+     *
+     * @param event the input event
+     * @param x the x coordinate of the event, in target actor coordinates
+     * @param y the y coordinate of the event, in target actor coordinates
+     * @return a new point in board coordinates
+     */
+    private Vector2 boardPosition(
+        final InputEvent event,
+        final float x,
+        final float y
+    ) {
+        return
+            camera.toBoard(
                 event.getTarget().localToStageCoordinates(new Vector2(x, y))
             );
     }
@@ -0,0 +1,86 @@
+package com.github.glusk2.sprouts.core.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable map, stored as a stack of layers of changes.
+ * <p>
+ * {@link #with(Map)} returns a new map that shares all the layers of
+ * {@code this} map and puts the changes on top of them, so an update costs
+ * time proportional to the number of changes instead of the size of the
+ * map. Every layer is at most half as big as the layer below it: a new
+ * layer absorbs the smaller layers below it. The number of layers that a
+ * lookup walks is therefore logarithmic in the size of the map, and every
+ * entry is copied a logarithmic number of times (amortized).
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public final class LayeredMap<K, V> {
+    /** The layer below {@code this} one, {@code null} for the bottom. */
+    private final LayeredMap<K, V> below;
+    /**
+     * The entries of {@code this} layer. A {@code null} value marks a
+     * removed key; the bottom layer has none.
+     */
+    private final Map<K, V> entries;
+
+    /** Creates a new, empty map. */
+    public LayeredMap() {
+        this(null, Collections.<K, V>emptyMap());
+    }
+
+    /**
+     * Creates a new layer.
+     *
+     * @param below the layer below the new one, {@code null} for the bottom
+     * @param entries the entries of the new layer
+     */
+    private LayeredMap(final LayeredMap<K, V> below, final Map<K, V> entries) {
+        this.below = below;
+        this.entries = entries;
+    }
+
+    /**
+     * Returns the value of {@code key}.
+     *
+     * @param key the key to look up
+     * @return the value of {@code key}, {@code null} if it is not in the map
+     */
+    public V get(final K key) {
+        for (LayeredMap<K, V> layer = this; layer != null;) {
+            if (layer.entries.containsKey(key)) {
+                return layer.entries.get(key);
+            }
+            layer = layer.below;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a new map with {@code changes} applied to {@code this} one.
+     * <p>
+     * A {@code null} value in {@code changes} removes its key.
+     *
+     * @param changes the new values by key
+     * @return a new map with {@code changes}
+     */
+    public LayeredMap<K, V> with(final Map<K, V> changes) {
+        Map<K, V> merged = new HashMap<K, V>(changes);
+        LayeredMap<K, V> layer = this;
+        while (layer != null && 2 * merged.size() >= layer.entries.size()) {
+            for (Map.Entry<K, V> entry : layer.entries.entrySet()) {
+                if (!merged.containsKey(entry.getKey())) {
+                    merged.put(entry.getKey(), entry.getValue());
+                }
+            }
+            layer = layer.below;
+        }
+        if (layer == null) {
+            merged.values().removeAll(Collections.singleton(null));
+        }
+        return new LayeredMap<K, V>(layer, merged);
+    }
+}
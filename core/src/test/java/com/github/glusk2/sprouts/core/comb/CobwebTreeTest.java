@@ -0,0 +1,79 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.geom.GeometryKernel;
+
+import org.junit.Test;
+
+/** CobwebTree test class. */
+public final class CobwebTreeTest {
+    /** The game bounds of the layouts. */
+    private static final Rectangle BOUNDS = new Rectangle(10, 10, 620, 380);
+
+    /** Checks that the tree is shorter than a path and does not cross. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void isShortAndDoesNotCross() {
+        List<Vector2> sprouts =
+            new PoissonDiscLayout(200, BOUNDS, 7).positions();
+        List<int[]> tree = new CobwebTree().links(sprouts);
+        assertEquals(sprouts.size() - 1, tree.size());
+        assertTrue(
+            length(sprouts, tree)
+          < length(sprouts, new CobwebPath().links(sprouts))
+        );
+        Vector2 crossing = new Vector2();
+        for (int[] e : tree) {
+            for (int[] f : tree) {
+                assertFalse(
+                    GeometryKernel.crossesSegment(
+                        sprouts.get(e[0]),
+                        sprouts.get(e[1]),
+                        sprouts.get(f[0]),
+                        sprouts.get(f[1]),
+                        crossing
+                    )
+                );
+            }
+        }
+    }
+
+    /** Checks that a large board with a tree cobweb has a single face. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void largeBoardHasSingleFace() {
+        SproutsGameState state =
+            new SproutsInitialState(
+                new JitteredLayout(1000, BOUNDS, 1),
+                new CobwebTree()
+            );
+        assertEquals(1000, state.vertices().size());
+        assertEquals(2 * 999, state.edges().size());
+        assertEquals(1, new SproutsFaces(state.edges()).faces().size());
+    }
+
+    /**
+     * Returns the total length of the cobweb edges.
+     *
+     * @param sprouts the positions of the sprouts
+     * @param links the cobweb edges
+     * @return the total length of the cobweb edges
+     */
+    private static float length(
+        final List<Vector2> sprouts,
+        final List<int[]> links
+    ) {
+        float length = 0;
+        for (int[] link : links) {
+            length += sprouts.get(link[0]).dst(sprouts.get(link[1]));
+        }
+        return length;
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.geom.Polyline;
+
+import org.junit.Test;
+
+/** EdgeGrid test class. */
+public final class EdgeGridTest {
+    /** A long vertical edge that spans many grid cells. */
+    private static final SproutsEdge VERTICAL =
+        new SproutsEdge(
+            new Polyline.WrappedList(
+                new Vector2(100, -200),
+                new Vector2(100, 0),
+                new Vector2(100, 200)
+            ),
+            Color.BLACK, Color.BLACK
+        );
+
+    /** Checks that a crossing is found far away from the edge endpoints. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void findsCrossingInTheMiddleOfLongEdge() {
+        Set<SproutsEdge> face =
+            new HashSet<SproutsEdge>(Arrays.asList(VERTICAL));
+        assertEquals(
+            new FaceIntersectionSearch(
+                new EdgeGrid(new HashSet<SproutsEdge>()).with(VERTICAL),
+                face,
+                new Vector2(90, 150),
+                new Vector2(110, 150)
+            ).result(),
+            new PresetVertex(Color.RED, new Vector2(100, 150))
+        );
+    }
+
+    /** Checks that removing the reverse of an edge removes the edge. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void removesEdgeByItsReverse() {
+        Set<SproutsEdge> face =
+            new HashSet<SproutsEdge>(Arrays.asList(VERTICAL));
+        EdgeGrid grid = new EdgeGrid(face);
+        assertEquals(
+            new FaceIntersectionSearch(
+                grid.without(VERTICAL.reversed()),
+                face,
+                new Vector2(90, 150),
+                new Vector2(110, 150)
+            ).result(),
+            new VoidVertex()
+        );
+    }
+
+    /**
+     * Checks that the intersection closest to the first segment boundary is
+     * returned.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void returnsClosestCrossing() {
+        SproutsEdge other =
+            new SproutsEdge(
+                new Polyline.WrappedList(
+                    new Vector2(105, -200),
+                    new Vector2(105, 200)
+                ),
+                Color.BLACK, Color.BLACK
+            );
+        Set<SproutsEdge> face =
+            new HashSet<SproutsEdge>(Arrays.asList(VERTICAL, other));
+        assertEquals(
+            new FaceIntersectionSearch(
+                new EdgeGrid(face),
+                face,
+                new Vector2(110, 10),
+                new Vector2(90, 10)
+            ).result(),
+            new PresetVertex(Color.RED, new Vector2(105, 10))
+        );
+    }
+}
@@ -0,0 +1,299 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.geom.Polyline;
+import com.github.glusk2.sprouts.core.moves.MiddleSprout;
+import com.github.glusk2.sprouts.core.moves.Move;
+import com.github.glusk2.sprouts.core.moves.SubmoveElement;
+import com.github.glusk2.sprouts.core.moves.SubmoveHead;
+import com.github.glusk2.sprouts.core.moves.SubmoveSequence;
+
+/**
+ * A micro benchmark of the core paths on large boards.
+ * <p>
+ * For 50, 200 and 1000 sprouts in every large-board layout, prints the
+ * average time of building the initial state, its faces, edge grid, vertex
+ * tree and render model, of culling the render model to a zoomed in view,
+ * of scanning a Move stroke across the board, of checking whether any Move
+ * is possible and of committing a Move: building the state after it, with
+ * its edges, edge grid and render model. Every path is run on a fresh
+ * state, after a warm-up.
+ * <p>
+ * This is not a test; run it with the test classpath:
+ * <pre>
+ * java com.github.glusk2.sprouts.core.comb.LargeBoardBenchmark
+ * </pre>
+ */
+public final class LargeBoardBenchmark {
+    /** The game bounds of the boards. */
+    private static final Rectangle BOUNDS = new Rectangle(10, 10, 620, 380);
+    /** The sprout counts of the boards. */
+    private static final int[] SIZES = {50, 200, 1000};
+    /** The number of warm-up runs of every path. */
+    private static final int WARM_UP = 5;
+    /** The number of measured runs of every path. */
+    private static final int RUNS = 20;
+    /** The thickness of the Moves drawn. */
+    private static final float THICKNESS = 2;
+
+    /** Private constructor prevents instantiation. */
+    private LargeBoardBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args not used
+     */
+    @SuppressWarnings("checkstyle:uncommentedmain")
+    public static void main(final String[] args) {
+        for (int n : SIZES) {
+            List<SproutLayout> layouts = new ArrayList<SproutLayout>();
+            layouts.add(new GridLayout(n, BOUNDS));
+            layouts.add(new JitteredLayout(n, BOUNDS, n));
+            layouts.add(new PoissonDiscLayout(n, BOUNDS, n));
+            for (SproutLayout layout : layouts) {
+                System.out.println(
+                    layout.getClass().getSimpleName() + ", " + n + " sprouts:"
+                );
+                run(layout);
+            }
+        }
+    }
+
+    /**
+     * Measures all the paths on a layout.
+     *
+     * @param layout the layout of the board
+     */
+    private static void run(final SproutLayout layout) {
+        measure("initial state", layout, s -> s.edges());
+        measure("faces", layout, s -> new SproutsFaces(s.edges()).faces());
+        measure("edge grid", layout, s -> s.edgeGrid());
+        measure("vertex tree", layout, s -> s.vertexTree());
+        measure("render model", layout, s -> s.renderModel());
+        measure(
+            "culled model",
+            layout,
+            s -> s.renderModel().visibleIn(
+                new Rectangle(
+                    BOUNDS.x + BOUNDS.width / 2 / 2,
+                    BOUNDS.y + BOUNDS.height / 2 / 2,
+                    BOUNDS.width / 2,
+                    BOUNDS.height / 2
+                )
+            )
+        );
+        measure("submove scan", layout, s -> stroke(s).asEdge());
+        measure(
+            "move possible",
+            layout,
+            s -> new IsMovePossible(s).check()
+        );
+        measure(
+            "state after move",
+            layout,
+            LargeBoardBenchmark::move,
+            (s, move) -> {
+                if (move == null) {
+                    throw new IllegalStateException("No valid Move found.");
+                }
+                SproutsGameState next =
+                    new SproutsStateAfterMove(
+                        s,
+                        move,
+                        new MiddleSprout(
+                            move,
+                            middle(move),
+                            2 * THICKNESS
+                        ),
+                        THICKNESS / 2
+                    );
+                next.edges();
+                next.edgeGrid();
+                next.renderModel();
+            }
+        );
+    }
+
+    /**
+     * Builds a straight stroke from the first sprout across the board.
+     *
+     * @param state the state to draw the stroke in
+     * @return the Submove of the stroke
+     */
+    private static SubmoveElement stroke(final SproutsGameState state) {
+        Vertex origin = null;
+        for (Vertex v : state.vertices()) {
+            if (origin == null || v.position().x < origin.position().x) {
+                origin = v;
+            }
+        }
+        List<Vector2> points = new ArrayList<Vector2>();
+        Vector2 end =
+            new Vector2(BOUNDS.x + BOUNDS.width - 1, origin.position().y + 1);
+        int steps = (int) (end.dst(origin.position()) / THICKNESS);
+        for (int i = 0; i <= steps; i++) {
+            points.add(origin.position().cpy().lerp(end, 1f * i / steps));
+        }
+        return
+            new SubmoveElement(
+                origin,
+                new Polyline.WrappedList(points),
+                state,
+                2 * THICKNESS,
+                BOUNDS
+            );
+    }
+
+    /**
+     * Builds a valid, completed Move from the first sprout to its nearest
+     * sprout, along a bent stroke.
+     * <p>
+     * A straight stroke would follow the cobweb edge between the two
+     * sprouts, so the stroke bends away from it, to one side or the other.
+     *
+     * @param state the state to draw the Move in
+     * @return a valid, completed Move, or {@code null} if there is none
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    private static Move move(final SproutsGameState state) {
+        Vertex origin = null;
+        for (Vertex v : state.vertices()) {
+            if (origin == null || v.position().x < origin.position().x) {
+                origin = v;
+            }
+        }
+        List<Vertex> targets = new ArrayList<Vertex>();
+        for (Vertex v : state.vertices()) {
+            if (!v.equals(origin) && v.color().equals(origin.color())) {
+                targets.add(v);
+            }
+        }
+        final Vector2 from = origin.position();
+        targets.sort(
+            (a, b) -> Float.compare(
+                a.position().dst2(from),
+                b.position().dst2(from)
+            )
+        );
+        for (Vertex target : targets) {
+            Vector2 to = target.position();
+            for (int side = -1; side <= 1; side += 2) {
+                Vector2 bend =
+                    to.cpy().sub(from).rotate90(side).scl(1 / 3f)
+                        .add(from).add(to).scl(1 / 2f);
+                List<Vector2> points = new ArrayList<Vector2>();
+                addLine(points, from, bend);
+                addLine(points, bend, to);
+                points.add(to);
+                Move move =
+                    new SubmoveSequence(
+                        new SubmoveHead(
+                            new SubmoveElement(
+                                origin,
+                                new Polyline.WrappedList(points),
+                                state,
+                                2 * THICKNESS,
+                                BOUNDS
+                            )
+                        )
+                    );
+                if (move.isValid() && move.isCompleted()) {
+                    return move;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the points of a straight line from {@code a} towards {@code b},
+     * {@code THICKNESS} apart, without {@code b}.
+     *
+     * @param points the points to add to
+     * @param a the start of the line
+     * @param b the end of the line
+     */
+    private static void addLine(
+        final List<Vector2> points,
+        final Vector2 a,
+        final Vector2 b
+    ) {
+        int steps = Math.max(1, (int) (a.dst(b) / THICKNESS));
+        for (int i = 0; i < steps; i++) {
+            points.add(a.cpy().lerp(b, 1f * i / steps));
+        }
+    }
+
+    /**
+     * Returns the middle point of the first Submove of {@code move}.
+     *
+     * @param move a valid, completed Move
+     * @return the middle point of the first Submove polyline
+     */
+    private static Vector2 middle(final Move move) {
+        List<Vector2> points =
+            move.iterator().next().asEdge().polyline().points();
+        return points.get(points.size() / 2);
+    }
+
+    /**
+     * Measures the average time of a path on fresh states and prints it.
+     *
+     * @param name the name of the path
+     * @param layout the layout of the board
+     * @param path the path to measure
+     */
+    private static void measure(
+        final String name,
+        final SproutLayout layout,
+        final Consumer<SproutsGameState> path
+    ) {
+        measure(name, layout, s -> null, (s, unused) -> path.accept(s));
+    }
+
+    /**
+     * Measures the average time of a path on fresh states and prints it.
+     * <p>
+     * The {@code setup} of every fresh state is not measured.
+     *
+     * @param name the name of the path
+     * @param layout the layout of the board
+     * @param setup the unmeasured preparation of the path
+     * @param path the path to measure
+     * @param <T> the type of the prepared input of the path
+     */
+    private static <T> void measure(
+        final String name,
+        final SproutLayout layout,
+        final Function<SproutsGameState, T> setup,
+        final BiConsumer<SproutsGameState, T> path
+    ) {
+        List<Vector2> sprouts = layout.positions();
+        long total = 0;
+        for (int i = 0; i < WARM_UP + RUNS; i++) {
+            SproutsGameState state =
+                new SproutsInitialState(() -> sprouts, new CobwebTree());
+            if (!"initial state".equals(name)) {
+                state.edges();
+            }
+            T input = setup.apply(state);
+            long start = System.nanoTime();
+            path.accept(state, input);
+            if (i >= WARM_UP) {
+                total += System.nanoTime() - start;
+            }
+        }
+        System.out.println(
+            "    " + name + ": " + total / RUNS / 1000 + " us"
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+
+import org.junit.Test;
+
+/** RenderView test class. */
+public final class RenderViewTest {
+    /** The tolerance of the coordinate comparisons. */
+    private static final float DELTA = 1e-3f;
+
+    /** Checks the visible area and the pixel size of a zoomed view. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void zoomedViewShowsPartOfBoard() {
+        // a 640 x 480 board, zoomed in 4 times on its center
+        RenderView view =
+            new RenderView(
+                new Matrix4().setToOrtho2D(240, 180, 160, 120),
+                1280,
+                960
+            );
+        Rectangle area = view.visibleArea();
+        assertEquals(240, area.x, DELTA);
+        assertEquals(180, area.y, DELTA);
+        assertEquals(160, area.width, DELTA);
+        assertEquals(120, area.height, DELTA);
+        assertEquals(1 / 8f, view.pixelSize(), DELTA);
+    }
+
+    /** Checks that larger circles on the screen get more segments. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void segmentCountFollowsScreenSize() {
+        Matrix4 projection = new Matrix4().setToOrtho2D(0, 0, 640, 480);
+        RenderView small = new RenderView(projection, 320, 240);
+        RenderView large = new RenderView(projection, 2560, 1920);
+        assertTrue(
+            small.circleSegmentCount(5) < large.circleSegmentCount(5)
+        );
+        assertEquals(6, small.circleSegmentCount(.1f));
+        assertEquals(128, large.circleSegmentCount(1000));
+    }
+}
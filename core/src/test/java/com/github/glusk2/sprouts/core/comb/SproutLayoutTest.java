@@ -0,0 +1,77 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+/** A test class for the large-board sprout layouts. */
+public final class SproutLayoutTest {
+    /** The game bounds of the layouts. */
+    private static final Rectangle BOUNDS = new Rectangle(10, 10, 620, 380);
+    /** The sprout counts of the large boards. */
+    private static final int[] SIZES = {50, 200, 1000};
+
+    /**
+     * Checks that every layout places all the sprouts within the bounds and
+     * not on top of each other.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void placesAllSproutsApart() {
+        for (int n : SIZES) {
+            float spacing = (float) Math.sqrt(BOUNDS.area() / n);
+            List<SproutLayout> layouts =
+                Arrays.asList(
+                    new GridLayout(n, BOUNDS),
+                    new JitteredLayout(n, BOUNDS, n),
+                    new PoissonDiscLayout(n, BOUNDS, n)
+                );
+            for (SproutLayout layout : layouts) {
+                List<Vector2> sprouts = layout.positions();
+                String name = layout.getClass().getSimpleName() + " of " + n;
+                assertEquals(name, n, sprouts.size());
+                for (Vector2 p : sprouts) {
+                    assertTrue(name, BOUNDS.contains(p));
+                }
+                assertTrue(name, minDistance(sprouts) > spacing / 4);
+            }
+        }
+    }
+
+    /** Checks that a random layout only depends on its seed. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void seedDeterminesLayout() {
+        assertEquals(
+            new PoissonDiscLayout(200, BOUNDS, 42).positions(),
+            new PoissonDiscLayout(200, BOUNDS, 42).positions()
+        );
+        assertEquals(
+            new JitteredLayout(200, BOUNDS, 42).positions(),
+            new JitteredLayout(200, BOUNDS, 42).positions()
+        );
+    }
+
+    /**
+     * Returns the smallest distance between two points.
+     *
+     * @param points the points
+     * @return the smallest distance between two of the {@code points}
+     */
+    private static float minDistance(final List<Vector2> points) {
+        float min = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < points.size(); i++) {
+            for (int j = i + 1; j < points.size(); j++) {
+                min = Math.min(min, points.get(i).dst(points.get(j)));
+            }
+        }
+        return min;
+    }
+}
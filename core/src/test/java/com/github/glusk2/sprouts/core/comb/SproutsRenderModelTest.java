@@ -0,0 +1,107 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.geom.Polyline;
+
+import org.junit.Test;
+
+/** SproutsRenderModel test class. */
+public final class SproutsRenderModelTest {
+    /** The state: a sprout with 3 moves and a cobweb edge. */
+    private static final SproutsGameState STATE = state();
+
+    /** Checks that every edge is listed once, cobweb edges first. */
+    @Test
+    public void listsEveryEdgeOnceCobwebFirst() {
+        SproutsRenderModel model = new SproutsRenderModel(STATE);
+        assertEquals(3, model.edges(false).size());
+        assertEquals(2 * 2, model.edges(true).size());
+        assertEquals(Color.RED, model.edges(true).get(0).color());
+        for (SproutsEdge edge : model.edges(false)) {
+            assertEquals(Color.BLACK, edge.color());
+        }
+    }
+
+    /** Checks that the vertices are split by their liveness. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void splitsVerticesByLiveness() {
+        SproutsRenderModel model = new SproutsRenderModel(STATE);
+        assertEquals(3, model.aliveSprouts().size());
+        assertEquals(1, model.deadVertices(false).size());
+        assertEquals(
+            new Vector2(0, 0),
+            model.deadVertices(false).get(0).position()
+        );
+        assertEquals(3, model.deadVertices(true).size());
+        for (Vertex v : model.aliveSprouts()) {
+            assertTrue(new IsAliveSprout(STATE).test(v));
+        }
+    }
+
+    /** Checks that culling keeps the visible shapes and their order. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void cullsToVisibleArea() {
+        SproutsRenderModel model =
+            new SproutsRenderModel(STATE).visibleIn(
+                new Rectangle(15, -1, 10, 5)
+            );
+        assertEquals(0, model.edges(false).size());
+        assertEquals(1, model.edges(true).size());
+        assertEquals(Color.RED, model.edges(true).get(0).color());
+        assertEquals(1, model.deadVertices(true).size());
+        assertEquals(0, model.deadVertices(false).size());
+        assertEquals(0, model.aliveSprouts().size());
+
+        model =
+            new SproutsRenderModel(STATE).visibleIn(
+                new Rectangle(2.5f, 9, 1, 2)
+            );
+        assertEquals(1, model.edges(false).size());
+        assertEquals(1, model.aliveSprouts().size());
+    }
+
+    /**
+     * Creates a state with a sprout at the origin that is connected to 3
+     * other sprouts, and a cobweb edge.
+     *
+     * @return a new state
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    private static SproutsGameState state() {
+        Set<SproutsEdge> edges = new HashSet<SproutsEdge>();
+        Vector2 origin = new Vector2(0, 0);
+        for (int i = 1; i <= 3; i++) {
+            SproutsEdge edge =
+                new SproutsEdge(
+                    true,
+                    new Polyline.WrappedList(origin, new Vector2(i, 10)),
+                    Color.BLACK,
+                    Color.BLACK
+                );
+            edges.add(edge);
+            edges.add(edge.reversed());
+        }
+        SproutsEdge cobweb =
+            new SproutsEdge(
+                new Polyline.WrappedList(
+                    new Vector2(20, 0),
+                    new Vector2(20, 10)
+                ),
+                Color.RED,
+                Color.RED
+            );
+        edges.add(cobweb);
+        edges.add(cobweb.reversed());
+        return () -> edges;
+    }
+}
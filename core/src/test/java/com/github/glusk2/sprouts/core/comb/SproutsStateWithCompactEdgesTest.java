@@ -0,0 +1,121 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.geom.Polyline;
+
+import org.junit.Test;
+
+/** SproutsStateWithCompactEdges test class. */
+public final class SproutsStateWithCompactEdgesTest {
+    /** Checks that a new edge that is nearly straight gets compacted. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void compactsNearlyStraightEdge() {
+        List<Vector2> points = new ArrayList<Vector2>();
+        for (int i = 0; i <= 100; i++) {
+            points.add(new Vector2(i, (i % 2) * .1f));
+        }
+        SproutsEdge edge = blackEdge(points);
+        SproutsGameState before = () -> new HashSet<SproutsEdge>();
+        SproutsGameState after = () -> bothDirections(edge);
+
+        Set<SproutsEdge> compacted =
+            new SproutsStateWithCompactEdges(before, after, 1).edges();
+
+        assertEquals(2, compacted.size());
+        SproutsEdge result = compacted.iterator().next();
+        List<Vector2> resultPoints = result.polyline().points();
+        assertTrue(resultPoints.size() < points.size());
+        assertEquals(points.get(0), resultPoints.get(0));
+        assertEquals(points.get(1), resultPoints.get(1));
+        assertEquals(
+            points.get(points.size() - 2),
+            resultPoints.get(resultPoints.size() - 2)
+        );
+    }
+
+    /**
+     * Checks that an edge is not compacted if the compacted edge would cross
+     * another edge.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void keepsEdgeThatWouldCrossNeighbour() {
+        SproutsEdge edge =
+            blackEdge(
+                Arrays.asList(
+                    new Vector2(0, 0),
+                    new Vector2(1, 0),
+                    new Vector2(49, 0),
+                    new Vector2(49.5f, .3f),
+                    new Vector2(50.5f, .3f),
+                    new Vector2(51, 0),
+                    new Vector2(99, 0),
+                    new Vector2(100, 0)
+                )
+            );
+        SproutsEdge obstacle =
+            new SproutsEdge(
+                new Polyline.WrappedList(
+                    new Vector2(50, .2f),
+                    new Vector2(50, -10)
+                ),
+                Color.RED, Color.RED
+            );
+        Set<SproutsEdge> oldEdges = bothDirections(obstacle);
+        Set<SproutsEdge> newEdges = bothDirections(obstacle);
+        newEdges.addAll(bothDirections(edge));
+
+        Set<SproutsEdge> compacted =
+            new SproutsStateWithCompactEdges(
+                () -> oldEdges,
+                () -> newEdges,
+                1
+            ).edges();
+
+        for (SproutsEdge e : compacted) {
+            if (e.equals(edge)) {
+                assertEquals(
+                    edge.polyline().points(),
+                    e.polyline().points()
+                );
+            }
+        }
+    }
+
+    /**
+     * Creates a positive black edge from {@code points}.
+     *
+     * @param points the edge polyline points
+     * @return a new edge
+     */
+    private static SproutsEdge blackEdge(final List<Vector2> points) {
+        return
+            new SproutsEdge(
+                true,
+                new Polyline.WrappedList(points),
+                Color.BLACK,
+                Color.BLACK
+            );
+    }
+
+    /**
+     * Returns a new set with {@code edge} and its reverse.
+     *
+     * @param edge an edge
+     * @return a new set with {@code edge} and its reverse
+     */
+    private static Set<SproutsEdge> bothDirections(final SproutsEdge edge) {
+        return new HashSet<SproutsEdge>(Arrays.asList(edge, edge.reversed()));
+    }
+}
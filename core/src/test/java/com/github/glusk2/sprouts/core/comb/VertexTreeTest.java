@@ -0,0 +1,71 @@
+package com.github.glusk2.sprouts.core.comb;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+/** VertexTree test class. */
+public final class VertexTreeTest {
+    /** Checks that the tree finds the same vertex as a linear scan. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void findsTheSameVertexAsLinearScan() {
+        Random random = new Random(42);
+        List<Vertex> vertices = new ArrayList<Vertex>();
+        for (int i = 0; i < 500; i++) {
+            Color color = Color.BLACK;
+            if (random.nextBoolean()) {
+                color = Color.RED;
+            }
+            vertices.add(
+                new PresetVertex(
+                    color,
+                    new Vector2(
+                        random.nextFloat() * 640,
+                        random.nextFloat() * 480
+                    )
+                )
+            );
+        }
+        VertexTree tree = new VertexTree(vertices);
+        for (int i = 0; i < 1000; i++) {
+            Vector2 p =
+                new Vector2(
+                    random.nextFloat() * 700 - 30,
+                    random.nextFloat() * 540 - 30
+                );
+            float radius = random.nextFloat() * 60;
+            Vertex expected = new VoidVertex();
+            float min = radius;
+            for (Vertex v : vertices) {
+                if (
+                    v.color().equals(Color.BLACK)
+                 && v.position().dst(p) < min
+                ) {
+                    min = v.position().dst(p);
+                    expected = v;
+                }
+            }
+            assertEquals(expected, tree.nearest(p, radius, Color.BLACK));
+        }
+    }
+
+    /** Checks that the radius limit is exclusive. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void excludesVerticesAtMaxRadius() {
+        List<Vertex> vertices = new ArrayList<Vertex>();
+        vertices.add(new PresetVertex(Color.BLACK, new Vector2(10, 0)));
+        assertEquals(
+            new VoidVertex(),
+            new VertexTree(vertices).nearest(new Vector2(), 10, Color.BLACK)
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+/** A test class for {@code AdaptiveCurveApproximation}. */
+public final class AdaptiveCurveApproximationTest {
+    /**
+     * Tests that a stroke with a long straight run and a tight bend is
+     * approximated with fewer points than the fixed approximation used for
+     * Moves, while staying within tolerance of a dense approximation.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void reducesPointsWithinTolerance() {
+        float thickness = 5;
+        float tolerance = thickness / 4;
+        List<Vector2> sample = new ArrayList<Vector2>();
+        for (int i = 0; i <= 20; i++) {
+            sample.add(new Vector2(100 + 12 * i, 100));
+        }
+        for (int i = 1; i <= 8; i++) {
+            double angle = Math.PI / 2 - i * Math.PI / 8;
+            sample.add(
+                new Vector2(
+                    340 + 40 * (float) Math.cos(angle),
+                    140 - 40 * (float) Math.sin(angle)
+                )
+            );
+        }
+        Curve<com.badlogic.gdx.math.Path<Vector2>> curve =
+            new CachedCurve(new BezierCurve(new Polyline.WrappedList(sample)));
+
+        List<Vector2> adaptive =
+            new AdaptiveCurveApproximation(
+                curve,
+                tolerance,
+                2 * thickness
+            ).points();
+        List<Vector2> fixed = new CurveApproximation(curve, 5).points();
+        List<Vector2> dense = new CurveApproximation(curve).points();
+
+        assertTrue(
+            "Adaptive: " + adaptive.size() + ", fixed: " + fixed.size(),
+            2 * adaptive.size() < fixed.size()
+        );
+        for (Vector2 p : dense.subList(0, dense.size() - 100)) {
+            float distance = Float.MAX_VALUE;
+            for (int i = 1; i < adaptive.size(); i++) {
+                distance =
+                    Math.min(
+                        distance,
+                        Intersector.distanceSegmentPoint(
+                            adaptive.get(i - 1),
+                            adaptive.get(i),
+                            p
+                        )
+                    );
+            }
+            assertTrue(
+                "Point " + p + " is " + distance + " away!",
+                distance <= tolerance + 1e-3f
+            );
+        }
+    }
+}
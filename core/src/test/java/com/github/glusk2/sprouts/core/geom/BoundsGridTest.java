@@ -0,0 +1,51 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import org.junit.Test;
+
+/** BoundsGrid test class. */
+public final class BoundsGridTest {
+    /** Checks that the overlapping boxes are listed once, in order. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void listsOverlappingBoxesOnceInOrder() {
+        BoundsGrid grid =
+            new BoundsGrid(
+                Arrays.asList(
+                    new Rectangle(0, 0, 100, 100),
+                    new Rectangle(200, 200, 5, 5),
+                    new Rectangle(40, 40, 5, 5),
+                    new Rectangle(-50, 90, 10, 10)
+                ),
+                10
+            );
+        assertEquals(
+            Arrays.asList(0, 2),
+            grid.overlapping(new Rectangle(30, 30, 20, 20))
+        );
+        assertEquals(
+            Arrays.asList(0, 1, 2, 3),
+            grid.overlapping(new Rectangle(-1000, -1000, 2000, 2000))
+        );
+        assertEquals(
+            Arrays.asList(1),
+            grid.overlapping(new Rectangle(205, 205, 1, 1))
+        );
+    }
+
+    /** Checks that an area away from all the boxes overlaps none. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void distantAreaOverlapsNothing() {
+        BoundsGrid grid =
+            new BoundsGrid(Arrays.asList(new Rectangle(0, 0, 10, 10)), 4);
+        assertTrue(grid.overlapping(new Rectangle(11, 0, 5, 5)).isEmpty());
+        assertTrue(grid.overlapping(new Rectangle(5, 5, 1, 1)).size() == 1);
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+
+import org.junit.Test;
+
+/** CapsuleQuads test class. */
+public final class CapsuleQuadsTest {
+    /** The tolerance of the coordinate comparisons. */
+    private static final float DELTA = 1e-4f;
+
+    /** Checks that every line segment of a polyline is a single quad. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void everyLineSegmentIsQuad() {
+        CapsuleQuads quads = new CapsuleQuads(1);
+        quads.addPolyline(
+            Arrays.asList(
+                new Vector2(0, 0),
+                new Vector2(10, 0),
+                new Vector2(10, 0),
+                new Vector2(10, 10)
+            ),
+            4,
+            Color.BLACK
+        );
+        assertEquals(2 * 6, quads.vertexCount());
+    }
+
+    /** Checks that a quad covers the capsule and the margin. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void quadCoversCapsuleAndMargin() {
+        CapsuleQuads quads = new CapsuleQuads(1);
+        quads.addPolyline(
+            Arrays.asList(new Vector2(0, 0), new Vector2(10, 0)),
+            4,
+            Color.BLACK
+        );
+        FloatArray v = quads.vertices();
+        float minX = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < v.size; i += CapsuleQuads.VERTEX_SIZE) {
+            minX = Math.min(minX, v.get(i));
+            maxX = Math.max(maxX, v.get(i));
+            minY = Math.min(minY, v.get(i + 1));
+            maxY = Math.max(maxY, v.get(i + 1));
+            // capsule segment and radius
+            assertEquals(0, v.get(i + 3), DELTA);
+            assertEquals(0, v.get(i + 4), DELTA);
+            assertEquals(10, v.get(i + 5), DELTA);
+            assertEquals(0, v.get(i + 6), DELTA);
+            assertEquals(2, v.get(i + 7), DELTA);
+        }
+        assertEquals(-3, minX, DELTA);
+        assertEquals(13, maxX, DELTA);
+        assertEquals(-3, minY, DELTA);
+        assertEquals(3, maxY, DELTA);
+    }
+
+    /** Checks that a disc is a square quad around a degenerate capsule. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void discIsSquareQuad() {
+        CapsuleQuads quads = new CapsuleQuads(1);
+        quads.addDisc(new Vector2(5, 5), 2, Color.WHITE);
+        FloatArray v = quads.vertices();
+        assertEquals(6, quads.vertexCount());
+        for (int i = 0; i < v.size; i += CapsuleQuads.VERTEX_SIZE) {
+            assertEquals(3, Math.abs(v.get(i) - 5), DELTA);
+            assertEquals(3, Math.abs(v.get(i + 1) - 5), DELTA);
+        }
+    }
+}
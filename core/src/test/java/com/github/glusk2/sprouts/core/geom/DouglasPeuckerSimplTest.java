@@ -0,0 +1,77 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+/** A test class for {@code DouglasPeuckerSimpl}. */
+public final class DouglasPeuckerSimplTest {
+    /**
+     * Tests that a noisy straight line is reduced to its chunk boundaries
+     * and that every original point stays within tolerance.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void reducesNoisyLineWithinTolerance() {
+        List<Vector2> noisy = new ArrayList<Vector2>();
+        for (int i = 0; i <= 128; i++) {
+            noisy.add(new Vector2(3 * i, (i % 3 - 1) * .4f));
+        }
+        List<Vector2> simplified =
+            new DouglasPeuckerSimpl(
+                new Polyline.WrappedList(noisy),
+                1f
+            ).points();
+        assertEquals(3, simplified.size());
+        for (Vector2 p : noisy) {
+            float distance = Float.MAX_VALUE;
+            for (int i = 1; i < simplified.size(); i++) {
+                distance =
+                    Math.min(
+                        distance,
+                        Intersector.distanceSegmentPoint(
+                            simplified.get(i - 1),
+                            simplified.get(i),
+                            p
+                        )
+                    );
+            }
+            assertTrue("Point is too far off!", distance <= 1f);
+        }
+    }
+
+    /**
+     * Tests that appending points does not change the simplification of
+     * complete chunks.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void keepsCompleteChunksStable() {
+        List<Vector2> stroke = new ArrayList<Vector2>();
+        for (int i = 0; i < 60; i++) {
+            stroke.add(
+                new Vector2(10 * i, 30 * (float) Math.sin(i / 3.0))
+            );
+        }
+        List<Vector2> firstChunks =
+            new DouglasPeuckerSimpl(
+                new Polyline.WrappedList(stroke.subList(0, 33)),
+                2f,
+                8
+            ).points();
+        List<Vector2> all =
+            new DouglasPeuckerSimpl(
+                new Polyline.WrappedList(stroke),
+                2f,
+                8
+            ).points();
+        assertEquals(firstChunks, all.subList(0, firstChunks.size()));
+    }
+}
@@ -0,0 +1,181 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import java.util.Random;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A micro benchmark of the {@code GeometryKernel} predicates against the
+ * {@code Intersector} based code that they replaced.
+ * <p>
+ * For every predicate, prints the average time of a call on random
+ * segments and points, after a warm-up. The {@code Intersector} variants
+ * are the former bodies of {@code IsPointOnLineSegment.check()} and of the
+ * crossing checks in {@code PolylineGrid} and
+ * {@code FaceIntersectionSearch}.
+ * <p>
+ * This is not a test; run it with the test classpath:
+ * <pre>
+ * java com.github.glusk2.sprouts.core.geom.GeometryKernelBenchmark [name]
+ * </pre>
+ * If a {@code name} is given, only the predicates whose names start with it
+ * are measured. Measuring one predicate per JVM keeps the call site of the
+ * predicate monomorphic, like the call sites in the game code.
+ */
+public final class GeometryKernelBenchmark {
+    /** The number of random points. */
+    private static final int POINTS = 4096;
+    /** The size of the square that holds the random points. */
+    private static final float EXTENT = 100;
+    /** The maximum distance of a point from a segment. */
+    private static final float MAX_ERROR = 5;
+    /** The number of warm-up rounds. */
+    private static final int WARM_UP = 500;
+    /** The number of measured rounds. */
+    private static final int ROUNDS = 2000;
+
+    /** The random points; consecutive points form a query. */
+    private static final Vector2[] P = new Vector2[POINTS];
+
+    /** The name prefix of the predicates to measure. */
+    private static String selected = "";
+
+    /** Private constructor prevents instantiation. */
+    private GeometryKernelBenchmark() {
+    }
+
+    /**
+     * A predicate on the points {@code i}, {@code i + 1}, {@code i + 2} and
+     * {@code i + 3}.
+     */
+    private interface Predicate {
+        /**
+         * Evaluates the predicate.
+         *
+         * @param i the index of the first point
+         * @return the result of the predicate
+         */
+        boolean test(int i);
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args not used
+     */
+    @SuppressWarnings("checkstyle:uncommentedmain")
+    public static void main(final String[] args) {
+        if (args.length > 0) {
+            selected = args[0];
+        }
+        Random random = new Random(0);
+        for (int i = 0; i < POINTS; i++) {
+            P[i] =
+                new Vector2(
+                    random.nextFloat() * EXTENT,
+                    random.nextFloat() * EXTENT
+                );
+        }
+        measure(
+            "point on segment, Intersector",
+            i -> {
+                boolean isPointOnLine =
+                    Intersector.distanceSegmentPoint(P[i], P[i + 1], P[i + 2])
+                        <= MAX_ERROR;
+                Vector2 nearestSegmentPoint =
+                    Intersector.nearestSegmentPoint(
+                        P[i],
+                        P[i + 1],
+                        P[i + 2],
+                        new Vector2()
+                    );
+                return
+                    isPointOnLine
+                    && !(
+                        nearestSegmentPoint.epsilonEquals(P[i])
+                     || nearestSegmentPoint.epsilonEquals(P[i + 1])
+                    );
+            }
+        );
+        measure(
+            "point on segment, GeometryKernel",
+            i -> GeometryKernel.isPointOnSegment(
+                P[i],
+                P[i + 1],
+                P[i + 2],
+                MAX_ERROR
+            )
+        );
+        measure(
+            "segment distance, Intersector",
+            i -> Intersector.distanceSegmentPoint(P[i], P[i + 1], P[i + 2])
+                <= MAX_ERROR
+        );
+        measure(
+            "segment distance, GeometryKernel",
+            i -> GeometryKernel.segmentDistance2(P[i], P[i + 1], P[i + 2])
+                <= MAX_ERROR * MAX_ERROR
+        );
+        measure(
+            "segment crossing, Intersector",
+            i -> {
+                Vector2 intersection = new Vector2();
+                boolean intersects =
+                    Intersector.intersectSegments(
+                        P[i],
+                        P[i + 1],
+                        P[i + 2],
+                        P[i + 2 + 1],
+                        intersection
+                    );
+                return
+                    intersects
+                 && !P[i].epsilonEquals(intersection)
+                 && !P[i + 1].epsilonEquals(intersection);
+            }
+        );
+        Vector2 crossing = new Vector2();
+        measure(
+            "segment crossing, GeometryKernel",
+            i -> GeometryKernel.crossesSegment(
+                P[i],
+                P[i + 1],
+                P[i + 2],
+                P[i + 2 + 1],
+                crossing
+            )
+        );
+    }
+
+    /**
+     * Measures the average time of a predicate and prints it.
+     *
+     * @param name the name of the predicate
+     * @param predicate the predicate to measure
+     */
+    private static void measure(final String name, final Predicate predicate) {
+        if (!name.startsWith(selected)) {
+            return;
+        }
+        int queries = POINTS - 2 - 2;
+        long total = 0;
+        int count = 0;
+        for (int round = 0; round < WARM_UP + ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < queries; i++) {
+                if (predicate.test(i)) {
+                    count++;
+                }
+            }
+            if (round >= WARM_UP) {
+                total += System.nanoTime() - start;
+            }
+        }
+        System.out.println(
+            "    " + name + ": "
+          + total / ROUNDS * 1000 / queries + " ps"
+          + " (" + count + " hits)"
+        );
+    }
+}
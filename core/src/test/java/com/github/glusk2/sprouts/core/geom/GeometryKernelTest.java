@@ -0,0 +1,144 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+/** GeometryKernel test class. */
+public final class GeometryKernelTest {
+    /** Checks that segment intersections agree with {@code Intersector}. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void intersectsSegmentsLikeIntersector() {
+        Random random = new Random(11);
+        for (int i = 0; i < 10000; i++) {
+            Vector2 p0 = randomPoint(random);
+            Vector2 p1 = randomPoint(random);
+            Vector2 a = randomPoint(random);
+            Vector2 b = randomPoint(random);
+            Vector2 expected = new Vector2();
+            Vector2 actual = new Vector2();
+            assertEquals(
+                Intersector.intersectSegments(p0, p1, a, b, expected),
+                GeometryKernel.intersectSegments(p0, p1, a, b, actual)
+            );
+            assertEquals(expected, actual);
+        }
+    }
+
+    /**
+     * Checks that point-on-segment tests agree with the
+     * {@code Intersector} based implementation.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void findsPointsOnSegmentLikeIntersector() {
+        Random random = new Random(13);
+        for (int i = 0; i < 10000; i++) {
+            Vector2 a = randomPoint(random);
+            Vector2 b = randomPoint(random);
+            Vector2 p = randomPoint(random);
+            float maxError = random.nextFloat() * 10;
+            Vector2 nearest =
+                Intersector.nearestSegmentPoint(a, b, p, new Vector2());
+            boolean expected =
+                nearest.dst(p) <= maxError
+             && !nearest.epsilonEquals(a)
+             && !nearest.epsilonEquals(b);
+            assertEquals(
+                expected,
+                GeometryKernel.isPointOnSegment(a, b, p, maxError)
+            );
+        }
+    }
+
+    /**
+     * Checks the orientation of points that are nearly collinear with a
+     * line, where the {@code float} cross product loses the sign.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void orientsNearlyCollinearPointsExactly() {
+        Random random = new Random(17);
+        for (int i = 0; i < 10000; i++) {
+            Vector2 a = randomPoint(random).scl(30);
+            Vector2 b = randomPoint(random).scl(30);
+            float t = random.nextFloat();
+            Vector2 c =
+                new Vector2(a.x + t * (b.x - a.x), a.y + t * (b.y - a.y));
+            c.x = Math.nextAfter(c.x, random.nextInt(3) - 1 + c.x);
+            BigDecimal determinant =
+                exact(b.x).subtract(exact(a.x))
+                    .multiply(exact(c.y).subtract(exact(a.y)))
+                    .subtract(
+                        exact(b.y).subtract(exact(a.y))
+                            .multiply(exact(c.x).subtract(exact(a.x)))
+                    );
+            assertEquals(
+                determinant.signum(),
+                GeometryKernel.orientationSign(a, b, c)
+            );
+        }
+    }
+
+    /** Checks that a crossing segment is detected. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void detectsCrossing() {
+        Vector2 intersection = new Vector2();
+        assertTrue(
+            GeometryKernel.crossesSegment(
+                new Vector2(0, 0),
+                new Vector2(2, 2),
+                new Vector2(0, 2),
+                new Vector2(2, 0),
+                intersection
+            )
+        );
+        assertEquals(new Vector2(1, 1), intersection);
+    }
+
+    /** Checks that a segment connected through its bound does not cross. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void segmentConnectedThroughBoundDoesNotCross() {
+        assertFalse(
+            GeometryKernel.crossesSegment(
+                new Vector2(1, 1),
+                new Vector2(2, 2),
+                new Vector2(0, 2),
+                new Vector2(2, 0),
+                new Vector2()
+            )
+        );
+    }
+
+    /**
+     * Returns the exact decimal value of {@code value}.
+     *
+     * @param value a float value
+     * @return the exact decimal value
+     */
+    private static BigDecimal exact(final float value) {
+        return new BigDecimal(value);
+    }
+
+    /**
+     * Returns a random point in a small box, so that segments often cross.
+     *
+     * @param random the random number generator
+     * @return a random point
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    private static Vector2 randomPoint(final Random random) {
+        return new Vector2(random.nextFloat() * 20, random.nextFloat() * 20);
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+/** A test class for {@code IncrementalBSplineSolver}. */
+public final class IncrementalBSplineSolverTest {
+    /**
+     * Tests that the first solution is the same as the one computed by
+     * {@code BSplineControlPoints}.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void firstSolutionIsExact() {
+        List<Vector2> sample = wave(50);
+        IncrementalBSplineSolver solver = new IncrementalBSplineSolver();
+        assertEquals(
+            new BSplineControlPoints(sample).points(),
+            solver.controlPoints(sample)
+        );
+        assertFalse(solver.isApproximate());
+    }
+
+    /**
+     * Tests that a growing sample keeps the committed control points
+     * unchanged and stays close to the full solution.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void growingSampleKeepsCommittedPrefix() {
+        List<Vector2> sample = wave(200);
+        IncrementalBSplineSolver solver = new IncrementalBSplineSolver(8);
+        List<Vector2> previous = new ArrayList<Vector2>();
+        for (int n = 2; n <= sample.size(); n++) {
+            List<Vector2> prefix = sample.subList(0, n);
+            List<Vector2> actual = solver.controlPoints(prefix);
+            List<Vector2> expected = new BSplineControlPoints(prefix).points();
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < actual.size(); i++) {
+                assertTrue(
+                    "Control point is too far off!",
+                    actual.get(i).epsilonEquals(expected.get(i), 1e-3f)
+                );
+            }
+            for (int i = 0; i < previous.size() - 8 - 2; i++) {
+                assertEquals(
+                    "Committed control point has changed!",
+                    previous.get(i),
+                    actual.get(i)
+                );
+            }
+            previous = actual;
+        }
+        assertTrue(solver.isApproximate());
+    }
+
+    /**
+     * Tests that changing the beginning of the sample drops the committed
+     * rows.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void changedSampleIsSolvedAgain() {
+        IncrementalBSplineSolver solver = new IncrementalBSplineSolver(4);
+        solver.controlPoints(wave(40));
+        List<Vector2> changed = wave(41);
+        changed.set(1, new Vector2(3, 7));
+        assertEquals(
+            new BSplineControlPoints(changed).points(),
+            solver.controlPoints(changed)
+        );
+        assertFalse(solver.isApproximate());
+    }
+
+    /**
+     * Tests that a growing sample extends the committed head of the
+     * previous result instead of copying it.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void growingPointsShareCommittedHead() {
+        List<Vector2> sample = wave(120);
+        IncrementalDouglasPeucker simplifier =
+            new IncrementalDouglasPeucker(.5f, 8);
+        IncrementalBSplineSolver solver = new IncrementalBSplineSolver(8);
+        SampleBuffer buffer = new SampleBuffer(sample.subList(0, 1));
+        GrowingPoints previous = null;
+        for (int n = 2; n <= sample.size(); n++) {
+            buffer = buffer.append(n - 1, sample.get(n - 1));
+            GrowingPoints simplified = simplifier.points(buffer, n);
+            GrowingPoints actual = solver.controlPoints(simplified);
+            List<Vector2> expected =
+                new BSplineControlPoints(simplified).points();
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < actual.size(); i++) {
+                assertTrue(
+                    "Control point is too far off!",
+                    actual.get(i).epsilonEquals(expected.get(i), 1e-3f)
+                );
+            }
+            if (previous != null) {
+                assertEquals(
+                    previous.headSize(),
+                    actual.sharedHead(previous)
+                );
+            }
+            previous = actual;
+        }
+        assertTrue(previous.headSize() > 1);
+    }
+
+    /**
+     * Samples a sine wave.
+     *
+     * @param size the number of sample points
+     * @return the sample points
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    private static List<Vector2> wave(final int size) {
+        List<Vector2> result = new ArrayList<Vector2>();
+        for (int i = 0; i < size; i++) {
+            result.add(
+                new Vector2(5 * i, 40 * (float) Math.sin(i / 4.0))
+            );
+        }
+        return result;
+    }
+}
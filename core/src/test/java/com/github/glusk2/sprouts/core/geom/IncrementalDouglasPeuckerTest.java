@@ -0,0 +1,106 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+/** A test class for {@code IncrementalDouglasPeucker}. */
+public final class IncrementalDouglasPeuckerTest {
+    /**
+     * Tests that a growing sample is simplified in the same way as by
+     * {@code DouglasPeuckerSimpl}.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void matchesDouglasPeuckerSimpl() {
+        List<Vector2> stroke = wave(100);
+        IncrementalDouglasPeucker simplifier =
+            new IncrementalDouglasPeucker(2f, 8);
+        SampleBuffer buffer = new SampleBuffer(stroke.subList(0, 1));
+        for (int n = 1; n <= stroke.size(); n++) {
+            if (n > 1) {
+                buffer = buffer.append(n - 1, stroke.get(n - 1));
+            }
+            assertEquals(
+                new DouglasPeuckerSimpl(
+                    new Polyline.WrappedList(stroke.subList(0, n)),
+                    2f,
+                    8
+                ).points(),
+                simplifier.points(buffer, n)
+            );
+        }
+    }
+
+    /**
+     * Tests that the simplified closed chunks are shared by the following
+     * invocations.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void sharesClosedChunks() {
+        List<Vector2> stroke = wave(60);
+        IncrementalDouglasPeucker simplifier =
+            new IncrementalDouglasPeucker(2f, 8);
+        SampleBuffer buffer = new SampleBuffer(stroke.subList(0, 40));
+        GrowingPoints first = simplifier.points(buffer, 40);
+        buffer = buffer.append(40, stroke.get(40));
+        GrowingPoints second = simplifier.points(buffer, 41);
+        assertTrue(first.headSize() > 0);
+        assertEquals(first.headSize(), second.sharedHead(first));
+        assertEquals(
+            first.subList(0, first.headSize()),
+            second.subList(0, first.headSize())
+        );
+    }
+
+    /**
+     * Tests that a different buffer does not share the head of the earlier
+     * results.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void startsNewHeadForNewBuffer() {
+        List<Vector2> stroke = wave(40);
+        IncrementalDouglasPeucker simplifier =
+            new IncrementalDouglasPeucker(2f, 8);
+        SampleBuffer buffer = new SampleBuffer(stroke);
+        GrowingPoints first = simplifier.points(buffer, 40);
+        SampleBuffer branch = buffer.append(30, new Vector2(0, 0));
+        GrowingPoints second = simplifier.points(branch, 31);
+        assertEquals(0, second.sharedHead(first));
+        List<Vector2> expected = new ArrayList<Vector2>(stroke.subList(0, 30));
+        expected.add(new Vector2(0, 0));
+        assertEquals(
+            new DouglasPeuckerSimpl(
+                new Polyline.WrappedList(expected),
+                2f,
+                8
+            ).points(),
+            second
+        );
+    }
+
+    /**
+     * Samples a sine wave.
+     *
+     * @param size the number of sample points
+     * @return the sample points
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    private static List<Vector2> wave(final int size) {
+        List<Vector2> result = new ArrayList<Vector2>();
+        for (int i = 0; i < size; i++) {
+            result.add(
+                new Vector2(10 * i, 30 * (float) Math.sin(i / 3.0))
+            );
+        }
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+/** A test class for {@code IncrementalStroke}. */
+public final class IncrementalStrokeTest {
+    /**
+     * Tests that a growing stroke is approximated in the same way as by
+     * {@code AdaptiveCurveApproximation}, followed by the last sample point,
+     * and that the approximated head is shared by the following results.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void matchesAdaptiveCurveApproximation() {
+        List<Vector2> sample = new ArrayList<Vector2>();
+        for (int i = 0; i < 150; i++) {
+            sample.add(
+                new Vector2(6 * i, 40 * (float) Math.sin(i / 5.0))
+            );
+        }
+        IncrementalStroke stroke =
+            new IncrementalStroke(
+                new IncrementalDouglasPeucker(1, 8),
+                new IncrementalBSplineSolver(),
+                .5f,
+                10
+            );
+        IncrementalDouglasPeucker simplification =
+            new IncrementalDouglasPeucker(1, 8);
+        IncrementalBSplineSolver solver = new IncrementalBSplineSolver();
+
+        SampleBuffer buffer = new SampleBuffer(sample.subList(0, 1));
+        GrowingPoints previous = null;
+        for (int n = 1; n <= sample.size(); n++) {
+            if (n > 1) {
+                buffer = buffer.append(n - 1, sample.get(n - 1));
+            }
+            GrowingPoints actual = stroke.points(buffer, n);
+            GrowingPoints simplified = simplification.points(buffer, n);
+            List<Vector2> expected =
+                new ArrayList<Vector2>(
+                    new AdaptiveCurveApproximation(
+                        new BezierCurve(
+                            new Polyline.WrappedList(simplified),
+                            new Polyline.WrappedList(
+                                solver.controlPoints(simplified)
+                            )
+                        ),
+                        .5f,
+                        10
+                    ).points()
+                );
+            expected.add(sample.get(n - 1));
+            assertEquals(expected, actual);
+            if (previous != null) {
+                assertEquals(
+                    previous.headSize(),
+                    actual.sharedHead(previous)
+                );
+            }
+            previous = actual;
+        }
+        assertTrue(previous.headSize() > 0);
+    }
+}
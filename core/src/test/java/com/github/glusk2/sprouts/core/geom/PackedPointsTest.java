@@ -0,0 +1,33 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+
+import org.junit.Test;
+
+/** PackedPoints test class. */
+public final class PackedPointsTest {
+    /**
+     * Checks that a view keeps reading the items that the backing array had
+     * when the view was created, after appending replaced them.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void keepsItemsOfGrowingArray() {
+        FloatArray coordinates = new FloatArray(2);
+        coordinates.add(1, 2);
+        float[] items = coordinates.items;
+        PackedPoints view = new PackedPoints(coordinates);
+        PackedPoints subList = view.subList(0, 1);
+        coordinates.add(3, 4);
+        assertNotSame(items, coordinates.items);
+        coordinates.items[0] = -1;
+        assertEquals(Arrays.asList(new Vector2(1, 2)), view);
+        assertEquals(Arrays.asList(new Vector2(1, 2)), subList);
+    }
+}
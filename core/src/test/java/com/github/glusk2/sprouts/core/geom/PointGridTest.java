@@ -0,0 +1,44 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+/** PointGrid test class. */
+public final class PointGridTest {
+    /** Checks that the grid agrees with a check of every point. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void agreesWithCheckOfEveryPoint() {
+        Random random = new Random(7);
+        float radius = 20;
+        List<Vector2> points = new ArrayList<Vector2>();
+        for (int i = 0; i < 100; i++) {
+            points.add(
+                new Vector2(random.nextFloat() * 640, random.nextFloat() * 480)
+            );
+        }
+        PointGrid grid = new PointGrid(points, radius);
+        for (int i = 0; i < 2000; i++) {
+            Vector2 p0 =
+                new Vector2(random.nextFloat() * 640, random.nextFloat() * 480);
+            Vector2 p1 =
+                p0.cpy().add(
+                    random.nextFloat() * 80 - 40,
+                    random.nextFloat() * 80 - 40
+                );
+            boolean expected = false;
+            for (Vector2 point : points) {
+                expected |=
+                    new IsPointOnLineSegment(p0, p1, point, radius).check();
+            }
+            assertEquals(expected, grid.anyOnSegment(p0, p1));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertEquals;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+/** A test class for {@code PolylineGrid}. */
+public final class PolylineGridTest {
+    /** Tests that the first of several crossed segments is returned. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void findsFirstCrossedSegment() {
+        PolylineGrid grid = new PolylineGrid(1f);
+        grid.append(new Vector2(0, 0));
+        grid.append(new Vector2(0, 10));
+        grid.append(new Vector2(5, 10));
+        grid.append(new Vector2(5, 0));
+        Vector2 intersection = new Vector2();
+        assertEquals(
+            "Wrong segment found!",
+            1,
+            grid.firstCrossing(
+                new Vector2(10, 5),
+                new Vector2(-1, 5),
+                intersection
+            )
+        );
+        assertEquals(
+            "Wrong intersection point!",
+            new Vector2(0, 5),
+            intersection
+        );
+    }
+
+    /**
+     * Tests that a segment connected to the polyline through its boundary
+     * is not considered a crossing.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void ignoresConnectedSegment() {
+        PolylineGrid grid = new PolylineGrid();
+        grid.append(new Vector2(0, 0));
+        grid.append(new Vector2(10, 0));
+        assertEquals(
+            -1,
+            grid.firstCrossing(
+                new Vector2(10, 0),
+                new Vector2(10, 10),
+                new Vector2()
+            )
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+/** PolylinePiece test class. */
+public final class PolylinePieceTest {
+    /** The polyline to cut. */
+    private static final Polyline ORIGINAL =
+        new Polyline.WrappedList(
+            Arrays.asList(
+                new Vector2(0, 0),
+                new Vector2(10, 0),
+                new Vector2(20, 0),
+                new Vector2(30, 0)
+            )
+        );
+
+    /** Checks that the first half ends at the cutting point. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void firstHalfEndsAtCuttingPoint() {
+        Vector2 cut = new Vector2(15, .2f);
+        assertEquals(
+            Arrays.asList(new Vector2(0, 0), new Vector2(10, 0), cut),
+            new PolylinePiece(ORIGINAL, cut, true, 1).points()
+        );
+    }
+
+    /** Checks that the second half starts at the cutting point. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void secondHalfStartsAtCuttingPoint() {
+        Vector2 cut = new Vector2(15, .2f);
+        List<Vector2> expected =
+            Arrays.asList(cut, new Vector2(20, 0), new Vector2(30, 0));
+        assertEquals(expected, new PolylinePiece(ORIGINAL, cut).points());
+        assertEquals(expected, new PolylinePiece(ORIGINAL, cut, 2).points());
+    }
+
+    /** Checks that sub lists of a piece are views of the right points. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void subListsSpanTheCuttingPoint() {
+        Vector2 cut = new Vector2(15, 0);
+        List<Vector2> points =
+            new PolylinePiece(ORIGINAL, cut, true, 1).points();
+        assertEquals(
+            Arrays.asList(new Vector2(10, 0), cut),
+            points.subList(1, 3)
+        );
+        assertEquals(Arrays.asList(cut), points.subList(2, 3));
+        assertTrue(points.subList(1, 1).isEmpty());
+    }
+
+    /** Checks that a piece is empty if the cutting point is off the line. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void isEmptyIfCuttingPointIsOffTheLine() {
+        assertTrue(
+            new PolylinePiece(ORIGINAL, new Vector2(15, 5)).points().isEmpty()
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+/** PolylineTree test class. */
+public final class PolylineTreeTest {
+    /** Checks that the tree finds the same crossings as a linear scan. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void findsTheSameCrossingsAsLinearScan() {
+        Random random = new Random(3);
+        List<Vector2> points = new ArrayList<Vector2>();
+        Vector2 walker = new Vector2(320, 240);
+        for (int i = 0; i < 300; i++) {
+            points.add(walker.cpy());
+            walker.add(
+                random.nextFloat() * 20 - 10,
+                random.nextFloat() * 20 - 10
+            );
+        }
+        PolylineTree tree = new PolylineTree(new Polyline.WrappedList(points));
+        for (int i = 0; i < 1000; i++) {
+            Vector2 p0 =
+                new Vector2(
+                    random.nextFloat() * 200 + 220,
+                    random.nextFloat() * 200 + 140
+                );
+            Vector2 p1 =
+                p0.cpy().add(
+                    random.nextFloat() * 60 - 30,
+                    random.nextFloat() * 60 - 30
+                );
+            int first = -1;
+            int closest = -1;
+            Vector2 closestPoint = new Vector2();
+            Vector2 candidate = new Vector2();
+            for (int k = 1; k < points.size(); k++) {
+                boolean crosses =
+                    Intersector.intersectSegments(
+                        p0, p1, points.get(k - 1), points.get(k), candidate
+                    )
+                 && !p0.epsilonEquals(candidate)
+                 && !p1.epsilonEquals(candidate);
+                if (!crosses) {
+                    continue;
+                }
+                if (first == -1) {
+                    first = k;
+                }
+                if (
+                    closest == -1
+                 || p0.dst2(candidate) < p0.dst2(closestPoint)
+                ) {
+                    closest = k;
+                    closestPoint.set(candidate);
+                }
+            }
+            Vector2 out = new Vector2();
+            assertEquals(first, tree.firstCrossing(p0, p1, out));
+            assertEquals(closest, tree.closestCrossing(p0, p1, out));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+
+import org.junit.Test;
+
+/** PolylineTriangles test class. */
+public final class PolylineTrianglesTest {
+    /** Checks that a line segment is a quad with two half disc caps. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void lineSegmentIsQuadWithTwoCaps() {
+        PolylineTriangles triangles = new PolylineTriangles(16);
+        triangles.addPolyline(
+            Arrays.asList(new Vector2(0, 0), new Vector2(10, 0)),
+            2,
+            Color.BLACK
+        );
+        assertEquals(3 * (2 + 8 + 8), triangles.vertexCount());
+    }
+
+    /** Checks that a polyline of a single point is a disc. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void singlePointIsDisc() {
+        PolylineTriangles triangles = new PolylineTriangles(16);
+        triangles.addPolyline(
+            Arrays.asList(new Vector2(5, 5), new Vector2(5, 5)),
+            2,
+            Color.BLACK
+        );
+        assertEquals(3 * 16, triangles.vertexCount());
+        assertTrue(covers(triangles, new Vector2(5.9f, 5)));
+        assertFalse(covers(triangles, new Vector2(6.1f, 5)));
+    }
+
+    /**
+     * Checks that the triangles cover the points close to a random polyline
+     * and none of the points far from it.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void coversExactlyThePointsNearThePolyline() {
+        Random random = new Random(3);
+        List<Vector2> points = new ArrayList<Vector2>();
+        for (int i = 0; i < 12; i++) {
+            points.add(
+                new Vector2(random.nextFloat() * 100, random.nextFloat() * 100)
+            );
+        }
+        float thickness = 8;
+        PolylineTriangles triangles = new PolylineTriangles(32);
+        triangles.addPolyline(points, thickness, Color.BLACK);
+        for (int i = 0; i < 5000; i++) {
+            Vector2 p =
+                new Vector2(
+                    random.nextFloat() * 120 - 10,
+                    random.nextFloat() * 120 - 10
+                );
+            float distance = Float.POSITIVE_INFINITY;
+            for (int j = 1; j < points.size(); j++) {
+                distance =
+                    Math.min(
+                        distance,
+                        (float) Math.sqrt(
+                            GeometryKernel.segmentDistance2(
+                                points.get(j - 1), points.get(j), p
+                            )
+                        )
+                    );
+            }
+            if (distance < thickness / 2 * .99f) {
+                assertTrue(p.toString(), covers(triangles, p));
+            } else if (distance > thickness / 2) {
+                assertFalse(p.toString(), covers(triangles, p));
+            }
+        }
+    }
+
+    /**
+     * Checks whether any of the {@code triangles} contains {@code p}.
+     *
+     * @param triangles the triangles to check
+     * @param p the point to check
+     * @return {@code true} if {@code p} is in one of the triangles
+     */
+    private static boolean covers(
+        final PolylineTriangles triangles,
+        final Vector2 p
+    ) {
+        FloatArray v = triangles.vertices();
+        int size = PolylineTriangles.VERTEX_SIZE;
+        for (int i = 0; i < v.size; i += 3 * size) {
+            Vector2 a = new Vector2(v.get(i), v.get(i + 1));
+            Vector2 b = new Vector2(v.get(i + size), v.get(i + size + 1));
+            Vector2 c =
+                new Vector2(v.get(i + 2 * size), v.get(i + 2 * size + 1));
+            float ab = GeometryKernel.orientation(a, b, p);
+            float bc = GeometryKernel.orientation(b, c, p);
+            float ca = GeometryKernel.orientation(c, a, p);
+            if (
+                ab >= 0 && bc >= 0 && ca >= 0
+             || ab <= 0 && bc <= 0 && ca <= 0
+            ) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.glusk2.sprouts.core.geom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+/** SampleBuffer test class. */
+public final class SampleBufferTest {
+    /** Checks that appending to the newest snapshot shares the buffer. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void appendsInPlaceToNewestSnapshot() {
+        SampleBuffer buffer =
+            new SampleBuffer(Arrays.asList(new Vector2(0, 0)));
+        SampleBuffer next = buffer.append(1, new Vector2(1, 2));
+        assertSame(buffer, next);
+        assertEquals(
+            Arrays.asList(new Vector2(0, 0), new Vector2(1, 2)),
+            next.points(2)
+        );
+        assertEquals(Arrays.asList(new Vector2(0, 0)), buffer.points(1));
+    }
+
+    /** Checks that appending to an older snapshot does not change others. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void copiesOnBranch() {
+        SampleBuffer buffer =
+            new SampleBuffer(Arrays.asList(new Vector2(0, 0)))
+                .append(1, new Vector2(1, 1));
+        SampleBuffer branch = buffer.append(1, new Vector2(3, 3));
+        assertNotSame(buffer, branch);
+        assertEquals(
+            Arrays.asList(new Vector2(0, 0), new Vector2(1, 1)),
+            buffer.points(2)
+        );
+        assertEquals(
+            Arrays.asList(new Vector2(0, 0), new Vector2(3, 3)),
+            branch.points(2)
+        );
+    }
+}
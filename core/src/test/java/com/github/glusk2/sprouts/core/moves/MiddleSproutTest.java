@@ -0,0 +1,138 @@
+package com.github.glusk2.sprouts.core.moves;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.comb.SproutsEdge;
+import com.github.glusk2.sprouts.core.geom.Polyline;
+
+import org.junit.Test;
+
+/** MiddleSprout test class. */
+public final class MiddleSproutTest {
+    /** The glue radius used by the tests. */
+    private static final float GLUE_RADIUS = 10;
+
+    /** Checks that the first point near the position is found. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void findsFirstPointNearPosition() {
+        MiddleSprout middleSprout =
+            new MiddleSprout(
+                straightMove(),
+                new Vector2(100, 3),
+                GLUE_RADIUS
+            );
+        assertEquals(91, middleSprout.submovePolylineIndex());
+        assertEquals(
+            new Vector2(91, 0),
+            middleSprout.submove().polyline().points().get(91)
+        );
+    }
+
+    /**
+     * Checks that the middle sprout is moved past the submove endpoint
+     * exclusion zone.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void skipsPointsNearSubmoveEndpoints() {
+        assertEquals(
+            21,
+            new MiddleSprout(
+                straightMove(),
+                new Vector2(5, 3),
+                GLUE_RADIUS
+            ).submovePolylineIndex()
+        );
+    }
+
+    /** Checks that a position far from the move is rejected. */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void rejectsPositionOffTheMove() {
+        MiddleSprout middleSprout =
+            new MiddleSprout(
+                straightMove(),
+                new Vector2(100, 30),
+                GLUE_RADIUS
+            );
+        assertNull(middleSprout.submove());
+        assertEquals(-1, middleSprout.submovePolylineIndex());
+    }
+
+    /**
+     * Returns a completed move with a single, straight submove from
+     * {@code (0, 0)} to {@code (200, 0)}, with a point at every unit.
+     *
+     * @return a straight move
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    private static Move straightMove() {
+        List<Vector2> points = new ArrayList<Vector2>();
+        for (int i = 0; i <= 200; i++) {
+            points.add(new Vector2(i, 0));
+        }
+        SproutsEdge edge =
+            new SproutsEdge(
+                true,
+                new Polyline.WrappedList(points),
+                Color.BLACK,
+                Color.BLACK
+            );
+        Submove submove = new Submove() {
+            @Override
+            public SproutsEdge asEdge() {
+                return edge;
+            }
+
+            @Override
+            public boolean isCompleted() {
+                return true;
+            }
+
+            @Override
+            public boolean isReadyToRender() {
+                return true;
+            }
+
+            @Override
+            public boolean isValid() {
+                return true;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return false;
+            }
+
+            @Override
+            public Submove next() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        return new Move() {
+            @Override
+            public Iterator<Submove> iterator() {
+                return Collections.singletonList(submove).iterator();
+            }
+
+            @Override
+            public boolean isCompleted() {
+                return true;
+            }
+
+            @Override
+            public boolean isValid() {
+                return true;
+            }
+        };
+    }
+}
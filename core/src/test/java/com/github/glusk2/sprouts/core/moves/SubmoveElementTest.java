@@ -0,0 +1,79 @@
+package com.github.glusk2.sprouts.core.moves;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.comb.PresetVertex;
+import com.github.glusk2.sprouts.core.comb.SproutsEdge;
+import com.github.glusk2.sprouts.core.comb.SproutsGameState;
+import com.github.glusk2.sprouts.core.comb.SproutsStateAfterSubmove;
+import com.github.glusk2.sprouts.core.comb.Vertex;
+import com.github.glusk2.sprouts.core.geom.BezierCurve;
+import com.github.glusk2.sprouts.core.geom.CurveApproximation;
+import com.github.glusk2.sprouts.core.geom.Polyline;
+
+import org.junit.Test;
+
+/** A test class for SubmoveElement. */
+public final class SubmoveElementTest {
+    /**
+     * Checks that the state after a Submove is the state that the next
+     * Submove was validated in, and that another previous state gets a
+     * state of its own.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void reusesStateOfNextSubmoveValidation() {
+        Vertex v1 = new PresetVertex(new Vector2(-50, 0));
+        Vertex v2 = new PresetVertex(new Vector2(50, 0));
+        SproutsEdge e1 = new SproutsEdge(
+            new Polyline.WrappedList(v1.position(), v2.position()),
+            v1.color(), v2.color()
+        );
+        float moveThickness = 10;
+        SproutsGameState state =
+            () -> new HashSet<>(Arrays.asList(e1, e1.reversed()));
+
+        // the stroke crosses the cobweb edge, so the Move has 2 Submoves
+        Submove first =
+            new SubmoveElement(
+                v1,
+                new CurveApproximation(
+                    new BezierCurve(
+                        Arrays.asList(
+                            v1.position(),
+                            new Vector2(-20, 20),
+                            new Vector2(0, 40),
+                            new Vector2(20, 1),
+                            new Vector2(0, -40),
+                            new Vector2(-20, -20),
+                            v1.position()
+                        ),
+                        3f * moveThickness
+                    ),
+                    5
+                ),
+                state,
+                moveThickness * 2f,
+                new Rectangle(-100, -100, 1000, 1000)
+            );
+        assertThat(first.hasNext(), is(true));
+        assertThat(first.next().isValid(), is(true));
+
+        SproutsGameState after = first.stateAfter(state);
+        assertThat(first.stateAfter(state), sameInstance(after));
+
+        SproutsGameState copy = () -> state.edges();
+        SproutsGameState afterCopy = first.stateAfter(copy);
+        assertThat(afterCopy, not(sameInstance(after)));
+        assertThat(afterCopy, instanceOf(SproutsStateAfterSubmove.class));
+    }
+}
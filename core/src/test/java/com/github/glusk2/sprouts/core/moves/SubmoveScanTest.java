@@ -0,0 +1,339 @@
+package com.github.glusk2.sprouts.core.moves;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.comb.PresetVertex;
+import com.github.glusk2.sprouts.core.comb.SproutsGameState;
+import com.github.glusk2.sprouts.core.comb.SproutsInitialState;
+import com.github.glusk2.sprouts.core.comb.SproutsTooltip;
+import com.github.glusk2.sprouts.core.comb.Vertex;
+import com.github.glusk2.sprouts.core.geom.BezierCurve;
+import com.github.glusk2.sprouts.core.geom.CurveApproximation;
+import com.github.glusk2.sprouts.core.geom.GrowingPoints;
+import com.github.glusk2.sprouts.core.geom.IncrementalBSplineSolver;
+import com.github.glusk2.sprouts.core.geom.IncrementalDouglasPeucker;
+import com.github.glusk2.sprouts.core.geom.IncrementalStroke;
+import com.github.glusk2.sprouts.core.geom.Polyline;
+import com.github.glusk2.sprouts.core.geom.SampleBuffer;
+
+import org.junit.Test;
+
+/** A test class for SubmoveScan. */
+public final class SubmoveScanTest {
+    /** The distance between two consecutive stroke points. */
+    private static final float STEP = 8f;
+
+    /**
+     * Checks that a shared scan, fed with a growing stroke whose tail keeps
+     * changing, validates every Submove in the sequence exactly like the
+     * baseline SubmoveElement does.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void matchesBaselineSubmoveElements() {
+        Rectangle gameBounds = new Rectangle(0, 0, 640, 480);
+        SproutsGameState state = new SproutsInitialState(3, gameBounds);
+        Vertex origin = new PresetVertex(new Vector2(464, 240));
+        float glueRadius = 20;
+        List<Vector2> path =
+            densePath(
+                origin.position(),
+                new Vector2(150, 240),
+                new Vector2(150, 420),
+                new Vector2(248, 420),
+                new Vector2(248, 370)
+            );
+
+        SubmoveScan scan =
+            new SubmoveScan(origin, state, glueRadius, gameBounds);
+        int maxSubmoves = 0;
+        for (int n = 2; n <= path.size(); n++) {
+            List<Vector2> stroke = new ArrayList<Vector2>(path.subList(0, n));
+            for (int i = Math.max(1, n - 3); i < n; i++) {
+                stroke.set(i, stroke.get(i).cpy().add(0, n % 3 * .5f));
+            }
+            List<Object> expected =
+                sequence(
+                    new BaselineSubmoveElement(
+                        origin,
+                        new Polyline.WrappedList(stroke),
+                        state,
+                        glueRadius,
+                        gameBounds
+                    )
+                );
+            List<Object> actual =
+                sequence(
+                    new SubmoveElement(
+                        new Polyline.WrappedList(stroke),
+                        scan
+                    )
+                );
+            assertEquals("Stroke of " + n + " points", expected, actual);
+            maxSubmoves = Math.max(maxSubmoves, expected.size() / 3);
+        }
+        assertTrue("The stroke never crossed the cobweb", maxSubmoves > 1);
+    }
+
+    /**
+     * Checks that a shared scan, fed with the baseline approximation of a
+     * growing Move sample, validates every Submove in the sequence exactly
+     * like the baseline SubmoveElement does.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void matchesBaselineSubmoveElementsOnBaselineStroke() {
+        Rectangle gameBounds = new Rectangle(0, 0, 640, 480);
+        SproutsGameState state = new SproutsInitialState(3, gameBounds);
+        Vertex origin = new PresetVertex(new Vector2(464, 240));
+        float moveThickness = 10;
+        List<Vector2> sample =
+            sample(
+                densePath(
+                    origin.position(),
+                    new Vector2(150, 240),
+                    new Vector2(150, 420),
+                    new Vector2(248, 420),
+                    new Vector2(248, 370)
+                ),
+                2 * moveThickness
+            );
+
+        SubmoveScan scan =
+            new SubmoveScan(origin, state, 2 * moveThickness, gameBounds);
+        int maxSubmoves = 0;
+        for (int n = 2; n <= sample.size(); n++) {
+            List<Vector2> stroke =
+                baselineStroke(sample.subList(0, n), moveThickness);
+            List<Object> expected =
+                sequence(
+                    new BaselineSubmoveElement(
+                        origin,
+                        new Polyline.WrappedList(stroke),
+                        state,
+                        2 * moveThickness,
+                        gameBounds
+                    )
+                );
+            List<Object> actual =
+                sequence(
+                    new SubmoveElement(
+                        new Polyline.WrappedList(stroke),
+                        scan
+                    )
+                );
+            assertEquals("Sample of " + n + " points", expected, actual);
+            maxSubmoves = Math.max(maxSubmoves, expected.size() / 3);
+        }
+        assertTrue("The stroke never crossed the cobweb", maxSubmoves > 1);
+    }
+
+    /**
+     * Checks that a shared scan, fed with the growing approximation of a
+     * stroke, resumes after the head that it shares with the last scanned
+     * stroke and validates every Submove exactly like the baseline
+     * SubmoveElement does.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void matchesBaselineSubmoveElementsOnGrowingStroke() {
+        Rectangle gameBounds = new Rectangle(0, 0, 640, 480);
+        SproutsGameState state = new SproutsInitialState(3, gameBounds);
+        Vertex origin = new PresetVertex(new Vector2(464, 240));
+        float glueRadius = 20;
+        List<Vector2> path =
+            densePath(
+                origin.position(),
+                new Vector2(150, 240),
+                new Vector2(150, 420),
+                new Vector2(248, 420),
+                new Vector2(248, 370)
+            );
+        IncrementalStroke approximation =
+            new IncrementalStroke(
+                new IncrementalDouglasPeucker(2, 8),
+                new IncrementalBSplineSolver(2),
+                2.5f,
+                20
+            );
+
+        SubmoveScan scan =
+            new SubmoveScan(origin, state, glueRadius, gameBounds);
+        SampleBuffer buffer = new SampleBuffer(path.subList(0, 1));
+        int maxHead = 0;
+        for (int n = 2; n <= path.size(); n++) {
+            buffer = buffer.append(n - 1, path.get(n - 1));
+            GrowingPoints stroke = approximation.points(buffer, n);
+            if (stroke.size() < 2) {
+                continue;
+            }
+            List<Object> expected =
+                sequence(
+                    new BaselineSubmoveElement(
+                        origin,
+                        new Polyline.WrappedList(
+                            new ArrayList<Vector2>(stroke)
+                        ),
+                        state,
+                        glueRadius,
+                        gameBounds
+                    )
+                );
+            List<Object> actual =
+                sequence(
+                    new SubmoveElement(
+                        new Polyline.WrappedList(stroke),
+                        scan
+                    )
+                );
+            assertEquals("Stroke of " + n + " points", expected, actual);
+            maxHead = Math.max(maxHead, stroke.headSize());
+        }
+        assertTrue("The stroke never had a stable head", maxHead > 0);
+    }
+
+    /**
+     * Checks that the tooltip is reused while the stroke grows in the same
+     * face.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void reusesTooltipInSameFace() {
+        Rectangle gameBounds = new Rectangle(0, 0, 640, 480);
+        SproutsGameState state = new SproutsInitialState(3, gameBounds);
+        Vertex origin = new PresetVertex(new Vector2(464, 240));
+        List<Vector2> path =
+            densePath(origin.position(), new Vector2(464, 100));
+        SubmoveScan scan = new SubmoveScan(origin, state, 20, gameBounds);
+
+        scan.edge(path.subList(0, 3));
+        SproutsTooltip first = scan.tooltip();
+        scan.edge(path.subList(0, 6));
+        assertSame(first, scan.tooltip());
+        assertEquals(first.vertices(), scan.tooltip().vertices());
+    }
+
+    /**
+     * Checks that a Submove builds the Submove that follows it only once.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void reusesNextSubmove() {
+        Rectangle gameBounds = new Rectangle(0, 0, 640, 480);
+        SproutsGameState state = new SproutsInitialState(3, gameBounds);
+        Vertex origin = new PresetVertex(new Vector2(464, 240));
+        List<Vector2> path =
+            densePath(origin.position(), new Vector2(150, 240));
+        Submove head =
+            new SubmoveElement(
+                origin,
+                new Polyline.WrappedList(path),
+                state,
+                20,
+                gameBounds
+            );
+
+        assertTrue(head.hasNext());
+        Submove next = head.next();
+        assertSame(next, head.next());
+        assertSame(next.asEdge(), head.next().asEdge());
+    }
+
+    /**
+     * Describes every Submove in a sequence with its polyline points, tip
+     * color and validity.
+     *
+     * @param head the first Submove in the sequence
+     * @return a flat list of Submove descriptions
+     */
+    private static List<Object> sequence(final Submove head) {
+        List<Object> result = new ArrayList<Object>();
+        Submove submove = head;
+        while (true) {
+            result.add(submove.asEdge().polyline().points());
+            result.add(submove.asEdge().to().color());
+            result.add(submove.isValid());
+            if (!submove.hasNext()) {
+                return result;
+            }
+            submove = submove.next();
+        }
+    }
+
+    /**
+     * Approximates a Move sample the way MoveDrawing did before the stroke
+     * approximation became incremental: perpendicular distance
+     * simplification, B-spline control points and a fixed number of line
+     * segments per Bezier spline.
+     *
+     * @param sample the Move sample
+     * @param moveThickness the thickness of the Moves drawn
+     * @return the points of the stroke approximation
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    private static List<Vector2> baselineStroke(
+        final List<Vector2> sample,
+        final float moveThickness
+    ) {
+        return
+            new CurveApproximation(
+                new BezierCurve(
+                    new ArrayList<Vector2>(sample),
+                    3f * moveThickness
+                ),
+                5
+            ).points();
+    }
+
+    /**
+     * Samples {@code path} like MoveDrawing does: a point is only kept if it
+     * is more than {@code minDistance} away from the last kept point.
+     *
+     * @param path the drawn path
+     * @param minDistance the minimum distance between the sample points
+     * @return the sample points
+     */
+    private static List<Vector2> sample(
+        final List<Vector2> path,
+        final float minDistance
+    ) {
+        List<Vector2> result = new ArrayList<Vector2>();
+        result.add(path.get(0));
+        for (Vector2 p : path) {
+            if (p.dst(result.get(result.size() - 1)) > minDistance) {
+                result.add(p);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Interpolates straight line segments between consecutive
+     * {@code waypoints}, with points {@code STEP} apart.
+     *
+     * @param waypoints the path corners
+     * @return the interpolated path
+     */
+    private static List<Vector2> densePath(final Vector2... waypoints) {
+        List<Vector2> corners = Arrays.asList(waypoints);
+        List<Vector2> result = new ArrayList<Vector2>();
+        for (int i = 1; i < corners.size(); i++) {
+            Vector2 a = corners.get(i - 1);
+            Vector2 b = corners.get(i);
+            int steps = (int) Math.ceil(a.dst(b) / STEP);
+            for (int j = 0; j < steps; j++) {
+                result.add(a.cpy().lerp(b, (float) j / steps));
+            }
+        }
+        result.add(corners.get(corners.size() - 1));
+        return result;
+    }
+}
@@ -0,0 +1,2 @@
+/** Moves test package. */
+package com.github.glusk2.sprouts.core.moves;
@@ -0,0 +1,63 @@
+package com.github.glusk2.sprouts.core.snapshots;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.github.glusk2.sprouts.core.ToggleSwitch;
+import com.github.glusk2.sprouts.core.comb.CobwebPath;
+import com.github.glusk2.sprouts.core.comb.NearestSproutSearch;
+import com.github.glusk2.sprouts.core.comb.SproutsGameState;
+import com.github.glusk2.sprouts.core.comb.SproutsInitialState;
+import com.github.glusk2.sprouts.core.comb.Vertex;
+
+import org.junit.Test;
+
+/** A test class for MoveDrawing. */
+public final class MoveDrawingTest {
+    /**
+     * Checks that a short Move, drawn from one sprout to a sprout 5 move
+     * thicknesses away, is auto-completed in the second sprout.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void completesShortSproutToSproutMove() {
+        float moveThickness = 10;
+        Vector2 from = new Vector2(200, 200);
+        Vector2 to = new Vector2(200 + 5 * moveThickness, 200);
+        SproutsGameState state =
+            new SproutsInitialState(
+                () -> Arrays.asList(from.cpy(), to.cpy()),
+                new CobwebPath()
+            );
+        Vertex origin = new NearestSproutSearch(state, from).result();
+        Snapshot snapshot =
+            new MoveDrawing(
+                state,
+                moveThickness,
+                16,
+                origin,
+                new LinkedList<Vector2>(Arrays.asList(origin.position())),
+                new Rectangle(0, 0, 400, 400),
+                new ToggleSwitch(true),
+                new ToggleSwitch(true),
+                null
+            );
+        // a slight bend keeps the Move off the straight cobweb edge
+        for (int i = 1; i <= 100; i++) {
+            float t = i / 100f;
+            snapshot =
+                snapshot.touchDragged(
+                    from.cpy().lerp(to, t).add(
+                        0,
+                        4 * moveThickness * t * (1 - t)
+                    )
+                );
+        }
+        assertThat(snapshot.touchUp(to), instanceOf(SproutAdd.class));
+    }
+}
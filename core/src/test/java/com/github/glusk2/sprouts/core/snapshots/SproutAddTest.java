@@ -7,6 +7,7 @@ import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
 
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
@@ -18,6 +19,8 @@ import com.github.glusk2.sprouts.core.comb.Vertex;
 import com.github.glusk2.sprouts.core.geom.BezierCurve;
 import com.github.glusk2.sprouts.core.geom.CurveApproximation;
 import com.github.glusk2.sprouts.core.geom.Polyline;
+import com.github.glusk2.sprouts.core.moves.Move;
+import com.github.glusk2.sprouts.core.moves.Submove;
 import com.github.glusk2.sprouts.core.moves.SubmoveElement;
 import com.github.glusk2.sprouts.core.moves.SubmoveHead;
 import com.github.glusk2.sprouts.core.moves.SubmoveSequence;
@@ -100,4 +103,168 @@ public class SproutAddTest {
             not(hasItems(e1, e1.reversed()))
         );
     }
+
+    /**
+     * Checks that the Submoves of the Move are applied once, when the
+     * Snapshot is prepared, and that "touch up" reuses the result.
+     * <p>
+     * Applying the Submoves iterates the Move once. After that, "touch up"
+     * only iterates it once more, to find the middle sprout.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void appliesSubmovesOnceAcrossPreparedAndTouchUp() {
+        Vertex v1 = new PresetVertex(new Vector2(-50, 0));
+        Vertex v2 = new PresetVertex(new Vector2(50, 0));
+
+        SproutsEdge e1 = new SproutsEdge(
+            new Polyline.WrappedList(v1.position(), v2.position()),
+            v1.color(), v2.color()
+        );
+
+        float moveThickness = 10;
+        SproutsGameState stateBeforeMove =
+            () -> new HashSet<>(Arrays.asList(e1, e1.reversed()));
+        Rectangle gameBounds = new Rectangle(-100, -100, 1000, 1000);
+
+        CountingMove move =
+            new CountingMove(
+                new SubmoveSequence(
+                    new SubmoveHead(
+                        new SubmoveElement(
+                            v1,
+                            new CurveApproximation(
+                                new BezierCurve(
+                                    Arrays.asList(
+                                        v1.position(),
+                                        new Vector2(-20, 20),
+                                        new Vector2(0, 40),
+                                        new Vector2(20, 1),
+                                        new Vector2(0, -40),
+                                        new Vector2(-20, -20),
+                                        v1.position()
+                                    ),
+                                    3f * moveThickness
+                                ),
+                                5
+                            ),
+                            stateBeforeMove,
+                            moveThickness * 2f,
+                            gameBounds
+                        )
+                    )
+                )
+            );
+        Snapshot snapshot =
+            new SproutAdd(
+                stateBeforeMove,
+                move,
+                moveThickness,
+                16,
+                gameBounds,
+                new ToggleSwitch(true),
+                new ToggleSwitch(false),
+                null
+            ).prepared();
+        assertThat(move.iterations, is(1));
+
+        SproutsGameState nextState =
+            snapshot.touchUp(new Vector2(7, 0)).gameState();
+        nextState.edges();
+        nextState.edgeGrid();
+        assertThat(move.iterations, is(2));
+    }
+
+    /**
+     * Checks that "touch up" hands the next player turn to the next Snapshot
+     * instead of toggling the turn of {@code this} one, which may still be
+     * rendered on another thread.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void keepsPlayerTurnOfThisSnapshot() {
+        Vertex v1 = new PresetVertex(new Vector2(-50, 0));
+        Vertex v2 = new PresetVertex(new Vector2(50, 0));
+
+        SproutsEdge e1 = new SproutsEdge(
+            new Polyline.WrappedList(v1.position(), v2.position()),
+            v1.color(), v2.color()
+        );
+
+        float moveThickness = 10;
+        SproutsGameState stateBeforeMove =
+            () -> new HashSet<>(Arrays.asList(e1, e1.reversed()));
+        Rectangle gameBounds = new Rectangle(-100, -100, 1000, 1000);
+
+        ToggleSwitch playerTurn = new ToggleSwitch(false);
+        new SproutAdd(
+            stateBeforeMove,
+            new SubmoveSequence(
+                new SubmoveHead(
+                    new SubmoveElement(
+                        v1,
+                        new CurveApproximation(
+                            new BezierCurve(
+                                Arrays.asList(
+                                    v1.position(),
+                                    new Vector2(-20, 20),
+                                    new Vector2(0, 40),
+                                    new Vector2(20, 1),
+                                    new Vector2(0, -40),
+                                    new Vector2(-20, -20),
+                                    v1.position()
+                                ),
+                                3f * moveThickness
+                            ),
+                            5
+                        ),
+                        stateBeforeMove,
+                        moveThickness * 2f,
+                        gameBounds
+                    )
+                )
+            ),
+            moveThickness,
+            16,
+            gameBounds,
+            new ToggleSwitch(true),
+            playerTurn,
+            null
+        ).prepared().touchUp(new Vector2(7, 0));
+
+        assertThat(playerTurn.state(), is(false));
+    }
+
+    /** A Move that counts how many times it is iterated. */
+    private static final class CountingMove implements Move {
+        /** The counted Move. */
+        private final Move move;
+        /** The number of iterations so far. */
+        private int iterations;
+
+        /**
+         * Creates a new counting Move.
+         *
+         * @param move the counted Move
+         */
+        CountingMove(final Move move) {
+            this.move = move;
+        }
+
+        @Override
+        public Iterator<Submove> iterator() {
+            iterations++;
+            return move.iterator();
+        }
+
+        @Override
+        public boolean isCompleted() {
+            return move.isCompleted();
+        }
+
+        @Override
+        public boolean isValid() {
+            return move.isValid();
+        }
+    }
 }
@@ -0,0 +1,207 @@
+package com.github.glusk2.sprouts.core.snapshots;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.github.glusk2.sprouts.core.BoardCamera;
+import com.github.glusk2.sprouts.core.comb.SproutsGameState;
+import com.github.glusk2.sprouts.core.comb.SproutsStateRenderer;
+
+import org.junit.Test;
+
+/** A test class for TouchEventSnapshooter. */
+public final class TouchEventSnapshooterTest {
+    /**
+     * Checks that the validator applies the touch events off the calling
+     * thread, in order.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void updatesOnValidatorInOrder() {
+        AsyncExecutor validator = new AsyncExecutor(1, "test-validator");
+        TouchEventSnapshooter snapshooter =
+            new TouchEventSnapshooter(
+                new Trace(Collections.<Float>emptyList(), null),
+                new BoardCamera(new Rectangle(), 1),
+                validator
+            );
+        InputEvent event = new InputEvent();
+        event.setTarget(new Actor());
+        List<Float> expected = new ArrayList<Float>();
+        for (int i = 0; i < 100; i++) {
+            snapshooter.touchDragged(event, i, 0, 0);
+            expected.add((float) i);
+        }
+        validator.dispose();
+
+        Trace trace = (Trace) snapshooter.snapshot();
+        assertEquals(expected, trace.positions);
+        assertNotSame(Thread.currentThread(), trace.thread);
+    }
+
+    /**
+     * Checks that the validator publishes only prepared Snapshots, in the
+     * order of the touch events.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void publishesPreparedSnapshotsInOrder() {
+        AsyncExecutor validator = new AsyncExecutor(1, "test-validator");
+        TouchEventSnapshooter snapshooter =
+            new TouchEventSnapshooter(
+                new Trace(Collections.<Float>emptyList(), null),
+                new BoardCamera(new Rectangle(), 1),
+                validator
+            );
+        InputEvent event = new InputEvent();
+        event.setTarget(new Actor());
+        List<Float> expected = new ArrayList<Float>();
+        List<Trace> published = new ArrayList<Trace>();
+        for (int i = 0; i < 1000; i++) {
+            snapshooter.touchDragged(event, i, 0, 0);
+            expected.add((float) i);
+            published.add((Trace) snapshooter.snapshot());
+        }
+        validator.dispose();
+        published.add((Trace) snapshooter.snapshot());
+
+        int last = 0;
+        for (Trace trace : published) {
+            assertTrue(trace.isPrepared);
+            int size = trace.positions.size();
+            assertTrue(size >= last);
+            assertEquals(expected.subList(0, size), trace.positions);
+            last = size;
+        }
+        assertEquals(expected.size(), last);
+    }
+
+    /**
+     * Checks that a failure of the validator is rethrown by
+     * {@code snapshot()}.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void propagatesValidatorFailure() {
+        AsyncExecutor validator = new AsyncExecutor(1, "test-validator");
+        TouchEventSnapshooter snapshooter =
+            new TouchEventSnapshooter(
+                new Trace(Collections.<Float>emptyList(), null),
+                new BoardCamera(new Rectangle(), 1),
+                validator
+            );
+        InputEvent event = new InputEvent();
+        event.setTarget(new Actor());
+        for (int i = 0; i < 10; i++) {
+            snapshooter.touchDragged(event, i, 0, 0);
+        }
+        snapshooter.touchDragged(event, Trace.FAILURE, 0, 0);
+        snapshooter.touchDragged(event, 10, 0, 0);
+        validator.dispose();
+
+        try {
+            snapshooter.snapshot();
+            fail("The failure of the validator was not propagated.");
+        } catch (IllegalStateException e) {
+            assertSame(
+                IllegalArgumentException.class,
+                e.getCause().getClass()
+            );
+        }
+    }
+
+    /**
+     * A Snapshot that records the "touch dragged" positions.
+     * <p>
+     * Dragging to the x coordinate {@code FAILURE} throws an
+     * {@code IllegalArgumentException}.
+     */
+    private static final class Trace implements Snapshot {
+        /** The x coordinate of the position that can not be recorded. */
+        private static final float FAILURE = -1;
+
+        /** The x coordinates of the recorded positions. */
+        private final List<Float> positions;
+        /** The thread that recorded the last position. */
+        private final Thread thread;
+        /** Whether this trace has been prepared. */
+        private final boolean isPrepared;
+
+        /**
+         * Creates a new trace.
+         *
+         * @param positions the x coordinates of the recorded positions
+         * @param thread the thread that recorded the last position
+         */
+        Trace(final List<Float> positions, final Thread thread) {
+            this(positions, thread, false);
+        }
+
+        /**
+         * Creates a new trace.
+         *
+         * @param positions the x coordinates of the recorded positions
+         * @param thread the thread that recorded the last position
+         * @param isPrepared whether the trace has been prepared
+         */
+        Trace(
+            final List<Float> positions,
+            final Thread thread,
+            final boolean isPrepared
+        ) {
+            this.positions = positions;
+            this.thread = thread;
+            this.isPrepared = isPrepared;
+        }
+
+        @Override
+        public Snapshot touchDown(final Vector2 position) {
+            return this;
+        }
+
+        @Override
+        public Snapshot touchUp(final Vector2 position) {
+            return this;
+        }
+
+        @Override
+        public Snapshot touchDragged(final Vector2 position) {
+            if (position.x == FAILURE) {
+                throw new IllegalArgumentException("Can not record FAILURE.");
+            }
+            List<Float> next = new ArrayList<Float>(positions);
+            next.add(position.x);
+            return new Trace(next, Thread.currentThread());
+        }
+
+        @Override
+        public void render(
+            final ShapeRenderer renderer,
+            final SproutsStateRenderer board
+        ) {
+        }
+
+        @Override
+        public SproutsGameState gameState() {
+            return Collections::emptySet;
+        }
+
+        @Override
+        public Snapshot prepared() {
+            return new Trace(positions, thread, true);
+        }
+    }
+}
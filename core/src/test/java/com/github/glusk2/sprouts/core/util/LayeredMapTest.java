@@ -0,0 +1,57 @@
+package com.github.glusk2.sprouts.core.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/** LayeredMap test class. */
+public final class LayeredMapTest {
+    /**
+     * Checks that every version of the map agrees with a copied hash map,
+     * also after newer versions have been derived from it.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void agreesWithCopiedHashMaps() {
+        Random random = new Random(3);
+        List<LayeredMap<Integer, Integer>> versions =
+            new ArrayList<LayeredMap<Integer, Integer>>();
+        List<Map<Integer, Integer>> expected =
+            new ArrayList<Map<Integer, Integer>>();
+        versions.add(new LayeredMap<Integer, Integer>());
+        expected.add(new HashMap<Integer, Integer>());
+        for (int i = 0; i < 300; i++) {
+            int from = random.nextInt(versions.size());
+            Map<Integer, Integer> changes = new HashMap<Integer, Integer>();
+            Map<Integer, Integer> next =
+                new HashMap<Integer, Integer>(expected.get(from));
+            int changeCount = 1 + random.nextInt(20);
+            for (int j = 0; j < changeCount; j++) {
+                int key = random.nextInt(200);
+                if (random.nextInt(3) == 0) {
+                    changes.put(key, null);
+                    next.remove(key);
+                } else {
+                    changes.put(key, i);
+                    next.put(key, i);
+                }
+            }
+            versions.add(versions.get(from).with(changes));
+            expected.add(next);
+        }
+        for (int v = 0; v < versions.size(); v++) {
+            for (int key = 0; key < 200; key++) {
+                assertEquals(
+                    expected.get(v).get(key),
+                    versions.get(v).get(key)
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,2 @@
+/** Core utilities test package. */
+package com.github.glusk2.sprouts.core.util;
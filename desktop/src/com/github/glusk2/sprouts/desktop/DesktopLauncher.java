@@ -1,17 +1,40 @@
 package com.github.glusk2.sprouts.desktop;
 
+import java.util.Locale;
+
 import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
+import com.github.glusk2.sprouts.core.BoardLayout;
+import com.github.glusk2.sprouts.core.BoardRendering;
 import com.github.glusk2.sprouts.core.Sprouts;
 
 /** A desktop application main entry point. */
 public final class DesktopLauncher {
+    /**
+     * The program argument prefix that selects the way to render the
+     * committed game board, e.g. {@code --board=sdf}.
+     */
+    private static final String BOARD_OPTION = "--board=";
+    /**
+     * The program argument prefix that selects the way to lay out the
+     * sprouts of a new game, e.g. {@code --layout=poisson_disc}.
+     */
+    private static final String LAYOUT_OPTION = "--layout=";
+
     /** Private constructor prevents instantiation. */
     private DesktopLauncher() {
     }
 
     /**
      * Desktop application main entry point.
+     * <p>
+     * The committed game board is rendered with a {@code ShapeRenderer},
+     * unless a {@code --board=shapes|mesh|sdf} argument selects another
+     * {@link BoardRendering}. The sprouts of a new game are laid out
+     * on a circle, unless a
+     * {@code --layout=circle|grid|jittered|poisson_disc} argument selects
+     * another {@link BoardLayout} (a large-board mode). Unknown values are
+     * reported and ignored.
      *
      * @param arg program arguments
      */
@@ -20,12 +43,60 @@ public final class DesktopLauncher {
             new LwjglApplicationConfiguration();
         config.useHDPI = true;
         config.samples = 2;
+        BoardRendering boardRendering = BoardRendering.SHAPES;
+        BoardLayout boardLayout = BoardLayout.CIRCLE;
+        for (String option : arg) {
+            if (option.startsWith(BOARD_OPTION)) {
+                boardRendering =
+                    option(
+                        BoardRendering.class,
+                        option.substring(BOARD_OPTION.length()),
+                        boardRendering
+                    );
+            }
+            if (option.startsWith(LAYOUT_OPTION)) {
+                boardLayout =
+                    option(
+                        BoardLayout.class,
+                        option.substring(LAYOUT_OPTION.length()),
+                        boardLayout
+                    );
+            }
+        }
         new LwjglApplication(
             new Sprouts(
                 LwjglApplicationConfiguration.getDesktopDisplayMode().width,
-                LwjglApplicationConfiguration.getDesktopDisplayMode().height
+                LwjglApplicationConfiguration.getDesktopDisplayMode().height,
+                boardRendering,
+                boardLayout
             ),
             config
         );
     }
+
+    /**
+     * Returns the constant of {@code type} named by the option
+     * {@code value}, ignoring case.
+     *
+     * @param type the type of the constant
+     * @param value the option value
+     * @param fallback the constant to return if {@code value} is unknown
+     * @param <E> the type of the constant
+     * @return the named constant, or {@code fallback}
+     */
+    private static <E extends Enum<E>> E option(
+        final Class<E> type,
+        final String value,
+        final E fallback
+    ) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println(
+                "Unknown " + type.getSimpleName() + " '" + value
+              + "', using " + fallback
+            );
+            return fallback;
+        }
+    }
 }
@@ -5,6 +5,8 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.backends.gwt.GwtApplication;
 import com.badlogic.gdx.backends.gwt.GwtApplicationConfiguration;
 import com.badlogic.gdx.backends.gwt.preloader.Preloader;
+import com.github.glusk2.sprouts.core.BoardLayout;
+import com.github.glusk2.sprouts.core.BoardRendering;
 import com.github.glusk2.sprouts.core.Sprouts;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.event.logical.shared.ResizeEvent;
@@ -26,6 +28,16 @@ public final class HtmlLauncher extends GwtApplication {
     // problems
     /** The padding of the browser window. */
     private static final int PADDING = 0;
+    /**
+     * The URL parameter that selects the way to render the committed game
+     * board, e.g. {@code ?board=sdf}.
+     */
+    private static final String BOARD_PARAMETER = "board";
+    /**
+     * The URL parameter that selects the way to lay out the sprouts of a new
+     * game, e.g. {@code ?layout=grid}.
+     */
+    private static final String LAYOUT_PARAMETER = "layout";
 
     @Override
     public GwtApplicationConfiguration getConfig() {
@@ -66,9 +78,54 @@ public final class HtmlLauncher extends GwtApplication {
 
     @Override
     public ApplicationListener createApplicationListener() {
+        BoardRendering boardRendering =
+            parameter(
+                BOARD_PARAMETER,
+                BoardRendering.values(),
+                BoardRendering.SHAPES
+            );
+        BoardLayout boardLayout =
+            parameter(
+                LAYOUT_PARAMETER,
+                BoardLayout.values(),
+                BoardLayout.CIRCLE
+            );
         return new Sprouts(
             Window.getClientWidth(),
-            Window.getClientHeight()
+            Window.getClientHeight(),
+            boardRendering,
+            boardLayout
         );
     }
+
+    /**
+     * Returns the constant selected by the URL parameter {@code name}.
+     * <p>
+     * Constant names are matched case-insensitively, without a locale (GWT
+     * does not emulate {@code java.util.Locale}). A missing or unknown value
+     * selects {@code fallback}.
+     *
+     * @param name the name of the URL parameter
+     * @param constants the constants to select from
+     * @param fallback the constant to select by default
+     * @param <E> the type of the constants
+     * @return the selected constant
+     */
+    private static <E extends Enum<E>> E parameter(
+        final String name,
+        final E[] constants,
+        final E fallback
+    ) {
+        String value = Window.Location.getParameter(name);
+        if (value == null) {
+            return fallback;
+        }
+        for (E constant : constants) {
+            if (constant.name().equalsIgnoreCase(value)) {
+                return constant;
+            }
+        }
+        GWT.log("Unknown " + name + " '" + value + "', using " + fallback);
+        return fallback;
+    }
 }